@@ -0,0 +1,64 @@
+import org.example.benchmark.Cenario;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+class CenarioPareamento implements Cenario {
+    private static final LocalDateTime INICIO = LocalDateTime.of(2030, 1, 1, 8, 0);
+    private static final int TECNOLOGIAS = 200;
+
+    private final List<Mentor> mentores = new ArrayList<>();
+    private final List<Mentorado> mentorados = new ArrayList<>();
+    private ForkJoinPool pool;
+    private MotorPareamento motor;
+
+    @Override
+    public void preparar(int escala) {
+        preparar(escala, 1);
+    }
+
+    @Override
+    public void preparar(int escala, int paralelismo) {
+        Random aleatorio = new Random(7);
+        AreaConhecimento[] areas = {new AreaConhecimento(1L, "Backend"), new AreaConhecimento(2L, "Frontend")};
+        Tecnologia[] catalogo = new Tecnologia[TECNOLOGIAS];
+        for (int t = 0; t < TECNOLOGIAS; t++) {
+            catalogo[t] = new Tecnologia((long) t, "tecnologia-" + t + ";", areas[t % areas.length]);
+        }
+        CatalogoTecnologias compartilhado = new CatalogoTecnologias();
+        for (int m = 0; m < escala; m++) {
+            Mentor mentor = new Mentor((long) m, "Mentor " + m, "mentor" + m + "@email.com", "senha", "bio", new Agenda((long) m), compartilhado);
+            for (int h = 1 + aleatorio.nextInt(8); h > 0; h--) {
+                mentor.getAgenda().adicionarHorario(INICIO.plusHours(h));
+            }
+            for (int t = 0; t < 6; t++) {
+                mentor.adicionarTecnologia(catalogo[aleatorio.nextInt(TECNOLOGIAS)]);
+            }
+            mentores.add(mentor);
+        }
+        for (int i = 0; i < escala; i++) {
+            Mentorado mentorado = new Mentorado((long) i, "Mentorado " + i, "mentorado" + i + "@email.com", "senha");
+            PlanoEstudo plano = new PlanoEstudo((long) i);
+            for (int meta = 0; meta < 3; meta++) {
+                plano.adicionarMeta(new Meta((long) i * 3 + meta, "Estudar " + catalogo[aleatorio.nextInt(TECNOLOGIAS)].getNome(), "Pendente", INICIO.plusDays(30)));
+            }
+            mentorado.setPlanoEstudo(plano);
+            mentorados.add(mentorado);
+        }
+        pool = new ForkJoinPool(paralelismo);
+        motor = new MotorPareamento(pool, MotorPareamento.CANDIDATOS_PADRAO);
+    }
+
+    @Override
+    public Object executar() {
+        return motor.parear(mentores, mentorados, 2);
+    }
+
+    @Override
+    public void encerrar() {
+        pool.shutdown();
+    }
+}
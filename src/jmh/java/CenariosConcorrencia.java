@@ -0,0 +1,174 @@
+import org.example.benchmark.Cenario;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+abstract class CenarioAprovacaoConcorrente implements Cenario {
+    private static final LocalDateTime AGORA = LocalDateTime.of(2030, 1, 1, 8, 0);
+    private static final int MENTORES = 256;
+    private static final int SESSOES_POR_MENTOR = 64;
+    private static final int OPERACOES_POR_LOTE = 16_384;
+
+    private Mentor[] mentores;
+    private SessaoMentoria[][] sessoes;
+    private TravasMentores travas;
+    private ExecutorService executor;
+    private List<Callable<Integer>> tarefas;
+
+    abstract int listras();
+
+    @Override
+    public void preparar(int threads) {
+        Eventos.setSink(SinkEventosNulo.INSTANCIA);
+        travas = new TravasMentores(listras());
+        mentores = new Mentor[MENTORES];
+        sessoes = new SessaoMentoria[MENTORES][SESSOES_POR_MENTOR];
+        for (int m = 0; m < MENTORES; m++) {
+            Mentor mentor = new Mentor(m + 1L, "Mentor " + m, "mentor" + m + "@email.com", "senha", "bio", new Agenda(m + 1L));
+            mentor.setRelogio(new RelogioAjustavel(AGORA));
+            for (int i = 0; i < SESSOES_POR_MENTOR; i++) {
+                LocalDateTime horario = AGORA.plusDays(2).plusHours(i);
+                mentor.getAgenda().adicionarHorario(horario);
+                Mentorado mentorado = new Mentorado(1_000_000L + m * SESSOES_POR_MENTOR + i, "Ana", "ana@email.com", "senha");
+                sessoes[m][i] = new SessaoMentoria(2_000_000L + m * SESSOES_POR_MENTOR + i, mentor, mentorado, horario);
+                mentor.adicionarSessao(sessoes[m][i]);
+            }
+            mentores[m] = mentor;
+        }
+        executor = Executors.newFixedThreadPool(threads, tarefa -> {
+            Thread thread = new Thread(tarefa, "benchmark-aprovacao");
+            thread.setDaemon(true);
+            return thread;
+        });
+        tarefas = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            tarefas.add(() -> aprovarLote(OPERACOES_POR_LOTE / threads));
+        }
+    }
+
+    private int aprovarLote(int operacoes) {
+        ThreadLocalRandom aleatorio = ThreadLocalRandom.current();
+        int aprovadas = 0;
+        for (int n = 0; n < operacoes; n++) {
+            Mentor mentor = mentores[aleatorio.nextInt(MENTORES)];
+            SessaoMentoria sessao = sessoes[(int) (mentor.getId() - 1)][aleatorio.nextInt(SESSOES_POR_MENTOR)];
+            aprovadas += travas.comTrava(mentor, () -> {
+                String resultado = mentor.gerenciarDisponibilidadeEAprovarSessao(sessao.getDataHora(), sessao);
+                if (sessao.getEstado() == StatusSessao.PENDENTE) {
+                    return 0;
+                }
+                sessao.setEstado(StatusSessao.PENDENTE);
+                mentor.getAgenda().liberarReserva(sessao);
+                return resultado.isEmpty() ? 0 : 1;
+            });
+        }
+        return aprovadas;
+    }
+
+    @Override
+    public Object executar() {
+        try {
+            int aprovadas = 0;
+            for (Future<Integer> parcial : executor.invokeAll(tarefas)) {
+                aprovadas += parcial.get();
+            }
+            return aprovadas;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @Override
+    public void encerrar() {
+        executor.shutdownNow();
+    }
+}
+
+class CenarioAprovacaoTravaGlobal extends CenarioAprovacaoConcorrente {
+    @Override
+    int listras() {
+        return 1;
+    }
+}
+
+class CenarioAprovacaoTravasListradas extends CenarioAprovacaoConcorrente {
+    @Override
+    int listras() {
+        return TravasMentores.LISTRAS_PADRAO;
+    }
+}
+
+abstract class CenarioLoginConcorrente implements Cenario {
+    private static final int ITERACOES = 10_000;
+
+    private RelogioGrosso relogio;
+    private DiretorioUsuarios diretorio;
+    private String[] emails;
+    private String[] senhas;
+
+    abstract Duration validadeCache();
+
+    @Override
+    public void preparar(int usuarios) {
+        relogio = new RelogioGrosso(Relogio.sistema(), Duration.ofMillis(10));
+        diretorio = new DiretorioUsuarios(ITERACOES, validadeCache(), relogio);
+        emails = new String[usuarios];
+        senhas = new String[usuarios];
+        for (int i = 0; i < usuarios; i++) {
+            emails[i] = "Usuario" + i + "@Email.com";
+            senhas[i] = "senha-" + i;
+            diretorio.cadastrar(new Mentorado(i + 1L, "Usuario " + i, emails[i], senhas[i]));
+            diretorio.autenticar(emails[i], senhas[i]);
+        }
+    }
+
+    @Override
+    public Object executar() {
+        int i = ThreadLocalRandom.current().nextInt(emails.length);
+        return diretorio.autenticar(emails[i], senhas[i]);
+    }
+
+    @Override
+    public void encerrar() {
+        relogio.close();
+    }
+}
+
+class CenarioLoginComCache extends CenarioLoginConcorrente {
+    @Override
+    Duration validadeCache() {
+        return DiretorioUsuarios.VALIDADE_CACHE_PADRAO;
+    }
+}
+
+class CenarioLoginSemCache extends CenarioLoginConcorrente {
+    @Override
+    Duration validadeCache() {
+        return Duration.ZERO;
+    }
+}
+
+class CenarioGeradorIds implements Cenario {
+    private GeradorIds gerador;
+
+    @Override
+    public void preparar(int no) {
+        gerador = new GeradorIds(no);
+    }
+
+    @Override
+    public Object executar() {
+        return gerador.proximoId();
+    }
+}
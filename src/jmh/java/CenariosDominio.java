@@ -0,0 +1,243 @@
+import org.example.benchmark.Cenario;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+
+class CenarioAprovacao implements Cenario {
+    private static final LocalDateTime AGORA = LocalDateTime.of(2030, 1, 1, 8, 0);
+    private static final String[] NOMES = {"Ana", "Bruno", "Carla"};
+
+    private Mentor mentor;
+    private LocalDateTime[] horarios;
+    private SessaoMentoria[] sessoes;
+    private int proxima;
+
+    @Override
+    public void preparar(int escala) {
+        Eventos.setSink(SinkEventosNulo.INSTANCIA);
+        Agenda agenda = new Agenda(1L);
+        mentor = new Mentor(1L, "Carlos", "carlos@email.com", "senha123", "Mentor Java", agenda);
+        mentor.setRelogio(new RelogioAjustavel(AGORA));
+        horarios = new LocalDateTime[escala];
+        sessoes = new SessaoMentoria[escala];
+        for (int i = 0; i < escala; i++) {
+            horarios[i] = AGORA.plusDays(2).plusMinutes(30L * i);
+            agenda.adicionarHorario(horarios[i]);
+            Mentorado mentorado = new Mentorado(1_000L + i, NOMES[i % NOMES.length], "mentorado" + i + "@email.com", "senha");
+            sessoes[i] = new SessaoMentoria(100_000L + i, mentor, mentorado, horarios[i]);
+            mentor.adicionarSessao(sessoes[i]);
+        }
+    }
+
+    @Override
+    public Object executar() {
+        int i = proxima;
+        proxima = i + 1 == sessoes.length ? 0 : i + 1;
+        String resultado = mentor.gerenciarDisponibilidadeEAprovarSessao(horarios[i], sessoes[i]);
+        sessoes[i].setEstado(StatusSessao.PENDENTE);
+        mentor.getAgenda().liberarReserva(sessoes[i]);
+        return resultado;
+    }
+}
+
+class CenarioAgenda implements Cenario {
+    private static final LocalDateTime INICIO = LocalDateTime.of(2030, 1, 1, 8, 0);
+
+    private Agenda agenda;
+    private int escala;
+    private int proximo;
+
+    @Override
+    public void preparar(int escala) {
+        this.escala = escala;
+        agenda = new Agenda(1L);
+        for (int i = 0; i < escala; i++) {
+            agenda.adicionarHorario(INICIO.plusHours(i));
+        }
+    }
+
+    @Override
+    public Object executar() {
+        int i = proximo;
+        proximo = i + 1 == escala ? 0 : i + 1;
+        LocalDateTime horario = INICIO.plusHours(i).plusMinutes(30);
+        agenda.adicionarHorario(horario);
+        agenda.removerHorario(horario);
+        return agenda;
+    }
+}
+
+class CenarioFeedback implements Cenario {
+    private static final LocalDateTime INICIO = LocalDateTime.of(2030, 1, 1, 8, 0);
+
+    private Mentor mentor;
+    private Mentorado[] mentorados;
+    private int proximo;
+
+    @Override
+    public void preparar(int escala) {
+        Eventos.setSink(SinkEventosNulo.INSTANCIA);
+        mentor = new Mentor(1L, "Carlos", "carlos@email.com", "senha123", "Mentor Java", new Agenda(1L));
+        mentorados = new Mentorado[escala];
+        for (int i = 0; i < escala; i++) {
+            mentorados[i] = new Mentorado(1_000L + i, "Mentorado " + i, "mentorado" + i + "@email.com", "senha");
+        }
+    }
+
+    @Override
+    public Object executar() {
+        int i = proximo;
+        proximo = i + 1 == mentorados.length ? 0 : i + 1;
+        SessaoMentoria sessao = new SessaoMentoria(mentor, mentorados[i], INICIO);
+        sessao.setEstado(StatusSessao.FINALIZADA);
+        try {
+            sessao.adicionarFeedback(mentorados[i], 4, "Sessão produtiva");
+            sessao.adicionarFeedback(mentor, 5, "Mentorado bem preparado");
+        } catch (FeedbackException e) {
+            throw new IllegalStateException(e);
+        }
+        return sessao;
+    }
+}
+
+class CenarioMediaAvaliacoes implements Cenario {
+    private static final LocalDateTime INICIO = LocalDateTime.of(2030, 1, 1, 8, 0);
+
+    private Mentor mentor;
+
+    @Override
+    public void preparar(int escala) {
+        Eventos.setSink(SinkEventosNulo.INSTANCIA);
+        mentor = new Mentor(1L, "Carlos", "carlos@email.com", "senha123", "Mentor Java", new Agenda(1L));
+        for (int i = 0; i < escala; i++) {
+            Mentorado mentorado = new Mentorado(1_000L + i, "Mentorado " + i, "mentorado" + i + "@email.com", "senha");
+            SessaoMentoria sessao = new SessaoMentoria(10_000L + i, mentor, mentorado, INICIO.plusDays(i % 120));
+            sessao.setEstado(StatusSessao.FINALIZADA);
+            try {
+                sessao.adicionarFeedback(mentorado, 2 + i % 4, "Sessão produtiva");
+            } catch (FeedbackException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    @Override
+    public Object executar() {
+        return mentor.getAvaliacoes().getMedia();
+    }
+}
+
+class CenarioRanking implements Cenario {
+    private static final LocalDateTime INICIO = LocalDateTime.of(2030, 1, 1, 8, 0);
+
+    private final RankingMentores ranking = new RankingMentores();
+    private AreaConhecimento backend;
+    private Mentor[] mentores;
+    private int proximo;
+
+    @Override
+    public void preparar(int escala) {
+        backend = new AreaConhecimento(1L, "Backend");
+        AreaConhecimento frontend = new AreaConhecimento(2L, "Frontend");
+        Tecnologia java = new Tecnologia(1L, "Java", backend);
+        Tecnologia react = new Tecnologia(2L, "React", frontend);
+        CatalogoTecnologias catalogo = new CatalogoTecnologias();
+        mentores = new Mentor[escala];
+        for (int i = 0; i < escala; i++) {
+            mentores[i] = new Mentor(i + 1L, "Mentor " + i, "mentor" + i + "@email.com", "senha", "bio", new Agenda(i + 1L), catalogo);
+            mentores[i].adicionarTecnologia(i % 2 == 0 ? java : react);
+            mentores[i].registrarAvaliacao(1 + i % 5, INICIO);
+            ranking.registrar(mentores[i]);
+        }
+    }
+
+    @Override
+    public Object executar() {
+        int i = proximo;
+        proximo = i + 1 == mentores.length ? 0 : i + 1;
+        mentores[i].registrarAvaliacao(i % 6, INICIO);
+        return ranking.topPorArea(backend, 10);
+    }
+}
+
+class CenarioProgresso implements Cenario {
+    private static final LocalDateTime PRAZO = LocalDateTime.of(2030, 6, 1, 0, 0);
+
+    private PlanoEstudo plano;
+    private Meta[] metas;
+    private int proxima;
+
+    @Override
+    public void preparar(int escala) {
+        plano = new PlanoEstudo(1L);
+        metas = new Meta[escala];
+        for (int i = 0; i < escala; i++) {
+            metas[i] = new Meta((long) i, "Meta " + i, i % 2 == 0 ? "Concluída" : "Pendente", PRAZO);
+            plano.adicionarMeta(metas[i]);
+        }
+    }
+
+    @Override
+    public Object executar() {
+        int i = proxima;
+        proxima = i + 1 == metas.length ? 0 : i + 1;
+        metas[i].atualizarStatus("Concluída".equals(metas[i].getStatus()) ? "Pendente" : "Concluída");
+        return plano.avaliarProgresso();
+    }
+}
+
+class CenarioAreasConhecimento implements Cenario {
+    private Mentor mentor;
+
+    @Override
+    public void preparar(int escala) {
+        mentor = new Mentor(1L, "Carlos", "carlos@email.com", "senha123", "Mentor Java", new Agenda(1L));
+        AreaConhecimento[] areas = new AreaConhecimento[Math.max(1, escala / 4)];
+        for (int i = 0; i < areas.length; i++) {
+            areas[i] = new AreaConhecimento((long) i, "Área " + i);
+        }
+        for (int i = 0; i < escala; i++) {
+            mentor.adicionarTecnologia(new Tecnologia((long) i, "Tecnologia " + i, areas[i % areas.length]));
+        }
+    }
+
+    @Override
+    public Object executar() {
+        int visitadas = 0;
+        for (AreaConhecimento area : mentor.getAreasConhecimento()) {
+            if (area != null) {
+                visitadas++;
+            }
+        }
+        return visitadas;
+    }
+}
+
+class CenarioCodec implements Cenario {
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(64 * 1024);
+    private EstadoDominio estado;
+    private SessaoMentoria sessao;
+    private Mensagem mensagem;
+
+    @Override
+    public void preparar(int escala) {
+        Mentor mentor = new Mentor(1L, "Carlos", "carlos@email.com", "senha123", "Mentor Java", new Agenda(1L));
+        Mentorado ana = new Mentorado(2L, "Ana", "ana@email.com", "senha456");
+        estado = new EstadoDominio();
+        estado.adicionarMentor(mentor);
+        estado.adicionarMentorado(ana);
+        LocalDateTime inicio = LocalDateTime.of(2030, 1, 1, 8, 0);
+        sessao = new SessaoMentoria(40L, mentor, ana, inicio);
+        mensagem = new Mensagem(60L, ana, mentor, "á".repeat(escala), inicio.plusHours(1));
+    }
+
+    @Override
+    public Object executar() {
+        buffer.clear();
+        CodecBinario.escreverSessao(buffer, sessao);
+        CodecBinario.escreverMensagem(buffer, mensagem);
+        buffer.flip();
+        CodecBinario.lerSessao(buffer, estado);
+        return CodecBinario.lerMensagem(buffer, estado);
+    }
+}
@@ -0,0 +1,91 @@
+import org.example.benchmark.Cenario;
+
+import java.lang.management.ManagementFactory;
+import java.lang.ref.Reference;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Heap retido por mentor só por causa das tecnologias, medido como a diferença de heap usado depois de um GC
+ * entre os mesmos mentores com e sem tecnologias. Cada mentor recebe instâncias novas de {@link Tecnologia} e
+ * {@link AreaConhecimento}, como acontece ao carregar dados de fora; todos compartilham um só catálogo, injetado
+ * ou, em {@link CenarioPegadaCatalogoPadrao}, o padrão usado por quem cria o mentor sem catálogo.
+ */
+abstract class CenarioPegadaTecnologias implements Cenario {
+    static final int TECNOLOGIAS_POR_MENTOR = 6;
+    static final int CATALOGO = 200;
+
+    private int mentores;
+
+    abstract Object guardar(Mentor[] mentores);
+
+    @Override
+    public void preparar(int escala) {
+        mentores = escala;
+    }
+
+    @Override
+    public Object executar() {
+        CatalogoTecnologias catalogo = new CatalogoTecnologias();
+        Mentor[] lista = new Mentor[mentores];
+        for (int m = 0; m < mentores; m++) {
+            lista[m] = novoMentor(m, catalogo);
+        }
+        long antes = heapUsado();
+        Object retido = guardar(lista);
+        long depois = heapUsado();
+        Reference.reachabilityFence(lista);
+        Reference.reachabilityFence(retido);
+        return (depois - antes) / mentores;
+    }
+
+    Mentor novoMentor(int m, CatalogoTecnologias catalogo) {
+        return new Mentor(m + 1L, "Mentor " + m, "mentor" + m + "@email.com", "senha", "bio", new Agenda(m + 1L), catalogo);
+    }
+
+    static Tecnologia carregada(int mentor, int posicao) {
+        int id = (mentor * 7 + posicao * 31) % CATALOGO;
+        return new Tecnologia((long) id, new String("Tecnologia " + id), new AreaConhecimento((long) (id % 8), new String("Área " + id % 8)));
+    }
+
+    private static long heapUsado() {
+        for (int i = 0; i < 4; i++) {
+            System.gc();
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+}
+
+class CenarioPegadaCatalogo extends CenarioPegadaTecnologias {
+    @Override
+    Object guardar(Mentor[] mentores) {
+        for (int m = 0; m < mentores.length; m++) {
+            for (int t = 0; t < TECNOLOGIAS_POR_MENTOR; t++) {
+                mentores[m].adicionarTecnologia(carregada(m, t));
+            }
+        }
+        return null;
+    }
+}
+
+class CenarioPegadaCatalogoPadrao extends CenarioPegadaCatalogo {
+    @Override
+    Mentor novoMentor(int m, CatalogoTecnologias catalogo) {
+        return new Mentor(m + 1L, "Mentor " + m, "mentor" + m + "@email.com", "senha", "bio", new Agenda(m + 1L));
+    }
+}
+
+class CenarioPegadaListasDuplicadas extends CenarioPegadaTecnologias {
+    @Override
+    Object guardar(Mentor[] mentores) {
+        List<List<Tecnologia>> listas = new ArrayList<>(mentores.length);
+        for (int m = 0; m < mentores.length; m++) {
+            List<Tecnologia> tecnologias = new ArrayList<>();
+            for (int t = 0; t < TECNOLOGIAS_POR_MENTOR; t++) {
+                tecnologias.add(carregada(m, t));
+            }
+            listas.add(tecnologias);
+        }
+        return listas;
+    }
+}
@@ -0,0 +1,36 @@
+package org.example.benchmark;
+
+import java.lang.reflect.Constructor;
+
+/**
+ * Cenário de benchmark implementado no pacote padrão, onde vivem as classes do domínio. Os benchmarks deste
+ * pacote só o enxergam por esta interface, já que o JMH não gera código para classes no pacote padrão.
+ */
+public interface Cenario {
+    void preparar(int escala);
+
+    default void preparar(int escala, int paralelismo) {
+        preparar(escala);
+    }
+
+    Object executar();
+
+    default void encerrar() {
+    }
+
+    static Cenario criar(String nome, int escala) {
+        return criar(nome, escala, 1);
+    }
+
+    static Cenario criar(String nome, int escala, int paralelismo) {
+        try {
+            Constructor<?> construtor = Class.forName(nome).getDeclaredConstructor();
+            construtor.setAccessible(true);
+            Cenario cenario = (Cenario) construtor.newInstance();
+            cenario.preparar(escala, paralelismo);
+            return cenario;
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Não foi possível criar o cenário " + nome + ".", e);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package org.example.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lote fixo de aprovações espalhado por 256 mentores e dividido entre {@code threads} trabalhadores: com a
+ * trava global o tempo do lote não cai com mais núcleos; com as travas listradas deve cair até a contenção
+ * ficar restrita a mentores da mesma listra.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConcorrenciaMentoresBenchmark {
+    @Param({"TravaGlobal", "TravasListradas"})
+    public String estrategia;
+
+    @Param({"1", "2", "4", "8"})
+    public int threads;
+
+    private Cenario cenario;
+
+    @Setup
+    public void preparar() {
+        cenario = Cenario.criar("CenarioAprovacao" + estrategia, threads);
+    }
+
+    @TearDown
+    public void encerrar() {
+        cenario.encerrar();
+    }
+
+    @Benchmark
+    public Object aprovarLote() {
+        return cenario.executar();
+    }
+}
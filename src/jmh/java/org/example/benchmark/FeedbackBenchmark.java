@@ -0,0 +1,45 @@
+package org.example.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FeedbackBenchmark {
+    @Param({"1", "64", "4096"})
+    public int escala;
+
+    private Cenario cenario;
+    private Cenario media;
+
+    @Setup
+    public void preparar() {
+        cenario = Cenario.criar("CenarioFeedback", escala);
+        media = Cenario.criar("CenarioMediaAvaliacoes", escala);
+    }
+
+    @Benchmark
+    public Object adicionarFeedback() {
+        return cenario.executar();
+    }
+
+    @Benchmark
+    public Object mediaMentor() {
+        return media.executar();
+    }
+}
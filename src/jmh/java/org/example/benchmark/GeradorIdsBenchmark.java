@@ -0,0 +1,60 @@
+package org.example.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Vazão de ids de um único gerador compartilhado por 1, 2, 4 e 8 threads. O JMH não aceita {@code @Threads}
+ * como parâmetro, por isso cada contagem é um método. O alvo é sustentar milhões de ids por segundo somando
+ * as threads; como a sequência tem 12 bits por milissegundo, acima de ~4 milhões por segundo os ids passam a
+ * adiantar o relógio em vez de bloquear.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GeradorIdsBenchmark {
+    private Cenario cenario;
+
+    @Setup
+    public void preparar() {
+        cenario = Cenario.criar("CenarioGeradorIds", 1);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Object umaThread() {
+        return cenario.executar();
+    }
+
+    @Benchmark
+    @Threads(2)
+    public Object duasThreads() {
+        return cenario.executar();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Object quatroThreads() {
+        return cenario.executar();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Object oitoThreads() {
+        return cenario.executar();
+    }
+}
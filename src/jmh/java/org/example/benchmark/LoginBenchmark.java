@@ -0,0 +1,53 @@
+package org.example.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Logins concorrentes de usuários já cadastrados no diretório, com e sem o cache de verificações: sem cache
+ * cada login paga as iterações do PBKDF2; com cache só o primeiro login de cada usuário paga.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class LoginBenchmark {
+    @Param({"ComCache", "SemCache"})
+    public String estrategia;
+
+    @Param({"1024"})
+    public int usuarios;
+
+    private Cenario cenario;
+
+    @Setup
+    public void preparar() {
+        cenario = Cenario.criar("CenarioLogin" + estrategia, usuarios);
+    }
+
+    @TearDown
+    public void encerrar() {
+        cenario.encerrar();
+    }
+
+    @Benchmark
+    public Object autenticar() {
+        return cenario.executar();
+    }
+}
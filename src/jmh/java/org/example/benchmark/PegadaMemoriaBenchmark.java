@@ -0,0 +1,54 @@
+package org.example.benchmark;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bytes de heap retidos por mentor pelas tecnologias dele, no contador auxiliar {@code bytesPorMentor}:
+ * {@code Catalogo} guarda ordinais resolvidos por um catálogo canônico injetado; {@code CatalogoPadrao} faz o
+ * mesmo com mentores criados sem catálogo; {@code ListasDuplicadas} reproduz o arranjo anterior, uma lista por
+ * mentor com instâncias próprias.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 1)
+@Fork(value = 1, jvmArgsAppend = "-XX:+UseSerialGC")
+public class PegadaMemoriaBenchmark {
+    @Param({"Catalogo", "CatalogoPadrao", "ListasDuplicadas"})
+    public String estrategia;
+
+    @Param({"100000"})
+    public int mentores;
+
+    private Cenario cenario;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Pegada {
+        public long bytesPorMentor;
+    }
+
+    @Setup
+    public void preparar() {
+        cenario = Cenario.criar("CenarioPegada" + estrategia, mentores);
+    }
+
+    @Benchmark
+    public void medir(Pegada pegada) {
+        pegada.bytesPorMentor = (Long) cenario.executar();
+    }
+}
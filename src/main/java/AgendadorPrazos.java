@@ -0,0 +1,126 @@
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+interface OuvintePrazos {
+    void prazosVencidos(List<Meta> metas);
+
+    default void prazosProximos(List<Meta> metas) {
+    }
+}
+
+class AgendadorPrazos implements OuvintePrazoMeta {
+    private static final class Registro {
+        private RodaTemporizadora.Entrada<Meta> aviso;
+        private RodaTemporizadora.Entrada<Meta> vencimento;
+    }
+
+    private final RodaTemporizadora<Meta> avisos;
+    private final RodaTemporizadora<Meta> vencimentos;
+    private final Map<Meta, Registro> registros = new HashMap<>();
+    private final long antecedenciaMillis;
+    private final OuvintePrazos ouvinte;
+
+    public AgendadorPrazos(Duration resolucao, Duration antecedenciaAviso, LocalDateTime inicio, OuvintePrazos ouvinte) {
+        if (resolucao == null || antecedenciaAviso == null || inicio == null || ouvinte == null) {
+            throw new IllegalArgumentException("Todos os parâmetros do agendador devem ser preenchidos.");
+        }
+        if (antecedenciaAviso.isNegative()) {
+            throw new IllegalArgumentException("A antecedência do aviso não pode ser negativa.");
+        }
+        this.avisos = new RodaTemporizadora<>(resolucao.toMillis(), paraMillis(inicio));
+        this.vencimentos = new RodaTemporizadora<>(resolucao.toMillis(), paraMillis(inicio));
+        this.antecedenciaMillis = antecedenciaAviso.toMillis();
+        this.ouvinte = ouvinte;
+    }
+
+    public synchronized void agendar(Meta meta) {
+        if (meta == null || meta.getPrazo() == null) {
+            return;
+        }
+        meta.adicionarOuvintePrazo(this);
+        posicionar(meta, registros.computeIfAbsent(meta, m -> new Registro()));
+    }
+
+    public synchronized boolean cancelar(Meta meta) {
+        if (meta != null) {
+            meta.removerOuvintePrazo(this);
+        }
+        return descartar(meta);
+    }
+
+    @Override
+    public synchronized void prazoAlterado(Meta meta) {
+        if (meta.getPrazo() == null) {
+            descartar(meta);
+        } else {
+            posicionar(meta, registros.computeIfAbsent(meta, m -> new Registro()));
+        }
+    }
+
+    private boolean descartar(Meta meta) {
+        Registro registro = registros.remove(meta);
+        if (registro == null) {
+            return false;
+        }
+        avisos.cancelar(registro.aviso);
+        vencimentos.cancelar(registro.vencimento);
+        return true;
+    }
+
+    public void avancar(LocalDateTime agora) {
+        List<Meta> vencidas = new ArrayList<>();
+        List<Meta> proximas = new ArrayList<>();
+        synchronized (this) {
+            long agoraMillis = paraMillis(agora);
+            for (Meta meta : vencimentos.avancar(agoraMillis)) {
+                Registro registro = registros.remove(meta);
+                if (registro != null) {
+                    avisos.cancelar(registro.aviso);
+                }
+                if (!meta.isConcluida()) {
+                    vencidas.add(meta);
+                }
+            }
+            for (Meta meta : avisos.avancar(agoraMillis)) {
+                if (!meta.isConcluida() && registros.containsKey(meta)) {
+                    proximas.add(meta);
+                }
+            }
+        }
+        if (!vencidas.isEmpty()) {
+            ouvinte.prazosVencidos(vencidas);
+        }
+        if (!proximas.isEmpty()) {
+            ouvinte.prazosProximos(proximas);
+        }
+    }
+
+    public synchronized int getPendentes() {
+        return registros.size();
+    }
+
+    private void posicionar(Meta meta, Registro registro) {
+        long prazo = paraMillis(meta.getPrazo());
+        registro.vencimento = posicionar(vencimentos, registro.vencimento, meta, prazo);
+        if (antecedenciaMillis > 0) {
+            registro.aviso = posicionar(avisos, registro.aviso, meta, prazo - antecedenciaMillis);
+        }
+    }
+
+    private static RodaTemporizadora.Entrada<Meta> posicionar(RodaTemporizadora<Meta> roda, RodaTemporizadora.Entrada<Meta> entrada, Meta meta, long instante) {
+        if (entrada == null) {
+            return roda.agendar(meta, instante);
+        }
+        roda.reagendar(entrada, instante);
+        return entrada;
+    }
+
+    static long paraMillis(LocalDateTime dataHora) {
+        return dataHora.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+}
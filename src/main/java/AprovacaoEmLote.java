@@ -0,0 +1,47 @@
+import java.time.LocalDateTime;
+
+class PedidoAprovacao {
+    private final LocalDateTime horarioProposto;
+    private final SessaoMentoria sessao;
+
+    public PedidoAprovacao(LocalDateTime horarioProposto, SessaoMentoria sessao) {
+        this.horarioProposto = horarioProposto;
+        this.sessao = sessao;
+    }
+
+    public LocalDateTime getHorarioProposto() {
+        return horarioProposto;
+    }
+
+    public SessaoMentoria getSessao() {
+        return sessao;
+    }
+}
+
+class ResultadoAprovacao {
+    private final PedidoAprovacao pedido;
+    private final StatusSessao decisao;
+    private final String mensagem;
+
+    ResultadoAprovacao(PedidoAprovacao pedido, StatusSessao decisao, String mensagem) {
+        this.pedido = pedido;
+        this.decisao = decisao;
+        this.mensagem = mensagem;
+    }
+
+    public PedidoAprovacao getPedido() {
+        return pedido;
+    }
+
+    public StatusSessao getDecisao() {
+        return decisao;
+    }
+
+    public String getMensagem() {
+        return mensagem;
+    }
+
+    public boolean isAprovada() {
+        return decisao != null && decisao.isAprovada();
+    }
+}
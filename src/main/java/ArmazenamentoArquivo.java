@@ -0,0 +1,333 @@
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.LockSupport;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Armazenamento em arquivos: um log sequencial de mutações ({@code wal-<primeira sequência>.log}) e snapshots
+ * compactos ({@code snapshot-<última sequência>.bin}). Cada registro do log é [comprimento][crc32][sequência]
+ * [mutação]; os registros são acumulados em memória e gravados com um único {@code force} quando o lote enche,
+ * quando {@link #sincronizar()} é chamado ou a cada intervalo do sincronizador em segundo plano. O snapshot
+ * descreve o estado como a sequência mínima de mutações que o recria e, depois de gravado, substitui os logs
+ * anteriores; ao carregar, aplica-se o snapshot mais recente e só a cauda do log, até o primeiro registro
+ * incompleto ou corrompido, que é descartado.
+ */
+class ArmazenamentoArquivo implements ArmazenamentoDominio {
+    static final int LOTE_PADRAO = 256;
+    static final Duration INTERVALO_PADRAO = Duration.ofMillis(50);
+    private static final int MAGICO_SNAPSHOT = 0x4D454E53;
+
+    private final Path diretorio;
+    private final int loteMaximo;
+    private final long intervaloNanos;
+    private final ByteArrayOutputStream lote = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream registro = new ByteArrayOutputStream();
+    private final DataOutputStream saidaRegistro = new DataOutputStream(registro);
+    private Thread sincronizador;
+    private volatile boolean ativo;
+    private FileChannel log;
+    private long proximaSequencia = 1;
+    private int pendentes;
+    private long sincronizacoes;
+    private long reaplicadas;
+
+    public ArmazenamentoArquivo(Path diretorio) {
+        this(diretorio, LOTE_PADRAO, INTERVALO_PADRAO);
+    }
+
+    public ArmazenamentoArquivo(Path diretorio, int loteMaximo, Duration intervaloSincronizacao) {
+        if (diretorio == null || intervaloSincronizacao == null) {
+            throw new IllegalArgumentException("O diretório e o intervalo de sincronização são obrigatórios.");
+        }
+        if (loteMaximo <= 0 || intervaloSincronizacao.isNegative()) {
+            throw new IllegalArgumentException("O lote deve ser positivo e o intervalo não pode ser negativo.");
+        }
+        this.diretorio = diretorio;
+        this.loteMaximo = loteMaximo;
+        this.intervaloNanos = intervaloSincronizacao.toNanos();
+    }
+
+    @Override
+    public synchronized EstadoDominio carregar() {
+        if (log != null) {
+            throw new IllegalStateException("O armazenamento já foi carregado.");
+        }
+        try {
+            Files.createDirectories(diretorio);
+            EstadoDominio estado = new EstadoDominio();
+            long ultima = carregarSnapshot(estado);
+            List<Path> logs = listar("wal-", ".log");
+            Path ultimoLog = null;
+            long fimValido = 0;
+            for (int i = 0; i < logs.size(); i++) {
+                ultimoLog = logs.get(i);
+                fimValido = reaplicar(ultimoLog, estado, ultima);
+                ultima = Math.max(ultima, proximaSequencia - 1);
+                if (fimValido < Files.size(ultimoLog)) {
+                    for (Path posterior : logs.subList(i + 1, logs.size())) {
+                        Files.deleteIfExists(posterior);
+                    }
+                    break;
+                }
+            }
+            proximaSequencia = ultima + 1;
+            if (ultimoLog == null) {
+                log = abrirLog(proximaSequencia);
+            } else {
+                log = FileChannel.open(ultimoLog, StandardOpenOption.READ, StandardOpenOption.WRITE);
+                log.truncate(fimValido);
+                log.position(fimValido);
+                log.force(true);
+            }
+            iniciarSincronizador();
+            return estado;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public synchronized void registrar(Mutacao mutacao) {
+        if (log == null) {
+            throw new IllegalStateException("O armazenamento precisa ser carregado antes de registrar mutações.");
+        }
+        try {
+            registro.reset();
+            saidaRegistro.writeLong(proximaSequencia);
+            mutacao.escrever(saidaRegistro);
+            byte[] corpo = registro.toByteArray();
+            CRC32 crc = new CRC32();
+            crc.update(corpo);
+            DataOutputStream saidaLote = new DataOutputStream(lote);
+            saidaLote.writeInt(corpo.length);
+            saidaLote.writeInt((int) crc.getValue());
+            saidaLote.write(corpo);
+            proximaSequencia++;
+            if (++pendentes >= loteMaximo) {
+                descarregar();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public synchronized void sincronizar() {
+        if (log != null && pendentes > 0) {
+            descarregar();
+        }
+    }
+
+    @Override
+    public synchronized void gravarSnapshot(EstadoDominio estado) {
+        if (log == null) {
+            throw new IllegalStateException("O armazenamento precisa ser carregado antes de gravar um snapshot.");
+        }
+        sincronizar();
+        long ultima = proximaSequencia - 1;
+        Path destino = diretorio.resolve(nome("snapshot-", ultima, ".bin"));
+        Path temporario = diretorio.resolve(nome("snapshot-", ultima, ".tmp"));
+        try {
+            try (FileChannel canal = FileChannel.open(temporario, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                CheckedOutputStream verificada = new CheckedOutputStream(new BufferedOutputStream(Channels.newOutputStream(canal)), new CRC32());
+                DataOutputStream saida = new DataOutputStream(verificada);
+                saida.writeInt(MAGICO_SNAPSHOT);
+                saida.writeLong(ultima);
+                IOException[] falha = new IOException[1];
+                estado.descrever(mutacao -> {
+                    try {
+                        saida.writeBoolean(true);
+                        mutacao.escrever(saida);
+                    } catch (IOException e) {
+                        falha[0] = e;
+                    }
+                });
+                if (falha[0] != null) {
+                    throw falha[0];
+                }
+                saida.writeBoolean(false);
+                saida.flush();
+                new DataOutputStream(Channels.newOutputStream(canal)).writeLong(verificada.getChecksum().getValue());
+                canal.force(true);
+            }
+            Files.move(temporario, destino, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            log.close();
+            log = abrirLog(ultima + 1);
+            for (Path antigo : listar("wal-", ".log")) {
+                if (sequenciaDe(antigo) <= ultima) {
+                    Files.deleteIfExists(antigo);
+                }
+            }
+            for (Path antigo : listar("snapshot-", ".bin")) {
+                if (sequenciaDe(antigo) < ultima) {
+                    Files.deleteIfExists(antigo);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        ativo = false;
+        if (sincronizador != null) {
+            LockSupport.unpark(sincronizador);
+            try {
+                sincronizador.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        synchronized (this) {
+            if (log == null) {
+                return;
+            }
+            sincronizar();
+            try {
+                log.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            log = null;
+        }
+    }
+
+    public synchronized long getUltimaSequencia() {
+        return proximaSequencia - 1;
+    }
+
+    public synchronized long getSincronizacoes() {
+        return sincronizacoes;
+    }
+
+    public synchronized long getReaplicadas() {
+        return reaplicadas;
+    }
+
+    private void descarregar() {
+        try {
+            ByteBuffer dados = ByteBuffer.wrap(lote.toByteArray());
+            while (dados.hasRemaining()) {
+                log.write(dados);
+            }
+            log.force(false);
+            lote.reset();
+            pendentes = 0;
+            sincronizacoes++;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void iniciarSincronizador() {
+        if (intervaloNanos == 0) {
+            return;
+        }
+        ativo = true;
+        sincronizador = new Thread(() -> {
+            while (ativo) {
+                LockSupport.parkNanos(this, intervaloNanos);
+                sincronizar();
+            }
+        }, "sincronizador-wal");
+        sincronizador.setDaemon(true);
+        sincronizador.start();
+    }
+
+    private long carregarSnapshot(EstadoDominio estado) throws IOException {
+        List<Path> snapshots = listar("snapshot-", ".bin");
+        for (int i = snapshots.size() - 1; i >= 0; i--) {
+            byte[] conteudo = Files.readAllBytes(snapshots.get(i));
+            if (conteudo.length < 8 + 12 + 1) {
+                continue;
+            }
+            CRC32 crc = new CRC32();
+            crc.update(conteudo, 0, conteudo.length - 8);
+            if (crc.getValue() != ByteBuffer.wrap(conteudo, conteudo.length - 8, 8).getLong()) {
+                continue;
+            }
+            DataInputStream entrada = new DataInputStream(new ByteArrayInputStream(conteudo, 0, conteudo.length - 8));
+            if (entrada.readInt() != MAGICO_SNAPSHOT) {
+                continue;
+            }
+            long ultima = entrada.readLong();
+            while (entrada.readBoolean()) {
+                Mutacao.ler(entrada).aplicar(estado);
+            }
+            return ultima;
+        }
+        return 0L;
+    }
+
+    private long reaplicar(Path arquivo, EstadoDominio estado, long ultimaDoSnapshot) throws IOException {
+        byte[] conteudo = Files.readAllBytes(arquivo);
+        ByteBuffer dados = ByteBuffer.wrap(conteudo);
+        int posicao = 0;
+        while (posicao + 8 <= conteudo.length) {
+            int comprimento = dados.getInt(posicao);
+            if (comprimento < Long.BYTES || posicao + 8 + comprimento > conteudo.length) {
+                break;
+            }
+            CRC32 crc = new CRC32();
+            crc.update(conteudo, posicao + 8, comprimento);
+            if ((int) crc.getValue() != dados.getInt(posicao + 4)) {
+                break;
+            }
+            DataInputStream entrada = new DataInputStream(new ByteArrayInputStream(conteudo, posicao + 8, comprimento));
+            long sequencia = entrada.readLong();
+            if (sequencia > ultimaDoSnapshot) {
+                try {
+                    Mutacao.ler(entrada).aplicar(estado);
+                } catch (EOFException e) {
+                    break;
+                }
+                reaplicadas++;
+            }
+            proximaSequencia = Math.max(proximaSequencia, sequencia + 1);
+            posicao += 8 + comprimento;
+        }
+        return posicao;
+    }
+
+    private FileChannel abrirLog(long primeiraSequencia) throws IOException {
+        return FileChannel.open(diretorio.resolve(nome("wal-", primeiraSequencia, ".log")),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.READ);
+    }
+
+    private List<Path> listar(String prefixo, String extensao) throws IOException {
+        List<Path> arquivos = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(diretorio, prefixo + "*" + extensao)) {
+            stream.forEach(arquivos::add);
+        }
+        arquivos.sort(null);
+        return arquivos;
+    }
+
+    private static String nome(String prefixo, long sequencia, String extensao) {
+        return String.format("%s%020d%s", prefixo, sequencia, extensao);
+    }
+
+    private static long sequenciaDe(Path arquivo) {
+        String nome = arquivo.getFileName().toString();
+        return Long.parseLong(nome.substring(nome.indexOf('-') + 1, nome.lastIndexOf('.')));
+    }
+}
@@ -0,0 +1,177 @@
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+interface OuvinteAvaliacoesMentor {
+    void avaliacaoRegistrada(Mentor mentor, int nota);
+}
+
+class ResumoAvaliacoes {
+    static final int NOTA_MAXIMA = 5;
+
+    private final long[] histograma;
+    private final long contagem;
+    private final long soma;
+
+    ResumoAvaliacoes(long[] histograma) {
+        this.histograma = histograma;
+        long quantidade = 0;
+        long total = 0;
+        for (int nota = 0; nota <= NOTA_MAXIMA; nota++) {
+            quantidade += histograma[nota];
+            total += histograma[nota] * nota;
+        }
+        this.contagem = quantidade;
+        this.soma = total;
+    }
+
+    public long getContagem() {
+        return contagem;
+    }
+
+    public long getSoma() {
+        return soma;
+    }
+
+    public double getMedia() {
+        return contagem == 0 ? 0.0 : (double) soma / contagem;
+    }
+
+    public long getQuantidade(int nota) {
+        if (nota < 0 || nota > NOTA_MAXIMA) {
+            throw new IllegalArgumentException("A nota deve estar entre 0 e 5.");
+        }
+        return histograma[nota];
+    }
+
+    public long[] getHistograma() {
+        return histograma.clone();
+    }
+}
+
+/**
+ * Janela deslizante de avaliações em dias: um anel com um balde por dia, indexado pelo dia da época módulo o
+ * tamanho da janela. Quem registra num dia cujo balde ainda guarda um dia antigo troca o balde por um novo com
+ * CAS; avaliações mais antigas que o dia já guardado no balde estão fora da janela e são descartadas.
+ */
+class JanelaAvaliacoes {
+    private final int dias;
+    private final AtomicReferenceArray<Balde> baldes;
+
+    JanelaAvaliacoes(int dias) {
+        if (dias <= 0) {
+            throw new IllegalArgumentException("A janela deve ter pelo menos um dia.");
+        }
+        this.dias = dias;
+        this.baldes = new AtomicReferenceArray<>(dias);
+    }
+
+    void registrar(int nota, LocalDate data) {
+        long dia = data.toEpochDay();
+        int indice = (int) Math.floorMod(dia, (long) dias);
+        while (true) {
+            Balde atual = baldes.get(indice);
+            if (atual != null && atual.dia == dia) {
+                atual.notas[nota].increment();
+                return;
+            }
+            if (atual != null && atual.dia > dia) {
+                return;
+            }
+            Balde novo = new Balde(dia);
+            novo.notas[nota].increment();
+            if (baldes.compareAndSet(indice, atual, novo)) {
+                return;
+            }
+        }
+    }
+
+    ResumoAvaliacoes resumo(LocalDate hoje) {
+        long ultimo = hoje.toEpochDay();
+        long primeiro = ultimo - dias + 1;
+        long[] histograma = new long[ResumoAvaliacoes.NOTA_MAXIMA + 1];
+        for (int i = 0; i < dias; i++) {
+            Balde balde = baldes.get(i);
+            if (balde != null && balde.dia >= primeiro && balde.dia <= ultimo) {
+                for (int nota = 0; nota < histograma.length; nota++) {
+                    histograma[nota] += balde.notas[nota].sum();
+                }
+            }
+        }
+        return new ResumoAvaliacoes(histograma);
+    }
+
+    int getDias() {
+        return dias;
+    }
+
+    private static final class Balde {
+        private final long dia;
+        private final LongAdder[] notas = novosContadores();
+
+        private Balde(long dia) {
+            this.dia = dia;
+        }
+    }
+
+    static LongAdder[] novosContadores() {
+        LongAdder[] contadores = new LongAdder[ResumoAvaliacoes.NOTA_MAXIMA + 1];
+        for (int nota = 0; nota < contadores.length; nota++) {
+            contadores[nota] = new LongAdder();
+        }
+        return contadores;
+    }
+}
+
+/**
+ * Agregados das notas recebidas por um mentor, atualizados a cada feedback aceito de um mentorado. O total é um
+ * histograma de notas 0–5 em {@link LongAdder}, do qual saem contagem, soma e média, de modo que escrever é um
+ * incremento listrado e ler não toma trava nem percorre sessões. As janelas de 30 e 90 dias usam
+ * {@link JanelaAvaliacoes}.
+ */
+class AvaliacoesMentor {
+    static final int DIAS_JANELA_CURTA = 30;
+    static final int DIAS_JANELA_LONGA = 90;
+
+    private final LongAdder[] notas = JanelaAvaliacoes.novosContadores();
+    private final JanelaAvaliacoes janelaCurta = new JanelaAvaliacoes(DIAS_JANELA_CURTA);
+    private final JanelaAvaliacoes janelaLonga = new JanelaAvaliacoes(DIAS_JANELA_LONGA);
+
+    public void registrar(int nota, LocalDateTime instante) {
+        if (nota < 0 || nota > ResumoAvaliacoes.NOTA_MAXIMA) {
+            throw new IllegalArgumentException("A nota deve estar entre 0 e 5.");
+        }
+        if (instante == null) {
+            throw new IllegalArgumentException("O instante da avaliação é obrigatório.");
+        }
+        notas[nota].increment();
+        LocalDate data = instante.toLocalDate();
+        janelaCurta.registrar(nota, data);
+        janelaLonga.registrar(nota, data);
+    }
+
+    public ResumoAvaliacoes getTotal() {
+        long[] histograma = new long[notas.length];
+        for (int nota = 0; nota < notas.length; nota++) {
+            histograma[nota] = notas[nota].sum();
+        }
+        return new ResumoAvaliacoes(histograma);
+    }
+
+    public long getContagem() {
+        return getTotal().getContagem();
+    }
+
+    public double getMedia() {
+        return getTotal().getMedia();
+    }
+
+    public ResumoAvaliacoes ultimos30Dias(LocalDateTime agora) {
+        return janelaCurta.resumo(agora.toLocalDate());
+    }
+
+    public ResumoAvaliacoes ultimos90Dias(LocalDateTime agora) {
+        return janelaLonga.resumo(agora.toLocalDate());
+    }
+}
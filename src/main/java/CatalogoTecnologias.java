@@ -0,0 +1,97 @@
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Registro canônico de {@link Tecnologia} e {@link AreaConhecimento}. O catálogo guarda cópias próprias e
+ * congeladas das definições que recebe, sem alterar o argumento; uma definição (id, nome e área) igual à já
+ * registrada para o id devolve a cópia registrada, de modo que os mentores que compartilham um catálogo mantêm
+ * uma só instância viva por tecnologia. Uma definição diferente para o mesmo id passa a ser a atual sem alterar
+ * as anteriores. Cada tecnologia registrada recebe um ordinal denso, que é o que o {@link Mentor} guarda;
+ * {@link #porOrdinal(int)} resolve o ordinal sem trava. Todo mentor criado sem catálogo usa o {@link #padrao()},
+ * que guarda cada definição vista enquanto a JVM viver; quem carrega um conjunto próprio de mentores (como o
+ * {@link EstadoDominio}) injeta nele o seu catálogo, que é coletado junto com eles.
+ */
+class CatalogoTecnologias {
+    private static final Tecnologia[] VAZIO = new Tecnologia[0];
+    private static final CatalogoTecnologias PADRAO = new CatalogoTecnologias();
+
+    private final Map<Long, AreaConhecimento> areas = new HashMap<>();
+    private final Map<Long, Integer> atuais = new HashMap<>();
+    private volatile Tecnologia[] tecnologias = VAZIO;
+    private int tamanho;
+
+    static CatalogoTecnologias padrao() {
+        return PADRAO;
+    }
+
+    public synchronized AreaConhecimento internar(AreaConhecimento area) {
+        if (area == null) {
+            return null;
+        }
+        AreaConhecimento registrada = areas.get(area.getId());
+        if (registrada != null && Objects.equals(registrada.getNome(), area.getNome())) {
+            return registrada;
+        }
+        AreaConhecimento copia = new AreaConhecimento(area.getId(), area.getNome()).congelar();
+        areas.put(copia.getId(), copia);
+        return copia;
+    }
+
+    public Tecnologia internar(Tecnologia tecnologia) {
+        return tecnologia == null ? null : porOrdinal(ordinal(tecnologia));
+    }
+
+    synchronized int ordinal(Tecnologia tecnologia) {
+        if (tecnologia == null) {
+            throw new IllegalArgumentException("A tecnologia é obrigatória.");
+        }
+        Integer atual = atuais.get(tecnologia.getId());
+        if (atual != null && mesmaDefinicao(tecnologias[atual], tecnologia)) {
+            return atual;
+        }
+        Tecnologia copia = new Tecnologia(tecnologia.getId(), tecnologia.getNome(), internar(tecnologia.getAreaConhecimento())).congelar();
+        Tecnologia[] registradas = tecnologias;
+        if (tamanho == registradas.length) {
+            registradas = Arrays.copyOf(registradas, Math.max(4, tamanho * 2));
+        }
+        registradas[tamanho] = copia;
+        tecnologias = registradas;
+        atuais.put(copia.getId(), tamanho);
+        return tamanho++;
+    }
+
+    Tecnologia porOrdinal(int ordinal) {
+        Tecnologia[] registradas = tecnologias;
+        Tecnologia tecnologia = ordinal < 0 || ordinal >= registradas.length ? null : registradas[ordinal];
+        if (tecnologia == null) {
+            throw new IllegalArgumentException("Ordinal de tecnologia desconhecido: " + ordinal + ".");
+        }
+        return tecnologia;
+    }
+
+    public synchronized Tecnologia tecnologia(Long id) {
+        Integer atual = atuais.get(id);
+        return atual == null ? null : tecnologias[atual];
+    }
+
+    public synchronized AreaConhecimento area(Long id) {
+        return areas.get(id);
+    }
+
+    public synchronized int quantidadeTecnologias() {
+        return tamanho;
+    }
+
+    private static boolean mesmaDefinicao(Tecnologia registrada, Tecnologia outra) {
+        if (registrada == outra) {
+            return true;
+        }
+        AreaConhecimento area = registrada.getAreaConhecimento();
+        AreaConhecimento outraArea = outra.getAreaConhecimento();
+        return Objects.equals(registrada.getNome(), outra.getNome())
+                && (area == null ? outraArea == null
+                : outraArea != null && Objects.equals(area.getId(), outraArea.getId()) && Objects.equals(area.getNome(), outraArea.getNome()));
+    }
+}
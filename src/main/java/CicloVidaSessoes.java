@@ -0,0 +1,123 @@
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Conduz as sessões acompanhadas pelas janelas de início e término sem varrê-las: cada sessão fica numa
+ * {@link RodaTemporizadora} na próxima fronteira relevante para o seu status, e a cada avanço só as
+ * sessões cuja fronteira passou são processadas, em ordem de tempo. Sessões aprovadas são iniciadas quando
+ * a janela abre (ou geram {@link TipoEvento#JANELA_PERDIDA} se ela já fechou), sessões iniciadas são
+ * finalizadas após a duração mínima e sessões pendentes que chegam ao fim da janela geram o evento de
+ * janela perdida. Mudanças de status feitas por fora reposicionam a sessão via {@link OuvinteStatusSessao}.
+ */
+class CicloVidaSessoes implements OuvinteStatusSessao {
+    private final RodaTemporizadora<SessaoMentoria> roda;
+    private final Map<SessaoMentoria, RodaTemporizadora.Entrada<SessaoMentoria>> entradas = new IdentityHashMap<>();
+
+    public CicloVidaSessoes(Duration resolucao, LocalDateTime inicio) {
+        if (resolucao == null || inicio == null) {
+            throw new IllegalArgumentException("A resolução e o início do ciclo de vida são obrigatórios.");
+        }
+        this.roda = new RodaTemporizadora<>(resolucao.toMillis(), AgendadorPrazos.paraMillis(inicio));
+    }
+
+    public synchronized void acompanhar(SessaoMentoria sessao) {
+        if (sessao == null || sessao.getDataHora() == null) {
+            return;
+        }
+        sessao.adicionarOuvinte(this);
+        posicionar(sessao);
+    }
+
+    public synchronized boolean deixarDeAcompanhar(SessaoMentoria sessao) {
+        RodaTemporizadora.Entrada<SessaoMentoria> entrada = entradas.remove(sessao);
+        if (entrada == null) {
+            return false;
+        }
+        roda.cancelar(entrada);
+        return true;
+    }
+
+    @Override
+    public synchronized void statusAlterado(SessaoMentoria sessao, StatusSessao statusAnterior) {
+        if (entradas.containsKey(sessao)) {
+            posicionar(sessao);
+        }
+    }
+
+    public int avancar(LocalDateTime agora) {
+        List<SessaoMentoria> vencidas;
+        synchronized (this) {
+            vencidas = roda.avancar(AgendadorPrazos.paraMillis(agora));
+        }
+        for (SessaoMentoria sessao : vencidas) {
+            processar(sessao, agora);
+            synchronized (this) {
+                RodaTemporizadora.Entrada<SessaoMentoria> entrada = entradas.get(sessao);
+                if (entrada != null && !entrada.isPendente()) {
+                    posicionar(sessao);
+                }
+            }
+        }
+        return vencidas.size();
+    }
+
+    public synchronized int getAcompanhadas() {
+        return entradas.size();
+    }
+
+    public synchronized boolean isAcompanhada(SessaoMentoria sessao) {
+        return entradas.containsKey(sessao);
+    }
+
+    private void processar(SessaoMentoria sessao, LocalDateTime agora) {
+        StatusSessao estado = sessao.getEstado();
+        boolean janelaFechada = !agora.isBefore(sessao.getDataHora().plus(SessaoMentoria.TOLERANCIA_INICIO));
+        if (estado == StatusSessao.PENDENTE || (estado.isAprovada() && janelaFechada)) {
+            if (janelaFechada) {
+                deixarDeAcompanhar(sessao);
+                Mentor mentor = sessao.getMentor();
+                Eventos.publicar(TipoEvento.JANELA_PERDIDA, sessao.getId(), mentor != null ? mentor.getId() : null, estado, null, null, agora);
+            }
+        } else if (estado.isAprovada()) {
+            sessao.transicionarPara(StatusSessao.INICIADA, null, agora);
+        } else if (estado == StatusSessao.INICIADA) {
+            sessao.transicionarPara(StatusSessao.FINALIZADA, null, agora);
+        }
+    }
+
+    private void posicionar(SessaoMentoria sessao) {
+        LocalDateTime fronteira = proximaFronteira(sessao);
+        RodaTemporizadora.Entrada<SessaoMentoria> entrada = entradas.get(sessao);
+        if (fronteira == null) {
+            if (entrada != null) {
+                entradas.remove(sessao);
+                roda.cancelar(entrada);
+            }
+            return;
+        }
+        long instante = AgendadorPrazos.paraMillis(fronteira) + roda.getResolucaoMillis();
+        if (entrada == null) {
+            entradas.put(sessao, roda.agendar(sessao, instante));
+        } else {
+            roda.reagendar(entrada, instante);
+        }
+    }
+
+    private static LocalDateTime proximaFronteira(SessaoMentoria sessao) {
+        StatusSessao estado = sessao.getEstado();
+        LocalDateTime dataHora = sessao.getDataHora();
+        if (estado == StatusSessao.PENDENTE) {
+            return dataHora.plus(SessaoMentoria.TOLERANCIA_INICIO);
+        }
+        if (estado.isAprovada()) {
+            return dataHora.minus(SessaoMentoria.ANTECEDENCIA_INICIO);
+        }
+        if (estado == StatusSessao.INICIADA) {
+            return dataHora.plus(SessaoMentoria.DURACAO_MINIMA);
+        }
+        return null;
+    }
+}
@@ -0,0 +1,253 @@
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+interface ResolvedorReferencias {
+    Usuario usuario(Long id);
+
+    SessaoMentoria sessao(Long id);
+
+    Tecnologia tecnologia(Long id);
+
+    CatalogoTecnologias catalogo();
+}
+
+/**
+ * Codificação binária compacta das entidades, lida e escrita direto em {@link ByteBuffer}: ids e inteiros
+ * como varint (LEB128), instantes como segundos desde a época em zig-zag mais os nanossegundos, status pelo
+ * código fixo do dicionário {@link #STATUS} e referências a outras entidades (usuários, sessão, tecnologias)
+ * só pelo id, resolvidas na leitura pelo {@link ResolvedorReferencias}. Textos são gravados em UTF-8 caractere
+ * a caractere, sem arrays intermediários. A senha do usuário nunca é codificada: sal e hash ficam na
+ * {@link CredencialSenha}, que o {@link DominioPersistente} grava no log e no snapshot. Um buffer sem espaço
+ * lança {@link java.nio.BufferOverflowException}.
+ */
+final class CodecBinario {
+    static final StatusSessao[] STATUS = {
+            StatusSessao.PENDENTE,
+            StatusSessao.APROVADA,
+            StatusSessao.APROVADA_PRIORIDADE,
+            StatusSessao.APROVADA_NORMAL,
+            StatusSessao.APROVADA_CONDICIONAL,
+            StatusSessao.RECUSADA,
+            StatusSessao.INICIADA,
+            StatusSessao.FINALIZADA,
+            StatusSessao.CANCELADA
+    };
+    private static final byte[] CODIGO_STATUS = new byte[StatusSessao.values().length];
+    private static final byte MENTOR = 0;
+    private static final byte MENTORADO = 1;
+
+    static {
+        for (int i = 0; i < STATUS.length; i++) {
+            CODIGO_STATUS[STATUS[i].ordinal()] = (byte) i;
+        }
+    }
+
+    private CodecBinario() {
+    }
+
+    static void escreverUsuario(ByteBuffer destino, Usuario usuario) {
+        boolean mentor = usuario instanceof Mentor;
+        destino.put(mentor ? MENTOR : MENTORADO);
+        escreverVarLong(destino, usuario.getId());
+        escreverTexto(destino, usuario.getNome());
+        escreverTexto(destino, usuario.getEmail());
+        if (mentor) {
+            Mentor comoMentor = (Mentor) usuario;
+            escreverTexto(destino, comoMentor.getBiografia());
+            Agenda agenda = comoMentor.getAgenda();
+            escreverVarLong(destino, agenda == null || agenda.getId() == null ? 0 : agenda.getId() + 1);
+            List<Tecnologia> tecnologias = comoMentor.getTecnologias();
+            escreverVarLong(destino, tecnologias.size());
+            for (Tecnologia tecnologia : tecnologias) {
+                escreverVarLong(destino, tecnologia.getId());
+            }
+        }
+    }
+
+    static Usuario lerUsuario(ByteBuffer origem, ResolvedorReferencias referencias) {
+        byte tipo = origem.get();
+        if (tipo != MENTOR && tipo != MENTORADO) {
+            throw new IllegalArgumentException("Tipo de usuário desconhecido: " + tipo);
+        }
+        long id = lerVarLong(origem);
+        String nome = lerTexto(origem);
+        String email = lerTexto(origem);
+        if (tipo == MENTORADO) {
+            return new Mentorado(id, nome, email, null);
+        }
+        String biografia = lerTexto(origem);
+        long agendaId = lerVarLong(origem);
+        Mentor mentor = new Mentor(id, nome, email, null, biografia, agendaId == 0 ? null : new Agenda(agendaId - 1), referencias.catalogo());
+        for (long restantes = lerVarLong(origem); restantes > 0; restantes--) {
+            mentor.adicionarTecnologia(referencias.tecnologia(lerVarLong(origem)));
+        }
+        return mentor;
+    }
+
+    static void escreverSessao(ByteBuffer destino, SessaoMentoria sessao) {
+        escreverVarLong(destino, sessao.getId());
+        escreverVarLong(destino, sessao.getMentor().getId());
+        escreverVarLong(destino, sessao.getMentorado().getId());
+        escreverInstante(destino, sessao.getDataHora());
+        destino.put(CODIGO_STATUS[sessao.getEstado().ordinal()]);
+    }
+
+    static SessaoMentoria lerSessao(ByteBuffer origem, ResolvedorReferencias referencias) {
+        long id = lerVarLong(origem);
+        Mentor mentor = (Mentor) referencias.usuario(lerVarLong(origem));
+        Mentorado mentorado = (Mentorado) referencias.usuario(lerVarLong(origem));
+        SessaoMentoria sessao = new SessaoMentoria(id, mentor, mentorado, lerInstante(origem));
+        sessao.setEstado(statusDe(origem.get()));
+        return sessao;
+    }
+
+    static void escreverFeedback(ByteBuffer destino, Feedback feedback) {
+        escreverVarLong(destino, feedback.getId());
+        escreverVarLong(destino, feedback.getSessao().getId());
+        escreverVarLong(destino, feedback.getAutor().getId());
+        escreverVarLong(destino, feedback.getAvaliacao().getNota());
+        escreverInstante(destino, feedback.getInstante());
+        escreverTexto(destino, feedback.getComentario());
+    }
+
+    static Feedback lerFeedback(ByteBuffer origem, ResolvedorReferencias referencias) {
+        long id = lerVarLong(origem);
+        SessaoMentoria sessao = referencias.sessao(lerVarLong(origem));
+        Usuario autor = referencias.usuario(lerVarLong(origem));
+        int nota = (int) lerVarLong(origem);
+        LocalDateTime instante = lerInstante(origem);
+        String comentario = lerTexto(origem);
+        try {
+            return new Feedback(id, sessao, autor, nota, comentario, instante);
+        } catch (FeedbackException e) {
+            throw new IllegalArgumentException("Feedback " + id + " inválido: " + e.getMessage(), e);
+        }
+    }
+
+    static void escreverMensagem(ByteBuffer destino, Mensagem mensagem) {
+        escreverVarLong(destino, mensagem.getId());
+        escreverVarLong(destino, mensagem.getRemetente().getId());
+        escreverVarLong(destino, mensagem.getDestinatario().getId());
+        escreverInstante(destino, mensagem.getDataEnvio());
+        escreverTexto(destino, mensagem.getConteudo());
+    }
+
+    static Mensagem lerMensagem(ByteBuffer origem, ResolvedorReferencias referencias) {
+        long id = lerVarLong(origem);
+        Usuario remetente = referencias.usuario(lerVarLong(origem));
+        Usuario destinatario = referencias.usuario(lerVarLong(origem));
+        LocalDateTime dataEnvio = lerInstante(origem);
+        return new Mensagem(id, remetente, destinatario, lerTexto(origem), dataEnvio);
+    }
+
+    static void escreverVarLong(ByteBuffer destino, long valor) {
+        while ((valor & ~0x7FL) != 0) {
+            destino.put((byte) ((valor & 0x7F) | 0x80));
+            valor >>>= 7;
+        }
+        destino.put((byte) valor);
+    }
+
+    static long lerVarLong(ByteBuffer origem) {
+        long valor = 0;
+        for (int deslocamento = 0; deslocamento < 64; deslocamento += 7) {
+            byte b = origem.get();
+            valor |= (long) (b & 0x7F) << deslocamento;
+            if (b >= 0) {
+                return valor;
+            }
+        }
+        throw new IllegalArgumentException("Varint maior que 64 bits.");
+    }
+
+    static void escreverInstante(ByteBuffer destino, LocalDateTime instante) {
+        long segundos = instante.toEpochSecond(ZoneOffset.UTC);
+        escreverVarLong(destino, (segundos << 1) ^ (segundos >> 63));
+        escreverVarLong(destino, instante.getNano());
+    }
+
+    static LocalDateTime lerInstante(ByteBuffer origem) {
+        long zigZag = lerVarLong(origem);
+        long segundos = (zigZag >>> 1) ^ -(zigZag & 1);
+        return LocalDateTime.ofEpochSecond(segundos, (int) lerVarLong(origem), ZoneOffset.UTC);
+    }
+
+    static void escreverTexto(ByteBuffer destino, String texto) {
+        if (texto == null) {
+            destino.put((byte) 0);
+            return;
+        }
+        escreverVarLong(destino, tamanhoUtf8(texto) + 1L);
+        for (int i = 0; i < texto.length(); i++) {
+            char c = texto.charAt(i);
+            if (c < 0x80) {
+                destino.put((byte) c);
+            } else if (c < 0x800) {
+                destino.put((byte) (0xC0 | (c >> 6)));
+                destino.put((byte) (0x80 | (c & 0x3F)));
+            } else if (Character.isHighSurrogate(c) && i + 1 < texto.length() && Character.isLowSurrogate(texto.charAt(i + 1))) {
+                int ponto = Character.toCodePoint(c, texto.charAt(++i));
+                destino.put((byte) (0xF0 | (ponto >> 18)));
+                destino.put((byte) (0x80 | ((ponto >> 12) & 0x3F)));
+                destino.put((byte) (0x80 | ((ponto >> 6) & 0x3F)));
+                destino.put((byte) (0x80 | (ponto & 0x3F)));
+            } else {
+                char unidade = Character.isSurrogate(c) ? '?' : c;
+                destino.put((byte) (0xE0 | (unidade >> 12)));
+                destino.put((byte) (0x80 | ((unidade >> 6) & 0x3F)));
+                destino.put((byte) (0x80 | (unidade & 0x3F)));
+            }
+        }
+    }
+
+    static String lerTexto(ByteBuffer origem) {
+        long marcador = lerVarLong(origem);
+        if (marcador == 0) {
+            return null;
+        }
+        int tamanho = (int) (marcador - 1);
+        if (tamanho > origem.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        String texto;
+        if (origem.hasArray()) {
+            texto = new String(origem.array(), origem.arrayOffset() + origem.position(), tamanho, StandardCharsets.UTF_8);
+            origem.position(origem.position() + tamanho);
+        } else {
+            ByteBuffer fatia = origem.slice();
+            fatia.limit(tamanho);
+            texto = StandardCharsets.UTF_8.decode(fatia).toString();
+            origem.position(origem.position() + tamanho);
+        }
+        return texto;
+    }
+
+    static int tamanhoUtf8(String texto) {
+        int tamanho = 0;
+        for (int i = 0; i < texto.length(); i++) {
+            char c = texto.charAt(i);
+            if (c < 0x80) {
+                tamanho++;
+            } else if (c < 0x800) {
+                tamanho += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < texto.length() && Character.isLowSurrogate(texto.charAt(i + 1))) {
+                tamanho += 4;
+                i++;
+            } else {
+                tamanho += 3;
+            }
+        }
+        return tamanho;
+    }
+
+    private static StatusSessao statusDe(byte codigo) {
+        if (codigo < 0 || codigo >= STATUS.length) {
+            throw new IllegalArgumentException("Código de status desconhecido: " + codigo);
+        }
+        return STATUS[codigo];
+    }
+}
@@ -0,0 +1,249 @@
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+
+/**
+ * Diretório de {@link Mentor}es e {@link Mentorado}s indexado pelo e-mail normalizado (sem espaços nas pontas e
+ * em minúsculas). A senha de cada usuário é guardada como PBKDF2-HMAC-SHA256 com sal próprio; um login bem
+ * sucedido fica em cache por {@code validadeCache} como um SHA-256 salgado da senha, de modo que repetir o
+ * mesmo login nesse intervalo custa um hash rápido em vez das iterações do PBKDF2. Falhas nunca entram no
+ * cache, e redefinir a senha ou remover o usuário descarta a verificação guardada. O diretório guarda só a
+ * {@link CredencialSenha} (sal, hash e iterações) e não altera o usuário cadastrado; os
+ * {@link OuvinteCredenciais} recebem cada credencial definida ou removida para torná-la durável, e
+ * {@link #restaurar} recoloca no diretório um usuário reconstruído sem senha a partir da credencial gravada.
+ */
+class DiretorioUsuarios {
+    static final int ITERACOES_PADRAO = 600_000;
+    static final Duration VALIDADE_CACHE_PADRAO = Duration.ofMinutes(1);
+    private static final String ALGORITMO = "PBKDF2WithHmacSHA256";
+    private static final int BYTES_SAL = 16;
+    private static final int BITS_HASH = 256;
+
+    private final ConcurrentMap<String, Registro> porEmail = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Verificacao> verificadas = new ConcurrentHashMap<>();
+    private final List<OuvinteCredenciais> ouvintes = new CopyOnWriteArrayList<>();
+    private final SecureRandom aleatorio = new SecureRandom();
+    private final int iteracoes;
+    private final Duration validadeCache;
+    private final Relogio relogio;
+
+    public DiretorioUsuarios() {
+        this(ITERACOES_PADRAO, VALIDADE_CACHE_PADRAO, Relogio.sistema());
+    }
+
+    public DiretorioUsuarios(int iteracoes, Duration validadeCache, Relogio relogio) {
+        if (iteracoes <= 0 || validadeCache == null || validadeCache.isNegative() || relogio == null) {
+            throw new IllegalArgumentException("Iterações positivas, validade do cache não negativa e relógio são obrigatórios.");
+        }
+        this.iteracoes = iteracoes;
+        this.validadeCache = validadeCache;
+        this.relogio = relogio;
+    }
+
+    public void adicionarOuvinteCredenciais(OuvinteCredenciais ouvinte) {
+        if (ouvinte != null && !ouvintes.contains(ouvinte)) {
+            ouvintes.add(ouvinte);
+        }
+    }
+
+    public void cadastrar(Usuario usuario) {
+        if (usuario == null || vazio(usuario.getEmail()) || vazio(usuario.getSenha())) {
+            throw new IllegalArgumentException("O usuário deve ter e-mail e senha.");
+        }
+        Registro registro = incluir(usuario, credencial(usuario.getSenha()));
+        for (OuvinteCredenciais ouvinte : ouvintes) {
+            ouvinte.credencialDefinida(registro.usuario, registro.credencial);
+        }
+    }
+
+    public void restaurar(Usuario usuario, CredencialSenha credencial) {
+        if (usuario == null || vazio(usuario.getEmail()) || credencial == null) {
+            throw new IllegalArgumentException("O usuário deve ter e-mail e credencial.");
+        }
+        incluir(usuario, credencial);
+    }
+
+    public Usuario buscarPorEmail(String email) {
+        Registro registro = email == null ? null : porEmail.get(Usuario.normalizarEmail(email));
+        return registro == null ? null : registro.usuario;
+    }
+
+    public Usuario autenticar(String email, String senha) {
+        if (email == null || senha == null) {
+            return null;
+        }
+        String chave = Usuario.normalizarEmail(email);
+        Registro registro = porEmail.get(chave);
+        if (registro == null) {
+            return null;
+        }
+        LocalDateTime agora = relogio.agora();
+        Verificacao verificacao = verificadas.get(chave);
+        CredencialSenha credencial = registro.credencial;
+        if (verificacao != null) {
+            if (verificacao.registro == registro && agora.isBefore(verificacao.validaAte)
+                    && MessageDigest.isEqual(verificacao.resumo, resumoRapido(credencial.getSal(), senha))) {
+                return registro.usuario;
+            }
+            if (!agora.isBefore(verificacao.validaAte)) {
+                verificadas.remove(chave, verificacao);
+            }
+        }
+        if (!MessageDigest.isEqual(credencial.getHash(), derivar(senha, credencial.getSal(), credencial.getIteracoes()))) {
+            return null;
+        }
+        if (!validadeCache.isZero() && porEmail.get(chave) == registro) {
+            verificadas.put(chave, new Verificacao(registro, resumoRapido(credencial.getSal(), senha), agora.plus(validadeCache)));
+        }
+        return registro.usuario;
+    }
+
+    public boolean redefinirSenha(String email, String novaSenha) {
+        if (novaSenha == null || novaSenha.isEmpty()) {
+            throw new IllegalArgumentException("A nova senha não pode ser vazia.");
+        }
+        String chave = Usuario.normalizarEmail(email);
+        Registro atual = chave == null ? null : porEmail.get(chave);
+        if (atual == null) {
+            return false;
+        }
+        Registro novo = new Registro(atual.usuario, credencial(novaSenha));
+        if (!porEmail.replace(chave, atual, novo)) {
+            return false;
+        }
+        verificadas.remove(chave);
+        for (OuvinteCredenciais ouvinte : ouvintes) {
+            ouvinte.credencialDefinida(novo.usuario, novo.credencial);
+        }
+        return true;
+    }
+
+    public boolean remover(String email) {
+        String chave = Usuario.normalizarEmail(email);
+        Registro removido = chave == null ? null : porEmail.remove(chave);
+        if (removido == null) {
+            return false;
+        }
+        verificadas.remove(chave);
+        for (OuvinteCredenciais ouvinte : ouvintes) {
+            ouvinte.credencialRemovida(removido.usuario);
+        }
+        return true;
+    }
+
+    public int tamanho() {
+        return porEmail.size();
+    }
+
+    int verificacoesEmCache() {
+        return verificadas.size();
+    }
+
+    private Registro incluir(Usuario usuario, CredencialSenha credencial) {
+        String email = Usuario.normalizarEmail(usuario.getEmail());
+        Registro registro = new Registro(usuario, credencial);
+        if (porEmail.putIfAbsent(email, registro) != null) {
+            throw new IllegalArgumentException("Já existe um usuário com o e-mail " + email + ".");
+        }
+        return registro;
+    }
+
+    private CredencialSenha credencial(String senha) {
+        byte[] sal = new byte[BYTES_SAL];
+        aleatorio.nextBytes(sal);
+        return new CredencialSenha(sal, derivar(senha, sal, iteracoes), iteracoes);
+    }
+
+    private static boolean vazio(String texto) {
+        return texto == null || texto.isEmpty();
+    }
+
+    private static byte[] derivar(String senha, byte[] sal, int iteracoes) {
+        PBEKeySpec especificacao = new PBEKeySpec(senha.toCharArray(), sal, iteracoes, BITS_HASH);
+        try {
+            return SecretKeyFactory.getInstance(ALGORITMO).generateSecret(especificacao).getEncoded();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Não foi possível derivar o hash da senha.", e);
+        } finally {
+            especificacao.clearPassword();
+        }
+    }
+
+    private static byte[] resumoRapido(byte[] sal, String senha) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(sal);
+            return digest.digest(senha.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("SHA-256 indisponível.", e);
+        }
+    }
+
+    private static final class Registro {
+        private final Usuario usuario;
+        private final CredencialSenha credencial;
+
+        private Registro(Usuario usuario, CredencialSenha credencial) {
+            this.usuario = usuario;
+            this.credencial = credencial;
+        }
+    }
+
+    private static final class Verificacao {
+        private final Registro registro;
+        private final byte[] resumo;
+        private final LocalDateTime validaAte;
+
+        private Verificacao(Registro registro, byte[] resumo, LocalDateTime validaAte) {
+            this.registro = registro;
+            this.resumo = resumo;
+            this.validaAte = validaAte;
+        }
+    }
+}
+
+/**
+ * Sal, hash PBKDF2 e número de iterações de uma senha. É tudo o que o {@link DiretorioUsuarios} precisa para
+ * verificar a senha, e é o que a persistência grava no lugar dela.
+ */
+final class CredencialSenha {
+    private final byte[] sal;
+    private final byte[] hash;
+    private final int iteracoes;
+
+    CredencialSenha(byte[] sal, byte[] hash, int iteracoes) {
+        if (sal == null || sal.length == 0 || hash == null || hash.length == 0 || iteracoes <= 0) {
+            throw new IllegalArgumentException("Sal, hash e iterações positivas são obrigatórios.");
+        }
+        this.sal = sal.clone();
+        this.hash = hash.clone();
+        this.iteracoes = iteracoes;
+    }
+
+    byte[] getSal() {
+        return sal.clone();
+    }
+
+    byte[] getHash() {
+        return hash.clone();
+    }
+
+    int getIteracoes() {
+        return iteracoes;
+    }
+}
+
+interface OuvinteCredenciais {
+    void credencialDefinida(Usuario usuario, CredencialSenha credencial);
+
+    void credencialRemovida(Usuario usuario);
+}
@@ -0,0 +1,362 @@
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+enum TipoEvento {
+    SESSAO_APROVADA,
+    SESSAO_RECUSADA,
+    SESSAO_INICIADA,
+    SESSAO_FINALIZADA,
+    SESSAO_CANCELADA,
+    TRANSICAO_REJEITADA,
+    STATUS_INVALIDO,
+    APROVACAO_PRIORITARIA,
+    PENALIDADE_APLICADA,
+    JANELA_PERDIDA,
+    APROVACAO_EM_LOTE
+}
+
+class EventoDominio {
+    private final TipoEvento tipo;
+    private final Long sessaoId;
+    private final Long mentorId;
+    private final StatusSessao statusAnterior;
+    private final StatusSessao statusNovo;
+    private final String detalhe;
+    private final LocalDateTime instante;
+
+    public EventoDominio(TipoEvento tipo, Long sessaoId, Long mentorId, StatusSessao statusAnterior, StatusSessao statusNovo, String detalhe) {
+        this(tipo, sessaoId, mentorId, statusAnterior, statusNovo, detalhe, null);
+    }
+
+    public EventoDominio(TipoEvento tipo, Long sessaoId, Long mentorId, StatusSessao statusAnterior, StatusSessao statusNovo, String detalhe,
+                         LocalDateTime instante) {
+        if (tipo == null) {
+            throw new IllegalArgumentException("O tipo do evento é obrigatório.");
+        }
+        this.tipo = tipo;
+        this.sessaoId = sessaoId;
+        this.mentorId = mentorId;
+        this.statusAnterior = statusAnterior;
+        this.statusNovo = statusNovo;
+        this.detalhe = detalhe;
+        this.instante = instante != null ? instante : Relogio.sistema().agora();
+    }
+
+    public String descrever() {
+        switch (tipo) {
+            case SESSAO_APROVADA:
+                return "Sessão " + sessaoId + " aprovada com sucesso.";
+            case SESSAO_RECUSADA:
+                return "Sessão " + sessaoId + " recusada. Motivo: " + detalhe;
+            case SESSAO_INICIADA:
+                return "Sessão " + sessaoId + " iniciada com sucesso.";
+            case SESSAO_FINALIZADA:
+                return "Sessão " + sessaoId + " finalizada com sucesso.";
+            case SESSAO_CANCELADA:
+                return "Sessão " + sessaoId + " cancelada. Motivo: " + (detalhe != null ? detalhe : "");
+            case STATUS_INVALIDO:
+                return detalhe == null ? "Novo status não pode ser nulo ou vazio." : "Status desconhecido: " + detalhe;
+            case APROVACAO_PRIORITARIA:
+                return "Sessão aprovada com prioridade para mentorado " + (detalhe != null ? detalhe : "");
+            case PENALIDADE_APLICADA:
+                return "Penalidade aplicada ao mentor por sessão recusada.";
+            case JANELA_PERDIDA:
+                return "Sessão " + sessaoId + " perdeu a janela de início. Status atual: " + statusAnterior;
+            case APROVACAO_EM_LOTE:
+                return "Lote de aprovação do mentor " + mentorId + " processado: " + detalhe + ".";
+            default:
+                return descreverRejeicao();
+        }
+    }
+
+    private String descreverRejeicao() {
+        if (statusNovo == null) {
+            return "Sessão " + sessaoId + " não pode mudar de status. Status atual: " + statusAnterior;
+        }
+        switch (statusNovo) {
+            case INICIADA:
+                return "Sessão " + sessaoId + " não pode ser iniciada. Status atual: " + statusAnterior;
+            case FINALIZADA:
+                return "Não é possível finalizar a sessão. Status: " + statusAnterior + " ou duração insuficiente.";
+            case RECUSADA:
+                return "Sessão " + sessaoId + " não pode ser recusada. Status atual: " + statusAnterior;
+            case CANCELADA:
+                return "Não é possível cancelar uma sessão com status " + statusAnterior;
+            case PENDENTE:
+                return "Sessão " + sessaoId + " não pode voltar a ficar pendente. Status atual: " + statusAnterior;
+            default:
+                return "Sessão " + sessaoId + " não pode ser aprovada. Status atual: " + statusAnterior;
+        }
+    }
+
+    public TipoEvento getTipo() {
+        return tipo;
+    }
+
+    public Long getSessaoId() {
+        return sessaoId;
+    }
+
+    public Long getMentorId() {
+        return mentorId;
+    }
+
+    public StatusSessao getStatusAnterior() {
+        return statusAnterior;
+    }
+
+    public StatusSessao getStatusNovo() {
+        return statusNovo;
+    }
+
+    public String getDetalhe() {
+        return detalhe;
+    }
+
+    public LocalDateTime getInstante() {
+        return instante;
+    }
+
+    @Override
+    public String toString() {
+        return tipo + ": " + descrever();
+    }
+}
+
+interface SinkEventos {
+    void publicar(EventoDominio evento);
+
+    default boolean isAtivo() {
+        return true;
+    }
+}
+
+class SinkEventosNulo implements SinkEventos {
+    static final SinkEventosNulo INSTANCIA = new SinkEventosNulo();
+
+    private SinkEventosNulo() {
+    }
+
+    @Override
+    public void publicar(EventoDominio evento) {
+    }
+
+    @Override
+    public boolean isAtivo() {
+        return false;
+    }
+}
+
+class SinkEventosMemoria implements SinkEventos {
+    private final ConcurrentLinkedQueue<EventoDominio> eventos = new ConcurrentLinkedQueue<>();
+
+    @Override
+    public void publicar(EventoDominio evento) {
+        if (evento != null) {
+            eventos.add(evento);
+        }
+    }
+
+    public List<EventoDominio> getEventos() {
+        return new ArrayList<>(eventos);
+    }
+
+    public List<EventoDominio> getEventos(TipoEvento tipo) {
+        List<EventoDominio> filtrados = new ArrayList<>();
+        for (EventoDominio evento : eventos) {
+            if (evento.getTipo() == tipo) {
+                filtrados.add(evento);
+            }
+        }
+        return filtrados;
+    }
+
+    public void limpar() {
+        eventos.clear();
+    }
+}
+
+class SinkEventosConsole implements SinkEventos {
+    @Override
+    public void publicar(EventoDominio evento) {
+        System.out.println(evento.descrever());
+    }
+}
+
+/**
+ * Fila circular limitada, sem bloqueio, com vários produtores e um único consumidor.
+ * Cada posição guarda um número de sequência que indica se ela está livre para o
+ * produtor da volta atual ou pronta para o consumidor; com o anel cheio o evento é
+ * descartado e contabilizado, para nunca travar quem publica. Só o consumidor escreve a
+ * cabeça; ela é volátil para que {@link #getPendentes()} possa ser lido de qualquer thread.
+ * Eventos ainda no anel quando a JVM encerra sem {@link #close()} se perdem, por isso o
+ * sink padrão de {@link Eventos} continua sendo o síncrono de console.
+ */
+class SinkEventosAssincrono implements SinkEventos, AutoCloseable {
+    private static final int LOTE_MAXIMO = 256;
+    private static final long ESPERA_MAXIMA_NANOS = 1_000_000L;
+
+    private final SinkEventos destino;
+    private final EventoDominio[] posicoes;
+    private final AtomicLongArray sequencias;
+    private final int mascara;
+    private final AtomicLong cauda = new AtomicLong();
+    private final AtomicLong descartados = new AtomicLong();
+    private final Thread consumidor;
+    private volatile boolean ativo = true;
+    private volatile long cabeca;
+
+    public SinkEventosAssincrono(SinkEventos destino, int capacidade) {
+        if (destino == null) {
+            throw new IllegalArgumentException("O sink de destino é obrigatório.");
+        }
+        if (capacidade < 2 || Integer.bitCount(capacidade) != 1) {
+            throw new IllegalArgumentException("A capacidade deve ser uma potência de dois maior que 1.");
+        }
+        this.destino = destino;
+        this.posicoes = new EventoDominio[capacidade];
+        this.sequencias = new AtomicLongArray(capacidade);
+        this.mascara = capacidade - 1;
+        for (int i = 0; i < capacidade; i++) {
+            sequencias.set(i, i);
+        }
+        this.consumidor = new Thread(this::consumir, "eventos-dominio");
+        this.consumidor.setDaemon(true);
+        this.consumidor.start();
+    }
+
+    @Override
+    public void publicar(EventoDominio evento) {
+        if (evento == null || !ativo || !oferecer(evento)) {
+            descartados.incrementAndGet();
+        }
+    }
+
+    private boolean oferecer(EventoDominio evento) {
+        long posicao = cauda.get();
+        while (true) {
+            int indice = (int) (posicao & mascara);
+            long diferenca = sequencias.get(indice) - posicao;
+            if (diferenca == 0) {
+                if (cauda.compareAndSet(posicao, posicao + 1)) {
+                    posicoes[indice] = evento;
+                    sequencias.lazySet(indice, posicao + 1);
+                    return true;
+                }
+                posicao = cauda.get();
+            } else if (diferenca < 0) {
+                return false;
+            } else {
+                posicao = cauda.get();
+            }
+        }
+    }
+
+    private int drenar(int limite) {
+        int entregues = 0;
+        while (entregues < limite) {
+            long posicao = cabeca;
+            int indice = (int) (posicao & mascara);
+            if (sequencias.get(indice) != posicao + 1) {
+                break;
+            }
+            EventoDominio evento = posicoes[indice];
+            posicoes[indice] = null;
+            sequencias.lazySet(indice, posicao + posicoes.length);
+            cabeca = posicao + 1;
+            entregues++;
+            try {
+                destino.publicar(evento);
+            } catch (RuntimeException e) {
+                descartados.incrementAndGet();
+            }
+        }
+        return entregues;
+    }
+
+    private void consumir() {
+        long espera = 1_000L;
+        while (ativo) {
+            if (drenar(LOTE_MAXIMO) > 0) {
+                espera = 1_000L;
+            } else {
+                LockSupport.parkNanos(this, espera);
+                espera = Math.min(espera * 2, ESPERA_MAXIMA_NANOS);
+            }
+        }
+        while (drenar(LOTE_MAXIMO) > 0) {
+        }
+    }
+
+    public long getDescartados() {
+        return descartados.get();
+    }
+
+    public int getPendentes() {
+        return (int) (cauda.get() - cabeca);
+    }
+
+    @Override
+    public void close() {
+        ativo = false;
+        LockSupport.unpark(consumidor);
+        try {
+            consumidor.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
+
+final class Eventos {
+    private static volatile SinkEventos sink = new SinkEventosConsole();
+
+    private Eventos() {
+    }
+
+    static SinkEventos getSink() {
+        return sink;
+    }
+
+    /**
+     * Instala o sink e fecha o anterior quando ele é {@link AutoCloseable}: o sink instalado pertence a
+     * {@link Eventos}. Para reaproveitar o anterior, use {@link #trocarSink(SinkEventos)}.
+     */
+    static void setSink(SinkEventos novoSink) {
+        SinkEventos anterior = trocarSink(novoSink);
+        if (anterior != sink && anterior instanceof AutoCloseable) {
+            try {
+                ((AutoCloseable) anterior).close();
+            } catch (Exception e) {
+                throw new IllegalStateException("Não foi possível fechar o sink de eventos anterior.", e);
+            }
+        }
+    }
+
+    /**
+     * Instala o sink e devolve o anterior sem fechá-lo; a posse dele passa para quem chamou, que deve
+     * reinstalá-lo com {@link #setSink(SinkEventos)} ou fechá-lo.
+     */
+    static synchronized SinkEventos trocarSink(SinkEventos novoSink) {
+        SinkEventos anterior = sink;
+        sink = novoSink == null ? SinkEventosNulo.INSTANCIA : novoSink;
+        return anterior;
+    }
+
+    static void publicar(TipoEvento tipo, Long sessaoId, Long mentorId, StatusSessao statusAnterior, StatusSessao statusNovo, String detalhe) {
+        publicar(tipo, sessaoId, mentorId, statusAnterior, statusNovo, detalhe, null);
+    }
+
+    static void publicar(TipoEvento tipo, Long sessaoId, Long mentorId, StatusSessao statusAnterior, StatusSessao statusNovo, String detalhe,
+                         LocalDateTime instante) {
+        SinkEventos atual = sink;
+        if (atual.isAtivo()) {
+            atual.publicar(new EventoDominio(tipo, sessaoId, mentorId, statusAnterior, statusNovo, detalhe, instante));
+        }
+    }
+}
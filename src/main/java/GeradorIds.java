@@ -0,0 +1,71 @@
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Ids de 64 bits no formato [41 bits de milissegundos desde {@link #EPOCA}][10 bits de nó][12 bits de sequência].
+ * O estado (milissegundo + sequência) fica num único {@link AtomicLong}: quando a sequência estoura, o incremento
+ * transborda para o milissegundo seguinte, e se o relógio voltar no tempo o gerador continua a partir do último
+ * valor emitido. Assim os ids de um nó são estritamente crescentes sem precisar de bloqueio.
+ */
+class GeradorIds {
+    static final long EPOCA = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+    static final int BITS_NO = 10;
+    static final int BITS_SEQUENCIA = 12;
+    static final long NO_MAXIMO = (1L << BITS_NO) - 1;
+    static final long SEQUENCIA_MAXIMA = (1L << BITS_SEQUENCIA) - 1;
+
+    private static final GeradorIds PADRAO = new GeradorIds(Long.getLong("sistemamentoria.no", 0L));
+
+    private final long no;
+    private final LongSupplier relogioMillis;
+    private final AtomicLong estado = new AtomicLong();
+
+    public GeradorIds(long no) {
+        this(no, System::currentTimeMillis);
+    }
+
+    GeradorIds(long no, LongSupplier relogioMillis) {
+        if (no < 0 || no > NO_MAXIMO) {
+            throw new IllegalArgumentException("O nó deve estar entre 0 e " + NO_MAXIMO + ".");
+        }
+        if (relogioMillis == null) {
+            throw new IllegalArgumentException("O relógio é obrigatório.");
+        }
+        this.no = no;
+        this.relogioMillis = relogioMillis;
+    }
+
+    static GeradorIds padrao() {
+        return PADRAO;
+    }
+
+    public long proximoId() {
+        while (true) {
+            long anterior = estado.get();
+            long agora = Math.max(0L, relogioMillis.getAsLong() - EPOCA);
+            long proximo = agora > (anterior >>> BITS_SEQUENCIA) ? agora << BITS_SEQUENCIA : anterior + 1;
+            if (estado.compareAndSet(anterior, proximo)) {
+                return ((proximo >>> BITS_SEQUENCIA) << (BITS_NO + BITS_SEQUENCIA))
+                        | (no << BITS_SEQUENCIA)
+                        | (proximo & SEQUENCIA_MAXIMA);
+            }
+        }
+    }
+
+    public long getNo() {
+        return no;
+    }
+
+    static long extrairEpochMillis(long id) {
+        return (id >>> (BITS_NO + BITS_SEQUENCIA)) + EPOCA;
+    }
+
+    static long extrairNo(long id) {
+        return (id >>> BITS_SEQUENCIA) & NO_MAXIMO;
+    }
+
+    static long extrairSequencia(long id) {
+        return id & SEQUENCIA_MAXIMA;
+    }
+}
@@ -0,0 +1,233 @@
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+final class CursorMensagens implements Comparable<CursorMensagens> {
+    private static final CursorMensagens MINIMO_ID = new CursorMensagens(LocalDateTime.MIN, Long.MIN_VALUE);
+
+    private final LocalDateTime dataEnvio;
+    private final long id;
+
+    CursorMensagens(LocalDateTime dataEnvio, long id) {
+        this.dataEnvio = dataEnvio;
+        this.id = id;
+    }
+
+    static CursorMensagens de(Mensagem mensagem) {
+        return new CursorMensagens(mensagem.getDataEnvio(), mensagem.getId());
+    }
+
+    static CursorMensagens inicioDe(LocalDateTime dataEnvio) {
+        return dataEnvio == null ? MINIMO_ID : new CursorMensagens(dataEnvio, Long.MIN_VALUE);
+    }
+
+    public LocalDateTime getDataEnvio() {
+        return dataEnvio;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    @Override
+    public int compareTo(CursorMensagens outro) {
+        int porData = dataEnvio.compareTo(outro.dataEnvio);
+        return porData != 0 ? porData : Long.compare(id, outro.id);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        CursorMensagens that = (CursorMensagens) o;
+        return id == that.id && dataEnvio.equals(that.dataEnvio);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(dataEnvio, id);
+    }
+}
+
+class PaginaMensagens {
+    private final List<Mensagem> mensagens;
+    private final CursorMensagens proximo;
+
+    PaginaMensagens(List<Mensagem> mensagens, CursorMensagens proximo) {
+        this.mensagens = Collections.unmodifiableList(mensagens);
+        this.proximo = proximo;
+    }
+
+    public List<Mensagem> getMensagens() {
+        return mensagens;
+    }
+
+    public CursorMensagens getProximo() {
+        return proximo;
+    }
+
+    public boolean temProxima() {
+        return proximo != null;
+    }
+}
+
+/**
+ * Índices de mensagens ordenados por data de envio (e id, para desempatar): uma caixa de entrada por
+ * destinatário e uma linha do tempo por conversa. As consultas navegam direto até o cursor e devolvem
+ * páginas com o cursor da próxima, e a contagem de não lidas de cada caixa é mantida a cada indexação
+ * e leitura.
+ */
+class IndiceCaixaEntrada {
+    private static final class Entrada {
+        private final Mensagem mensagem;
+        private final AtomicBoolean lida = new AtomicBoolean();
+
+        private Entrada(Mensagem mensagem) {
+            this.mensagem = mensagem;
+        }
+    }
+
+    private static final class Caixa {
+        private final ConcurrentSkipListMap<CursorMensagens, Entrada> mensagens = new ConcurrentSkipListMap<>();
+        private final AtomicInteger total = new AtomicInteger();
+        private final AtomicInteger naoLidas = new AtomicInteger();
+    }
+
+    private final Map<Long, Caixa> caixas = new ConcurrentHashMap<>();
+    private final Map<String, ConcurrentSkipListMap<CursorMensagens, Mensagem>> conversas = new ConcurrentHashMap<>();
+
+    public boolean indexar(Mensagem mensagem) {
+        if (mensagem == null || mensagem.getId() == null) {
+            throw new IllegalArgumentException("A mensagem e o id dela são obrigatórios.");
+        }
+        CursorMensagens chave = CursorMensagens.de(mensagem);
+        Caixa caixa = caixas.computeIfAbsent(idDe(mensagem.getDestinatario()), id -> new Caixa());
+        if (caixa.mensagens.putIfAbsent(chave, new Entrada(mensagem)) != null) {
+            return false;
+        }
+        caixa.total.incrementAndGet();
+        caixa.naoLidas.incrementAndGet();
+        conversas.computeIfAbsent(chaveConversa(mensagem.getRemetente(), mensagem.getDestinatario()), c -> new ConcurrentSkipListMap<>())
+                .put(chave, mensagem);
+        return true;
+    }
+
+    public PaginaMensagens recentes(Usuario usuario, int limite, CursorMensagens apos) {
+        validarLimite(limite);
+        Caixa caixa = caixas.get(idDe(usuario));
+        if (caixa == null) {
+            return new PaginaMensagens(new ArrayList<>(), null);
+        }
+        NavigableMap<CursorMensagens, Entrada> visao = apos == null
+                ? caixa.mensagens.descendingMap()
+                : caixa.mensagens.headMap(apos, false).descendingMap();
+        List<Mensagem> pagina = new ArrayList<>(Math.min(limite, 64));
+        for (Entrada entrada : visao.values()) {
+            if (pagina.size() == limite) {
+                return new PaginaMensagens(pagina, CursorMensagens.de(pagina.get(limite - 1)));
+            }
+            pagina.add(entrada.mensagem);
+        }
+        return new PaginaMensagens(pagina, null);
+    }
+
+    public PaginaMensagens conversaDesde(Usuario participante, Usuario outro, LocalDateTime desde, int limite, CursorMensagens apos) {
+        validarLimite(limite);
+        ConcurrentSkipListMap<CursorMensagens, Mensagem> conversa = conversas.get(chaveConversa(participante, outro));
+        if (conversa == null) {
+            return new PaginaMensagens(new ArrayList<>(), null);
+        }
+        CursorMensagens inicio = CursorMensagens.inicioDe(desde);
+        NavigableMap<CursorMensagens, Mensagem> visao = apos != null && apos.compareTo(inicio) >= 0
+                ? conversa.tailMap(apos, false)
+                : conversa.tailMap(inicio, true);
+        List<Mensagem> pagina = new ArrayList<>(Math.min(limite, 64));
+        for (Mensagem mensagem : visao.values()) {
+            if (pagina.size() == limite) {
+                return new PaginaMensagens(pagina, CursorMensagens.de(pagina.get(limite - 1)));
+            }
+            pagina.add(mensagem);
+        }
+        return new PaginaMensagens(pagina, null);
+    }
+
+    public Iterator<Mensagem> iterarCaixa(Usuario usuario, LocalDateTime desde) {
+        Caixa caixa = caixas.get(idDe(usuario));
+        if (caixa == null) {
+            return Collections.emptyIterator();
+        }
+        Iterator<Entrada> entradas = caixa.mensagens.tailMap(CursorMensagens.inicioDe(desde), true).values().iterator();
+        return new Iterator<Mensagem>() {
+            @Override
+            public boolean hasNext() {
+                return entradas.hasNext();
+            }
+
+            @Override
+            public Mensagem next() {
+                if (!entradas.hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return entradas.next().mensagem;
+            }
+        };
+    }
+
+    public boolean marcarComoLida(Mensagem mensagem) {
+        if (mensagem == null || mensagem.getId() == null) {
+            return false;
+        }
+        Caixa caixa = caixas.get(idDe(mensagem.getDestinatario()));
+        Entrada entrada = caixa == null ? null : caixa.mensagens.get(CursorMensagens.de(mensagem));
+        if (entrada == null || !entrada.lida.compareAndSet(false, true)) {
+            return false;
+        }
+        caixa.naoLidas.decrementAndGet();
+        return true;
+    }
+
+    public boolean isLida(Mensagem mensagem) {
+        Caixa caixa = caixas.get(idDe(mensagem.getDestinatario()));
+        Entrada entrada = caixa == null ? null : caixa.mensagens.get(CursorMensagens.de(mensagem));
+        return entrada != null && entrada.lida.get();
+    }
+
+    public int naoLidas(Usuario usuario) {
+        Caixa caixa = caixas.get(idDe(usuario));
+        return caixa == null ? 0 : caixa.naoLidas.get();
+    }
+
+    public int tamanhoCaixa(Usuario usuario) {
+        Caixa caixa = caixas.get(idDe(usuario));
+        return caixa == null ? 0 : caixa.total.get();
+    }
+
+    private static void validarLimite(int limite) {
+        if (limite <= 0) {
+            throw new IllegalArgumentException("O limite da página deve ser positivo.");
+        }
+    }
+
+    private static Long idDe(Usuario usuario) {
+        if (usuario == null || usuario.getId() == null) {
+            throw new IllegalArgumentException("O usuário e o id dele são obrigatórios.");
+        }
+        return usuario.getId();
+    }
+
+    private static String chaveConversa(Usuario participante, Usuario outro) {
+        long a = idDe(participante);
+        long b = idDe(outro);
+        return Math.min(a, b) + "-" + Math.max(a, b);
+    }
+}
@@ -0,0 +1,180 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Índice invertido de {@link Tecnologia} e {@link AreaConhecimento} para mentores. Cada mentor recebe um
+ * ordinal denso na ordem de registro e cada id de tecnologia ou área aponta para um {@link BitSet} desses
+ * ordinais, de modo que consultas E/OU viram operações palavra a palavra sobre os bitmaps.
+ */
+class IndiceMentores implements OuvinteTecnologiasMentor {
+    private final ReentrantReadWriteLock trava = new ReentrantReadWriteLock();
+    private final List<Mentor> porOrdinal = new ArrayList<>();
+    private final Map<Mentor, Integer> ordinais = new HashMap<>();
+    private final Map<Long, BitSet> porTecnologia = new HashMap<>();
+    private final Map<Long, BitSet> porArea = new HashMap<>();
+
+    public void registrar(Mentor mentor) {
+        if (mentor == null) {
+            return;
+        }
+        trava.writeLock().lock();
+        try {
+            if (ordinais.containsKey(mentor)) {
+                return;
+            }
+            int ordinal = porOrdinal.size();
+            porOrdinal.add(mentor);
+            ordinais.put(mentor, ordinal);
+            mentor.adicionarOuvinteTecnologias(this);
+            for (Tecnologia tecnologia : mentor.getTecnologias()) {
+                indexar(ordinal, tecnologia);
+            }
+        } finally {
+            trava.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void tecnologiaAdicionada(Mentor mentor, Tecnologia tecnologia) {
+        trava.writeLock().lock();
+        try {
+            Integer ordinal = ordinais.get(mentor);
+            if (ordinal != null) {
+                indexar(ordinal, tecnologia);
+            }
+        } finally {
+            trava.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void tecnologiaRemovida(Mentor mentor, Tecnologia tecnologia) {
+        trava.writeLock().lock();
+        try {
+            Integer ordinal = ordinais.get(mentor);
+            if (ordinal == null) {
+                return;
+            }
+            BitSet comTecnologia = porTecnologia.get(tecnologia.getId());
+            if (comTecnologia != null) {
+                comTecnologia.clear(ordinal);
+            }
+            AreaConhecimento area = tecnologia.getAreaConhecimento();
+            BitSet naArea = area == null ? null : porArea.get(area.getId());
+            if (naArea != null && !mentor.atuaNaArea(area)) {
+                naArea.clear(ordinal);
+            }
+        } finally {
+            trava.writeLock().unlock();
+        }
+    }
+
+    private void indexar(int ordinal, Tecnologia tecnologia) {
+        porTecnologia.computeIfAbsent(tecnologia.getId(), k -> new BitSet()).set(ordinal);
+        AreaConhecimento area = tecnologia.getAreaConhecimento();
+        if (area != null) {
+            porArea.computeIfAbsent(area.getId(), k -> new BitSet()).set(ordinal);
+        }
+    }
+
+    public List<Mentor> comTodasTecnologias(Long... idsTecnologias) {
+        return resolver(interseccao(porTecnologia, idsTecnologias));
+    }
+
+    public List<Mentor> comAlgumaTecnologia(Long... idsTecnologias) {
+        return resolver(uniao(porTecnologia, idsTecnologias));
+    }
+
+    public List<Mentor> comTodasAreas(Long... idsAreas) {
+        return resolver(interseccao(porArea, idsAreas));
+    }
+
+    public List<Mentor> comAlgumaArea(Long... idsAreas) {
+        return resolver(uniao(porArea, idsAreas));
+    }
+
+    public int contarComTodasTecnologias(Long... idsTecnologias) {
+        return interseccao(porTecnologia, idsTecnologias).cardinality();
+    }
+
+    public int contarComAlgumaTecnologia(Long... idsTecnologias) {
+        return uniao(porTecnologia, idsTecnologias).cardinality();
+    }
+
+    public int tamanho() {
+        trava.readLock().lock();
+        try {
+            return porOrdinal.size();
+        } finally {
+            trava.readLock().unlock();
+        }
+    }
+
+    private BitSet[] bitmaps(Map<Long, BitSet> indice, Long[] ids) {
+        BitSet[] encontrados = new BitSet[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            encontrados[i] = indice.get(ids[i]);
+        }
+        return encontrados;
+    }
+
+    private BitSet interseccao(Map<Long, BitSet> indice, Long[] ids) {
+        if (ids == null || ids.length == 0) {
+            return new BitSet();
+        }
+        trava.readLock().lock();
+        try {
+            BitSet[] encontrados = bitmaps(indice, ids);
+            for (BitSet bitmap : encontrados) {
+                if (bitmap == null) {
+                    return new BitSet();
+                }
+            }
+            Arrays.sort(encontrados, Comparator.comparingInt(BitSet::cardinality));
+            BitSet resultado = (BitSet) encontrados[0].clone();
+            for (int i = 1; i < encontrados.length && !resultado.isEmpty(); i++) {
+                resultado.and(encontrados[i]);
+            }
+            return resultado;
+        } finally {
+            trava.readLock().unlock();
+        }
+    }
+
+    private BitSet uniao(Map<Long, BitSet> indice, Long[] ids) {
+        BitSet resultado = new BitSet();
+        if (ids == null) {
+            return resultado;
+        }
+        trava.readLock().lock();
+        try {
+            for (BitSet bitmap : bitmaps(indice, ids)) {
+                if (bitmap != null) {
+                    resultado.or(bitmap);
+                }
+            }
+            return resultado;
+        } finally {
+            trava.readLock().unlock();
+        }
+    }
+
+    private List<Mentor> resolver(BitSet ordinaisEncontrados) {
+        List<Mentor> mentores = new ArrayList<>(ordinaisEncontrados.cardinality());
+        trava.readLock().lock();
+        try {
+            for (int i = ordinaisEncontrados.nextSetBit(0); i >= 0; i = ordinaisEncontrados.nextSetBit(i + 1)) {
+                mentores.add(porOrdinal.get(i));
+            }
+        } finally {
+            trava.readLock().unlock();
+        }
+        return mentores;
+    }
+}
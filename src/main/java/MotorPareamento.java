@@ -0,0 +1,319 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+class ResultadoPareamento {
+    private final Map<Mentorado, Mentor> pares;
+    private final List<Mentorado> semPar;
+    private final long pontuacaoTotal;
+    private final int rodadas;
+
+    ResultadoPareamento(Map<Mentorado, Mentor> pares, List<Mentorado> semPar, long pontuacaoTotal, int rodadas) {
+        this.pares = Collections.unmodifiableMap(pares);
+        this.semPar = Collections.unmodifiableList(semPar);
+        this.pontuacaoTotal = pontuacaoTotal;
+        this.rodadas = rodadas;
+    }
+
+    public Map<Mentorado, Mentor> getPares() {
+        return pares;
+    }
+
+    public Mentor mentorDe(Mentorado mentorado) {
+        return pares.get(mentorado);
+    }
+
+    public List<Mentorado> getSemPar() {
+        return semPar;
+    }
+
+    public long getPontuacaoTotal() {
+        return pontuacaoTotal;
+    }
+
+    public int getRodadas() {
+        return rodadas;
+    }
+}
+
+/**
+ * Pareamento em massa de mentorados com mentores. Tecnologias dos mentores e interesses dos mentorados (as
+ * tecnologias citadas, como palavras inteiras, nas metas ainda não concluídas do plano de estudo) viram
+ * bitsets, e a pontuação de um par é {@code 100 × tecnologias em comum + horários livres do mentor (até 99)}.
+ * Cada rodada calcula em paralelo, com fork/join, os melhores candidatos de cada mentorado ainda sem par entre
+ * os mentores com vaga e depois aceita as arestas da maior para a menor pontuação enquanto houver vaga; quem
+ * ficou sem par porque os seus candidatos lotaram volta na rodada seguinte. A vaga de um mentor é o menor
+ * entre a capacidade pedida e os horários livres da agenda dele. O resultado não depende do paralelismo.
+ */
+class MotorPareamento {
+    static final int CANDIDATOS_PADRAO = 8;
+    private static final int LIMIAR_DIVISAO = 64;
+    private static final int PESO_TECNOLOGIA = 100;
+    private static final int BONUS_MAXIMO_AGENDA = 99;
+    private static final int LIMITE_PARTICIPANTES = 1 << 24;
+
+    private final ForkJoinPool pool;
+    private final int candidatosPorMentorado;
+
+    public MotorPareamento() {
+        this(ForkJoinPool.commonPool(), CANDIDATOS_PADRAO);
+    }
+
+    public MotorPareamento(ForkJoinPool pool, int candidatosPorMentorado) {
+        if (pool == null || candidatosPorMentorado <= 0) {
+            throw new IllegalArgumentException("O pool é obrigatório e o número de candidatos deve ser positivo.");
+        }
+        this.pool = pool;
+        this.candidatosPorMentorado = candidatosPorMentorado;
+    }
+
+    public ResultadoPareamento parear(Collection<Mentor> mentores, Collection<Mentorado> mentorados, int capacidadePorMentor) {
+        if (mentores == null || mentorados == null || capacidadePorMentor <= 0) {
+            throw new IllegalArgumentException("Mentores e mentorados são obrigatórios e a capacidade deve ser positiva.");
+        }
+        Mentor[] listaMentores = mentores.toArray(new Mentor[0]);
+        Mentorado[] listaMentorados = mentorados.toArray(new Mentorado[0]);
+        if (listaMentores.length >= LIMITE_PARTICIPANTES || listaMentorados.length >= LIMITE_PARTICIPANTES) {
+            throw new IllegalArgumentException("No máximo " + (LIMITE_PARTICIPANTES - 1) + " mentores e mentorados por pareamento.");
+        }
+        Map<Long, Integer> ordinais = new HashMap<>();
+        List<String[]> nomes = new ArrayList<>();
+        Map<String, List<Integer>> porPrimeiraPalavra = new HashMap<>();
+        for (Mentor mentor : listaMentores) {
+            for (Tecnologia tecnologia : mentor.getTecnologias()) {
+                if (ordinais.putIfAbsent(tecnologia.getId(), nomes.size()) == null) {
+                    String[] nome = palavras(tecnologia.getNome());
+                    if (nome.length > 0) {
+                        porPrimeiraPalavra.computeIfAbsent(nome[0], p -> new ArrayList<>()).add(nomes.size());
+                    }
+                    nomes.add(nome);
+                }
+            }
+        }
+        int palavras = Math.max(1, (nomes.size() + 63) >>> 6);
+        long[][] tecnologias = new long[listaMentores.length][];
+        int[] bonus = new int[listaMentores.length];
+        int[] vagas = new int[listaMentores.length];
+        for (int m = 0; m < listaMentores.length; m++) {
+            Mentor mentor = listaMentores[m];
+            tecnologias[m] = new long[palavras];
+            for (Tecnologia tecnologia : mentor.getTecnologias()) {
+                int ordinal = ordinais.get(tecnologia.getId());
+                tecnologias[m][ordinal >>> 6] |= 1L << ordinal;
+            }
+            int livres = mentor.getAgenda() == null ? 0 : mentor.getAgenda().quantidadeHorarios();
+            bonus[m] = Math.min(livres, BONUS_MAXIMO_AGENDA);
+            vagas[m] = Math.min(capacidadePorMentor, livres);
+        }
+        long[][] interesses = new long[listaMentorados.length][];
+        String[][] nomesTecnologias = nomes.toArray(new String[0][]);
+        pool.invoke(new Tarefa(0, listaMentorados.length, i -> interesses[i] = interessesDe(listaMentorados[i], nomesTecnologias, porPrimeiraPalavra, palavras)));
+
+        Mentor[] escolhidos = new Mentor[listaMentorados.length];
+        int[] pendentes = new int[listaMentorados.length];
+        for (int i = 0; i < pendentes.length; i++) {
+            pendentes[i] = i;
+        }
+        int quantidadePendentes = pendentes.length;
+        long pontuacaoTotal = 0;
+        int rodadas = 0;
+        while (quantidadePendentes > 0 && algumaVaga(vagas)) {
+            rodadas++;
+            int[] disponiveis = comVaga(vagas);
+            int[] rodada = Arrays.copyOf(pendentes, quantidadePendentes);
+            long[][] arestas = new long[rodada.length][];
+            pool.invoke(new Tarefa(0, rodada.length, p -> arestas[p] = melhoresCandidatos(
+                    rodada[p], interesses[rodada[p]], disponiveis, tecnologias, bonus)));
+
+            long[] todas = Arrays.stream(arestas).flatMapToLong(Arrays::stream).toArray();
+            Arrays.sort(todas);
+            for (long aresta : todas) {
+                int mentorado = (int) (aresta & 0xFFFFFF);
+                int mentor = (int) ((aresta >>> 24) & 0xFFFFFF);
+                if (escolhidos[mentorado] == null && vagas[mentor] > 0) {
+                    escolhidos[mentorado] = listaMentores[mentor];
+                    vagas[mentor]--;
+                    pontuacaoTotal += (Long.MAX_VALUE - aresta) >>> 48;
+                }
+            }
+            int restantes = 0;
+            for (int p = 0; p < quantidadePendentes; p++) {
+                if (escolhidos[pendentes[p]] == null) {
+                    pendentes[restantes++] = pendentes[p];
+                }
+            }
+            if (restantes == quantidadePendentes) {
+                break;
+            }
+            quantidadePendentes = restantes;
+        }
+
+        Map<Mentorado, Mentor> pares = new LinkedHashMap<>();
+        List<Mentorado> semPar = new ArrayList<>();
+        for (int i = 0; i < listaMentorados.length; i++) {
+            if (escolhidos[i] != null) {
+                pares.put(listaMentorados[i], escolhidos[i]);
+            } else {
+                semPar.add(listaMentorados[i]);
+            }
+        }
+        return new ResultadoPareamento(pares, semPar, pontuacaoTotal, rodadas);
+    }
+
+    private long[] melhoresCandidatos(int mentorado, long[] interesse, int[] disponiveis, long[][] tecnologias, int[] bonus) {
+        long[] melhores = new long[Math.min(candidatosPorMentorado, disponiveis.length)];
+        int tamanho = 0;
+        for (int mentor : disponiveis) {
+            int emComum = 0;
+            long[] doMentor = tecnologias[mentor];
+            for (int w = 0; w < interesse.length; w++) {
+                emComum += Long.bitCount(interesse[w] & doMentor[w]);
+            }
+            long pontuacao = (long) emComum * PESO_TECNOLOGIA + bonus[mentor];
+            long aresta = codificar(pontuacao, mentor, mentorado);
+            if (tamanho < melhores.length) {
+                melhores[tamanho++] = aresta;
+                for (int j = tamanho - 1; j > 0 && melhores[j] < melhores[j - 1]; j--) {
+                    long troca = melhores[j];
+                    melhores[j] = melhores[j - 1];
+                    melhores[j - 1] = troca;
+                }
+            } else if (aresta < melhores[tamanho - 1]) {
+                int j = tamanho - 1;
+                for (; j > 0 && aresta < melhores[j - 1]; j--) {
+                    melhores[j] = melhores[j - 1];
+                }
+                melhores[j] = aresta;
+            }
+        }
+        return tamanho == melhores.length ? melhores : Arrays.copyOf(melhores, tamanho);
+    }
+
+    // Ordem crescente da aresta = pontuação decrescente, depois mentor e mentorado crescentes.
+    private static long codificar(long pontuacao, int mentor, int mentorado) {
+        return ((Long.MAX_VALUE >>> 48) - Math.min(pontuacao, Long.MAX_VALUE >>> 48)) << 48
+                | (long) mentor << 24
+                | mentorado;
+    }
+
+    // Uma tecnologia é citada quando as palavras do nome aparecem em sequência na descrição: "Java" não casa
+    // com "JavaScript", nem "C" com "C++" ou com o "c" de "conceitos".
+    private static long[] interessesDe(Mentorado mentorado, String[][] nomesTecnologias, Map<String, List<Integer>> porPrimeiraPalavra, int palavras) {
+        long[] bits = new long[palavras];
+        PlanoEstudo plano = mentorado.getPlanoEstudo();
+        if (plano == null) {
+            return bits;
+        }
+        for (Meta meta : plano.getMetas()) {
+            if (meta.isConcluida() || meta.getDescricao() == null) {
+                continue;
+            }
+            String[] descricao = palavras(meta.getDescricao());
+            for (int i = 0; i < descricao.length; i++) {
+                List<Integer> candidatas = porPrimeiraPalavra.get(descricao[i]);
+                if (candidatas == null) {
+                    continue;
+                }
+                for (int t : candidatas) {
+                    if (citadaEm(descricao, i, nomesTecnologias[t])) {
+                        bits[t >>> 6] |= 1L << t;
+                    }
+                }
+            }
+        }
+        return bits;
+    }
+
+    private static boolean citadaEm(String[] descricao, int inicio, String[] nome) {
+        if (inicio + nome.length > descricao.length) {
+            return false;
+        }
+        for (int j = 1; j < nome.length; j++) {
+            if (!nome[j].equals(descricao[inicio + j])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static String[] palavras(String texto) {
+        if (texto == null) {
+            return new String[0];
+        }
+        String minusculo = texto.toLowerCase(Locale.ROOT);
+        List<String> palavras = new ArrayList<>();
+        int inicio = -1;
+        for (int i = 0; i <= minusculo.length(); i++) {
+            boolean letra = i < minusculo.length() && parteDePalavra(minusculo.charAt(i));
+            if (letra && inicio < 0) {
+                inicio = i;
+            } else if (!letra && inicio >= 0) {
+                palavras.add(minusculo.substring(inicio, i));
+                inicio = -1;
+            }
+        }
+        return palavras.toArray(new String[0]);
+    }
+
+    private static boolean parteDePalavra(char c) {
+        return Character.isLetterOrDigit(c) || c == '+' || c == '#';
+    }
+
+    private static boolean algumaVaga(int[] vagas) {
+        for (int vaga : vagas) {
+            if (vaga > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int[] comVaga(int[] vagas) {
+        int[] indices = new int[vagas.length];
+        int tamanho = 0;
+        for (int m = 0; m < vagas.length; m++) {
+            if (vagas[m] > 0) {
+                indices[tamanho++] = m;
+            }
+        }
+        return Arrays.copyOf(indices, tamanho);
+    }
+
+    private interface PorIndice {
+        void aplicar(int indice);
+    }
+
+    private static final class Tarefa extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int inicio;
+        private final int fim;
+        private final PorIndice acao;
+
+        private Tarefa(int inicio, int fim, PorIndice acao) {
+            this.inicio = inicio;
+            this.fim = fim;
+            this.acao = acao;
+        }
+
+        @Override
+        protected void compute() {
+            if (fim - inicio <= LIMIAR_DIVISAO) {
+                for (int i = inicio; i < fim; i++) {
+                    acao.aplicar(i);
+                }
+                return;
+            }
+            int meio = (inicio + fim) >>> 1;
+            invokeAll(new Tarefa(inicio, meio, acao), new Tarefa(meio, fim, acao));
+        }
+    }
+}
@@ -0,0 +1,753 @@
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+enum TipoMutacao {
+    MENTOR_CADASTRADO,
+    MENTORADO_CADASTRADO,
+    TECNOLOGIA_ADICIONADA,
+    TECNOLOGIA_REMOVIDA,
+    HORARIO_ADICIONADO,
+    HORARIO_REMOVIDO,
+    SESSAO_AGENDADA,
+    STATUS_SESSAO_ALTERADO,
+    FEEDBACK_REGISTRADO,
+    PLANO_CRIADO,
+    META_ADICIONADA,
+    STATUS_META_ALTERADO,
+    PRAZO_META_ALTERADO,
+    HORARIO_RESERVADO,
+    RESERVA_LIBERADA,
+    CREDENCIAL_DEFINIDA,
+    CREDENCIAL_REMOVIDA
+}
+
+final class Mutacao {
+    private static final TipoMutacao[] TIPOS = TipoMutacao.values();
+
+    private final TipoMutacao tipo;
+    private final Long id;
+    private final Long alvoId;
+    private final Long outroId;
+    private final int numero;
+    private final String[] textos;
+    private final LocalDateTime instante;
+
+    private Mutacao(TipoMutacao tipo, Long id, Long alvoId, Long outroId, int numero, LocalDateTime instante, String... textos) {
+        this.tipo = tipo;
+        this.id = id;
+        this.alvoId = alvoId;
+        this.outroId = outroId;
+        this.numero = numero;
+        this.instante = instante;
+        this.textos = textos;
+    }
+
+    static Mutacao mentorCadastrado(Mentor mentor) {
+        Long agendaId = mentor.getAgenda() != null ? mentor.getAgenda().getId() : null;
+        return new Mutacao(TipoMutacao.MENTOR_CADASTRADO, mentor.getId(), agendaId, null, mentor.getAgenda() != null ? 1 : 0, null,
+                mentor.getNome(), mentor.getEmail(), mentor.getBiografia());
+    }
+
+    static Mutacao mentoradoCadastrado(Mentorado mentorado) {
+        return new Mutacao(TipoMutacao.MENTORADO_CADASTRADO, mentorado.getId(), null, null, 0, null,
+                mentorado.getNome(), mentorado.getEmail());
+    }
+
+    static Mutacao tecnologiaAdicionada(Mentor mentor, Tecnologia tecnologia) {
+        AreaConhecimento area = tecnologia.getAreaConhecimento();
+        return new Mutacao(TipoMutacao.TECNOLOGIA_ADICIONADA, mentor.getId(), tecnologia.getId(), area != null ? area.getId() : null, 0, null,
+                tecnologia.getNome(), area != null ? area.getNome() : null);
+    }
+
+    static Mutacao tecnologiaRemovida(Mentor mentor, Tecnologia tecnologia) {
+        return new Mutacao(TipoMutacao.TECNOLOGIA_REMOVIDA, mentor.getId(), tecnologia.getId(), null, 0, null);
+    }
+
+    static Mutacao horarioAdicionado(Mentor mentor, LocalDateTime horario) {
+        return new Mutacao(TipoMutacao.HORARIO_ADICIONADO, mentor.getId(), null, null, 0, horario);
+    }
+
+    static Mutacao horarioRemovido(Mentor mentor, LocalDateTime horario) {
+        return new Mutacao(TipoMutacao.HORARIO_REMOVIDO, mentor.getId(), null, null, 0, horario);
+    }
+
+    static Mutacao horarioReservado(SessaoMentoria sessao, LocalDateTime horario) {
+        return new Mutacao(TipoMutacao.HORARIO_RESERVADO, sessao.getId(), sessao.getMentor().getId(), null, 0, horario);
+    }
+
+    static Mutacao reservaLiberada(SessaoMentoria sessao, LocalDateTime horario) {
+        return new Mutacao(TipoMutacao.RESERVA_LIBERADA, sessao.getId(), sessao.getMentor().getId(), null, 0, horario);
+    }
+
+    static Mutacao sessaoAgendada(SessaoMentoria sessao) {
+        return new Mutacao(TipoMutacao.SESSAO_AGENDADA, sessao.getId(), sessao.getMentor().getId(), sessao.getMentorado().getId(), 0, sessao.getDataHora());
+    }
+
+    static Mutacao statusSessaoAlterado(SessaoMentoria sessao) {
+        return new Mutacao(TipoMutacao.STATUS_SESSAO_ALTERADO, sessao.getId(), null, null, sessao.getEstado().ordinal(), null);
+    }
+
+    static Mutacao feedbackRegistrado(Feedback feedback) {
+        return new Mutacao(TipoMutacao.FEEDBACK_REGISTRADO, feedback.getId(), feedback.getSessao().getId(), feedback.getAutor().getId(),
+                feedback.getAvaliacao().getNota(), feedback.getInstante(), feedback.getComentario());
+    }
+
+    static Mutacao planoCriado(Mentorado mentorado, PlanoEstudo plano) {
+        return new Mutacao(TipoMutacao.PLANO_CRIADO, plano.getId(), mentorado.getId(), null, 0, null);
+    }
+
+    static Mutacao metaAdicionada(PlanoEstudo plano, Meta meta) {
+        return new Mutacao(TipoMutacao.META_ADICIONADA, meta.getId(), plano.getId(), null, 0, meta.getPrazo(), meta.getDescricao(), meta.getStatus());
+    }
+
+    static Mutacao statusMetaAlterado(Meta meta) {
+        return new Mutacao(TipoMutacao.STATUS_META_ALTERADO, meta.getId(), null, null, 0, null, meta.getStatus());
+    }
+
+    static Mutacao prazoMetaAlterado(Meta meta) {
+        return new Mutacao(TipoMutacao.PRAZO_META_ALTERADO, meta.getId(), null, null, 0, meta.getPrazo());
+    }
+
+    static Mutacao credencialDefinida(Long usuarioId, CredencialSenha credencial) {
+        Base64.Encoder base64 = Base64.getEncoder();
+        return new Mutacao(TipoMutacao.CREDENCIAL_DEFINIDA, usuarioId, null, null, credencial.getIteracoes(), null,
+                base64.encodeToString(credencial.getSal()), base64.encodeToString(credencial.getHash()));
+    }
+
+    static Mutacao credencialRemovida(Long usuarioId) {
+        return new Mutacao(TipoMutacao.CREDENCIAL_REMOVIDA, usuarioId, null, null, 0, null);
+    }
+
+    TipoMutacao getTipo() {
+        return tipo;
+    }
+
+    void escrever(DataOutput saida) throws IOException {
+        saida.writeByte(tipo.ordinal());
+        escreverId(saida, id);
+        escreverId(saida, alvoId);
+        escreverId(saida, outroId);
+        saida.writeInt(numero);
+        if (instante == null) {
+            saida.writeBoolean(false);
+        } else {
+            saida.writeBoolean(true);
+            saida.writeLong(instante.toEpochSecond(ZoneOffset.UTC));
+            saida.writeInt(instante.getNano());
+        }
+        saida.writeByte(textos.length);
+        for (String texto : textos) {
+            if (texto == null) {
+                saida.writeInt(-1);
+            } else {
+                byte[] bytes = texto.getBytes(StandardCharsets.UTF_8);
+                saida.writeInt(bytes.length);
+                saida.write(bytes);
+            }
+        }
+    }
+
+    static Mutacao ler(DataInput entrada) throws IOException {
+        int ordinal = entrada.readUnsignedByte();
+        if (ordinal >= TIPOS.length) {
+            throw new IOException("Tipo de mutação desconhecido: " + ordinal);
+        }
+        Long id = lerId(entrada);
+        Long alvoId = lerId(entrada);
+        Long outroId = lerId(entrada);
+        int numero = entrada.readInt();
+        LocalDateTime instante = entrada.readBoolean() ? LocalDateTime.ofEpochSecond(entrada.readLong(), entrada.readInt(), ZoneOffset.UTC) : null;
+        String[] textos = new String[entrada.readUnsignedByte()];
+        for (int i = 0; i < textos.length; i++) {
+            int tamanho = entrada.readInt();
+            if (tamanho >= 0) {
+                byte[] bytes = new byte[tamanho];
+                entrada.readFully(bytes);
+                textos[i] = new String(bytes, StandardCharsets.UTF_8);
+            }
+        }
+        return new Mutacao(TIPOS[ordinal], id, alvoId, outroId, numero, instante, textos);
+    }
+
+    private static void escreverId(DataOutput saida, Long valor) throws IOException {
+        saida.writeBoolean(valor != null);
+        if (valor != null) {
+            saida.writeLong(valor);
+        }
+    }
+
+    private static Long lerId(DataInput entrada) throws IOException {
+        return entrada.readBoolean() ? entrada.readLong() : null;
+    }
+
+    void aplicar(EstadoDominio estado) {
+        switch (tipo) {
+            case MENTOR_CADASTRADO:
+                estado.adicionarMentor(new Mentor(id, textos[0], textos[1], null, textos[2], numero == 1 ? new Agenda(alvoId) : null, estado.catalogo()));
+                break;
+            case MENTORADO_CADASTRADO:
+                estado.adicionarMentorado(new Mentorado(id, textos[0], textos[1], null));
+                break;
+            case TECNOLOGIA_ADICIONADA:
+                estado.mentor(id).adicionarTecnologia(estado.tecnologia(alvoId, textos[0], outroId, textos[1]));
+                break;
+            case TECNOLOGIA_REMOVIDA:
+                estado.mentor(id).removerTecnologia(estado.tecnologia(alvoId, null, null, null));
+                break;
+            case HORARIO_ADICIONADO:
+                estado.mentor(id).getAgenda().adicionarHorario(instante);
+                break;
+            case HORARIO_REMOVIDO:
+                estado.mentor(id).getAgenda().removerHorario(instante);
+                break;
+            case HORARIO_RESERVADO:
+                estado.mentor(alvoId).getAgenda().reservar(instante, estado.sessao(id));
+                break;
+            case RESERVA_LIBERADA:
+                Agenda agenda = estado.mentor(alvoId).getAgenda();
+                SessaoMentoria reservada = estado.sessao(id);
+                if (reservada.equals(agenda.reservaDe(instante))) {
+                    agenda.liberarReserva(reservada);
+                }
+                break;
+            case SESSAO_AGENDADA:
+                estado.adicionarSessao(new SessaoMentoria(id, estado.mentor(alvoId), estado.mentorado(outroId), instante));
+                break;
+            case STATUS_SESSAO_ALTERADO:
+                estado.sessao(id).setEstado(StatusSessao.porOrdinal(numero));
+                break;
+            case FEEDBACK_REGISTRADO:
+                try {
+                    estado.sessao(alvoId).adicionarFeedback(id, estado.usuario(outroId), numero, textos[0], instante);
+                } catch (FeedbackException e) {
+                    throw new IllegalStateException("Feedback " + id + " inválido no registro: " + e.getMessage(), e);
+                }
+                break;
+            case PLANO_CRIADO:
+                estado.adicionarPlano(estado.mentorado(alvoId), new PlanoEstudo(id));
+                break;
+            case META_ADICIONADA:
+                estado.plano(alvoId).adicionarMeta(estado.meta(id, textos[0], textos[1], instante));
+                break;
+            case STATUS_META_ALTERADO:
+                estado.meta(id).atualizarStatus(textos[0]);
+                break;
+            case PRAZO_META_ALTERADO:
+                estado.meta(id).setPrazo(instante);
+                break;
+            case CREDENCIAL_DEFINIDA:
+                Base64.Decoder base64 = Base64.getDecoder();
+                estado.definirCredencial(estado.usuario(id), new CredencialSenha(base64.decode(textos[0]), base64.decode(textos[1]), numero));
+                break;
+            case CREDENCIAL_REMOVIDA:
+                estado.removerCredencial(estado.usuario(id));
+                break;
+            default:
+                throw new IllegalStateException("Tipo de mutação sem aplicação: " + tipo + ".");
+        }
+    }
+}
+
+/**
+ * Todas as entidades do domínio indexadas por id, na ordem em que foram registradas. É o estado que o
+ * {@link ArmazenamentoDominio} reconstrói (snapshot + log) e que o snapshot volta a descrever como a
+ * sequência mínima de mutações que o recria. Os mentores reconstruídos compartilham o {@link CatalogoTecnologias}
+ * do estado.
+ */
+class EstadoDominio implements ResolvedorReferencias {
+    private final Map<Long, Mentor> mentores = new LinkedHashMap<>();
+    private final Map<Long, Mentorado> mentorados = new LinkedHashMap<>();
+    private final Map<Long, SessaoMentoria> sessoes = new LinkedHashMap<>();
+    private final Map<Long, PlanoEstudo> planos = new LinkedHashMap<>();
+    private final Map<Long, Mentorado> donosDePlanos = new LinkedHashMap<>();
+    private final Map<Long, Meta> metas = new LinkedHashMap<>();
+    private final Map<Long, Tecnologia> tecnologias = new LinkedHashMap<>();
+    private final Map<Long, AreaConhecimento> areas = new LinkedHashMap<>();
+    private final Map<Long, CredencialSenha> credenciais = new LinkedHashMap<>();
+    private final CatalogoTecnologias catalogo;
+
+    EstadoDominio() {
+        this(null);
+    }
+
+    EstadoDominio(CatalogoTecnologias catalogo) {
+        this.catalogo = catalogo == null ? new CatalogoTecnologias() : catalogo;
+    }
+
+    void adicionarMentor(Mentor mentor) {
+        mentores.put(mentor.getId(), mentor);
+        for (Tecnologia tecnologia : mentor.getTecnologias()) {
+            registrarTecnologia(tecnologia);
+        }
+    }
+
+    void adicionarMentorado(Mentorado mentorado) {
+        mentorados.put(mentorado.getId(), mentorado);
+    }
+
+    void adicionarSessao(SessaoMentoria sessao) {
+        sessoes.put(sessao.getId(), sessao);
+        sessao.getMentor().adicionarSessao(sessao);
+    }
+
+    void adicionarPlano(Mentorado mentorado, PlanoEstudo plano) {
+        planos.put(plano.getId(), plano);
+        donosDePlanos.put(plano.getId(), mentorado);
+        mentorado.setPlanoEstudo(plano);
+    }
+
+    void adicionarMeta(PlanoEstudo plano, Meta meta) {
+        metas.putIfAbsent(meta.getId(), meta);
+        plano.adicionarMeta(meta);
+    }
+
+    void definirCredencial(Usuario usuario, CredencialSenha credencial) {
+        credenciais.put(usuario.getId(), credencial);
+    }
+
+    boolean removerCredencial(Usuario usuario) {
+        return credenciais.remove(usuario.getId()) != null;
+    }
+
+    void registrarTecnologia(Tecnologia tecnologia) {
+        tecnologias.putIfAbsent(tecnologia.getId(), tecnologia);
+        AreaConhecimento area = tecnologia.getAreaConhecimento();
+        if (area != null) {
+            areas.putIfAbsent(area.getId(), area);
+        }
+    }
+
+    Tecnologia tecnologia(Long id, String nome, Long areaId, String areaNome) {
+        Tecnologia tecnologia = tecnologias.get(id);
+        if (tecnologia == null) {
+            AreaConhecimento area = areaId == null ? null
+                    : areas.computeIfAbsent(areaId, a -> catalogo.internar(new AreaConhecimento(a, areaNome)));
+            tecnologia = catalogo.internar(new Tecnologia(id, nome, area));
+            tecnologias.put(id, tecnologia);
+        }
+        return tecnologia;
+    }
+
+    Meta meta(Long id, String descricao, String status, LocalDateTime prazo) {
+        return metas.computeIfAbsent(id, m -> new Meta(m, descricao, status, prazo));
+    }
+
+    Mentor mentor(Long id) {
+        return exigir(mentores.get(id), "Mentor", id);
+    }
+
+    Mentorado mentorado(Long id) {
+        return exigir(mentorados.get(id), "Mentorado", id);
+    }
+
+    @Override
+    public Usuario usuario(Long id) {
+        Usuario usuario = mentores.get(id);
+        return usuario != null ? usuario : mentorado(id);
+    }
+
+    @Override
+    public SessaoMentoria sessao(Long id) {
+        return exigir(sessoes.get(id), "Sessão", id);
+    }
+
+    @Override
+    public Tecnologia tecnologia(Long id) {
+        return exigir(tecnologias.get(id), "Tecnologia", id);
+    }
+
+    @Override
+    public CatalogoTecnologias catalogo() {
+        return catalogo;
+    }
+
+    PlanoEstudo plano(Long id) {
+        return exigir(planos.get(id), "Plano de estudo", id);
+    }
+
+    Meta meta(Long id) {
+        return exigir(metas.get(id), "Meta", id);
+    }
+
+    public Collection<Mentor> getMentores() {
+        return Collections.unmodifiableCollection(mentores.values());
+    }
+
+    public Collection<Mentorado> getMentorados() {
+        return Collections.unmodifiableCollection(mentorados.values());
+    }
+
+    public Collection<SessaoMentoria> getSessoes() {
+        return Collections.unmodifiableCollection(sessoes.values());
+    }
+
+    public Collection<PlanoEstudo> getPlanos() {
+        return Collections.unmodifiableCollection(planos.values());
+    }
+
+    public Collection<Meta> getMetas() {
+        return Collections.unmodifiableCollection(metas.values());
+    }
+
+    public Map<Long, CredencialSenha> getCredenciais() {
+        return Collections.unmodifiableMap(credenciais);
+    }
+
+    public Mentor buscarMentor(Long id) {
+        return mentores.get(id);
+    }
+
+    public Mentorado buscarMentorado(Long id) {
+        return mentorados.get(id);
+    }
+
+    public Usuario buscarUsuario(Long id) {
+        Usuario usuario = mentores.get(id);
+        return usuario != null ? usuario : mentorados.get(id);
+    }
+
+    public SessaoMentoria buscarSessao(Long id) {
+        return sessoes.get(id);
+    }
+
+    public Meta buscarMeta(Long id) {
+        return metas.get(id);
+    }
+
+    void descrever(Consumer<Mutacao> destino) {
+        for (Mentor mentor : mentores.values()) {
+            descreverMentor(mentor, destino);
+        }
+        for (Mentorado mentorado : mentorados.values()) {
+            destino.accept(Mutacao.mentoradoCadastrado(mentorado));
+        }
+        for (Map.Entry<Long, CredencialSenha> credencial : credenciais.entrySet()) {
+            destino.accept(Mutacao.credencialDefinida(credencial.getKey(), credencial.getValue()));
+        }
+        for (PlanoEstudo plano : planos.values()) {
+            descreverPlano(donosDePlanos.get(plano.getId()), plano, destino);
+        }
+        for (SessaoMentoria sessao : sessoes.values()) {
+            descreverSessao(sessao, destino);
+        }
+    }
+
+    static void descreverMentor(Mentor mentor, Consumer<Mutacao> destino) {
+        destino.accept(Mutacao.mentorCadastrado(mentor));
+        for (Tecnologia tecnologia : mentor.getTecnologias()) {
+            destino.accept(Mutacao.tecnologiaAdicionada(mentor, tecnologia));
+        }
+        if (mentor.getAgenda() != null) {
+            for (LocalDateTime horario : mentor.getAgenda().getHorariosDisponiveis()) {
+                destino.accept(Mutacao.horarioAdicionado(mentor, horario));
+            }
+            for (LocalDateTime horario : mentor.getAgenda().getHorariosReservados()) {
+                destino.accept(Mutacao.horarioAdicionado(mentor, horario));
+            }
+        }
+    }
+
+    static void descreverPlano(Mentorado mentorado, PlanoEstudo plano, Consumer<Mutacao> destino) {
+        destino.accept(Mutacao.planoCriado(mentorado, plano));
+        for (Meta meta : plano.getMetas()) {
+            destino.accept(Mutacao.metaAdicionada(plano, meta));
+        }
+    }
+
+    static void descreverSessao(SessaoMentoria sessao, Consumer<Mutacao> destino) {
+        destino.accept(Mutacao.sessaoAgendada(sessao));
+        Agenda agenda = sessao.getMentor().getAgenda();
+        LocalDateTime reservado = agenda != null ? agenda.horarioReservadoPara(sessao) : null;
+        if (reservado != null) {
+            destino.accept(Mutacao.horarioReservado(sessao, reservado));
+        }
+        if (sessao.getEstado() != StatusSessao.PENDENTE) {
+            destino.accept(Mutacao.statusSessaoAlterado(sessao));
+        }
+        for (Feedback feedback : sessao.getFeedbacks()) {
+            destino.accept(Mutacao.feedbackRegistrado(feedback));
+        }
+    }
+
+    private static <T> T exigir(T valor, String entidade, Long id) {
+        if (valor == null) {
+            throw new IllegalStateException(entidade + " " + id + " não encontrado no estado persistido.");
+        }
+        return valor;
+    }
+}
+
+interface ArmazenamentoDominio extends AutoCloseable {
+    EstadoDominio carregar();
+
+    void registrar(Mutacao mutacao);
+
+    void sincronizar();
+
+    void gravarSnapshot(EstadoDominio estado);
+
+    @Override
+    void close();
+}
+
+/**
+ * Fachada que aplica as mutações ao {@link EstadoDominio} e as registra no {@link ArmazenamentoDominio}. Os
+ * ouvintes que a fachada instala em cada mentor, agenda, sessão, plano e meta que passa a conhecer também
+ * registram as mudanças feitas diretamente nessas entidades: tecnologias do mentor, horários e reservas da
+ * agenda, status e feedbacks da sessão, metas do plano e status e prazo da meta. Os métodos da fachada apenas
+ * validam e delegam à instância do estado, de modo que cada mudança é registrada uma só vez. O que não passa
+ * por esses pontos (setters de cadastro como nome, e-mail ou o plano do mentorado) só é durável pela fachada.
+ * Um {@link DiretorioUsuarios} ligado por {@link #conectar} recebe as credenciais gravadas dos usuários do estado e
+ * passa a registrar as que forem definidas ou removidas depois, desde que o usuário já esteja registrado aqui.
+ */
+class DominioPersistente implements OuvinteStatusSessao, OuvinteFeedbackSessao, OuvinteReservasAgenda, OuvinteHorariosAgenda,
+        OuvinteTecnologiasMentor, OuvinteMetasPlano, OuvintePrazoMeta, OuvinteStatusMeta, OuvinteCredenciais, AutoCloseable {
+    private final ArmazenamentoDominio armazenamento;
+    private final EstadoDominio estado;
+    private final Map<Agenda, Mentor> donosAgendas = new IdentityHashMap<>();
+
+    public DominioPersistente(ArmazenamentoDominio armazenamento) {
+        if (armazenamento == null) {
+            throw new IllegalArgumentException("O armazenamento é obrigatório.");
+        }
+        this.armazenamento = armazenamento;
+        this.estado = armazenamento.carregar();
+        for (Mentor mentor : estado.getMentores()) {
+            ouvir(mentor);
+        }
+        for (SessaoMentoria sessao : estado.getSessoes()) {
+            ouvir(sessao);
+        }
+        for (PlanoEstudo plano : estado.getPlanos()) {
+            plano.adicionarOuvinteMetas(this);
+        }
+        for (Meta meta : estado.getMetas()) {
+            ouvir(meta);
+        }
+    }
+
+    public EstadoDominio getEstado() {
+        return estado;
+    }
+
+    public synchronized void registrarMentor(Mentor mentor) {
+        exigirId(mentor != null ? mentor.getId() : null, "O mentor");
+        estado.adicionarMentor(mentor);
+        ouvir(mentor);
+        EstadoDominio.descreverMentor(mentor, armazenamento::registrar);
+    }
+
+    public synchronized void registrarMentorado(Mentorado mentorado) {
+        exigirId(mentorado != null ? mentorado.getId() : null, "O mentorado");
+        estado.adicionarMentorado(mentorado);
+        armazenamento.registrar(Mutacao.mentoradoCadastrado(mentorado));
+        if (mentorado.getPlanoEstudo() != null) {
+            registrarPlano(mentorado, mentorado.getPlanoEstudo());
+        }
+    }
+
+    public synchronized void adicionarTecnologia(Mentor mentor, Tecnologia tecnologia) {
+        exigirId(tecnologia != null ? tecnologia.getId() : null, "A tecnologia");
+        estado.mentor(mentor.getId()).adicionarTecnologia(tecnologia);
+    }
+
+    public synchronized void removerTecnologia(Mentor mentor, Tecnologia tecnologia) {
+        estado.mentor(mentor.getId()).removerTecnologia(tecnologia);
+    }
+
+    public synchronized void adicionarHorario(Mentor mentor, LocalDateTime horario) {
+        exigirAgenda(mentor).adicionarHorario(horario);
+    }
+
+    public synchronized void removerHorario(Mentor mentor, LocalDateTime horario) {
+        exigirAgenda(mentor).removerHorario(horario);
+    }
+
+    public synchronized void agendarSessao(SessaoMentoria sessao) {
+        exigirId(sessao != null ? sessao.getId() : null, "A sessão");
+        estado.mentor(sessao.getMentor().getId());
+        estado.mentorado(sessao.getMentorado().getId());
+        estado.adicionarSessao(sessao);
+        ouvir(sessao);
+        EstadoDominio.descreverSessao(sessao, armazenamento::registrar);
+    }
+
+    public synchronized Feedback registrarFeedback(SessaoMentoria sessao, Usuario autor, int nota, String comentario) throws FeedbackException {
+        exigirId(sessao != null ? sessao.getId() : null, "A sessão");
+        SessaoMentoria registrada = estado.buscarSessao(sessao.getId());
+        if (registrada == null) {
+            throw new IllegalArgumentException("Sessão " + sessao.getId() + " não registrada.");
+        }
+        return registrada.adicionarFeedback(GeradorIds.padrao().proximoId(), autor, nota, comentario);
+    }
+
+    public synchronized void registrarPlano(Mentorado mentorado, PlanoEstudo plano) {
+        estado.mentorado(mentorado.getId());
+        exigirId(plano != null ? plano.getId() : null, "O plano de estudo");
+        estado.adicionarPlano(mentorado, plano);
+        for (Meta meta : plano.getMetas()) {
+            estado.adicionarMeta(plano, meta);
+            ouvir(meta);
+        }
+        plano.adicionarOuvinteMetas(this);
+        EstadoDominio.descreverPlano(mentorado, plano, armazenamento::registrar);
+    }
+
+    public synchronized void adicionarMeta(PlanoEstudo plano, Meta meta) {
+        exigirId(meta != null ? meta.getId() : null, "A meta");
+        estado.plano(plano.getId()).adicionarMeta(meta);
+    }
+
+    public synchronized void atualizarStatusMeta(Meta meta, String novoStatus) {
+        estado.meta(meta.getId()).atualizarStatus(novoStatus);
+    }
+
+    public synchronized void conectar(DiretorioUsuarios diretorio) {
+        if (diretorio == null) {
+            throw new IllegalArgumentException("O diretório de usuários é obrigatório.");
+        }
+        for (Map.Entry<Long, CredencialSenha> credencial : estado.getCredenciais().entrySet()) {
+            diretorio.restaurar(estado.usuario(credencial.getKey()), credencial.getValue());
+        }
+        diretorio.adicionarOuvinteCredenciais(this);
+    }
+
+    @Override
+    public synchronized void tecnologiaAdicionada(Mentor mentor, Tecnologia tecnologia) {
+        exigirId(tecnologia.getId(), "A tecnologia");
+        estado.registrarTecnologia(tecnologia);
+        armazenamento.registrar(Mutacao.tecnologiaAdicionada(mentor, tecnologia));
+    }
+
+    @Override
+    public synchronized void tecnologiaRemovida(Mentor mentor, Tecnologia tecnologia) {
+        armazenamento.registrar(Mutacao.tecnologiaRemovida(mentor, tecnologia));
+    }
+
+    @Override
+    public synchronized void horarioAdicionado(Agenda agenda, LocalDateTime horario) {
+        armazenamento.registrar(Mutacao.horarioAdicionado(donosAgendas.get(agenda), horario));
+    }
+
+    @Override
+    public synchronized void horarioRemovido(Agenda agenda, LocalDateTime horario) {
+        armazenamento.registrar(Mutacao.horarioRemovido(donosAgendas.get(agenda), horario));
+    }
+
+    @Override
+    public synchronized void statusAlterado(SessaoMentoria sessao, StatusSessao statusAnterior) {
+        armazenamento.registrar(Mutacao.statusSessaoAlterado(sessao));
+    }
+
+    @Override
+    public synchronized void feedbackRegistrado(Feedback feedback) {
+        armazenamento.registrar(Mutacao.feedbackRegistrado(feedback));
+    }
+
+    @Override
+    public synchronized void horarioReservado(Agenda agenda, LocalDateTime horario, SessaoMentoria sessao) {
+        if (estado.buscarSessao(sessao.getId()) != null) {
+            armazenamento.registrar(Mutacao.horarioReservado(sessao, horario));
+        }
+    }
+
+    @Override
+    public synchronized void reservaLiberada(Agenda agenda, LocalDateTime horario, SessaoMentoria sessao) {
+        if (estado.buscarSessao(sessao.getId()) != null) {
+            armazenamento.registrar(Mutacao.reservaLiberada(sessao, horario));
+        }
+    }
+
+    @Override
+    public synchronized void metaAdicionada(PlanoEstudo plano, Meta meta) {
+        exigirId(meta.getId(), "A meta");
+        estado.adicionarMeta(plano, meta);
+        ouvir(meta);
+        armazenamento.registrar(Mutacao.metaAdicionada(plano, meta));
+    }
+
+    @Override
+    public synchronized void prazoAlterado(Meta meta) {
+        armazenamento.registrar(Mutacao.prazoMetaAlterado(meta));
+    }
+
+    @Override
+    public synchronized void statusMetaAlterado(Meta meta) {
+        armazenamento.registrar(Mutacao.statusMetaAlterado(meta));
+    }
+
+    @Override
+    public synchronized void credencialDefinida(Usuario usuario, CredencialSenha credencial) {
+        Usuario registrado = estado.buscarUsuario(usuario.getId());
+        if (registrado != null) {
+            estado.definirCredencial(registrado, credencial);
+            armazenamento.registrar(Mutacao.credencialDefinida(registrado.getId(), credencial));
+        }
+    }
+
+    @Override
+    public synchronized void credencialRemovida(Usuario usuario) {
+        Usuario registrado = estado.buscarUsuario(usuario.getId());
+        if (registrado != null && estado.removerCredencial(registrado)) {
+            armazenamento.registrar(Mutacao.credencialRemovida(registrado.getId()));
+        }
+    }
+
+    public synchronized void gravarSnapshot() {
+        armazenamento.gravarSnapshot(estado);
+    }
+
+    public void sincronizar() {
+        armazenamento.sincronizar();
+    }
+
+    @Override
+    public void close() {
+        armazenamento.close();
+    }
+
+    private void ouvir(Mentor mentor) {
+        mentor.adicionarOuvinteTecnologias(this);
+        Agenda agenda = mentor.getAgenda();
+        if (agenda != null) {
+            donosAgendas.put(agenda, mentor);
+            agenda.adicionarOuvinteReservas(this);
+            agenda.adicionarOuvinteHorarios(this);
+        }
+    }
+
+    private void ouvir(SessaoMentoria sessao) {
+        sessao.adicionarOuvinte(this);
+        sessao.adicionarOuvinteFeedback(this);
+    }
+
+    private void ouvir(Meta meta) {
+        meta.adicionarOuvintePrazo(this);
+        meta.adicionarOuvinteStatus(this);
+    }
+
+    private Agenda exigirAgenda(Mentor mentor) {
+        Agenda agenda = estado.mentor(mentor.getId()).getAgenda();
+        if (agenda == null) {
+            throw new IllegalStateException("O mentor " + mentor.getId() + " não possui agenda.");
+        }
+        return agenda;
+    }
+
+    private static void exigirId(Long id, String entidade) {
+        if (id == null) {
+            throw new IllegalArgumentException(entidade + " e o id são obrigatórios.");
+        }
+    }
+}
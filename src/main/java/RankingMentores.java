@@ -0,0 +1,171 @@
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Ranking de mentores por média de avaliações, global e por {@link AreaConhecimento}, mantido a cada nota
+ * recebida em vez de reordenado a cada consulta. Cada ranking é um conjunto ordenado de posições imutáveis
+ * (média decrescente, mais avaliações primeiro, depois id): uma nota nova troca a posição do mentor em
+ * O(log n) e o top-K é só o prefixo do conjunto. Mentores sem avaliações ficam de fora. A entrada e a saída de
+ * áreas acompanham {@link Mentor#adicionarTecnologia(Tecnologia)} e {@link Mentor#removerTecnologia(Tecnologia)}.
+ */
+class RankingMentores implements OuvinteAvaliacoesMentor, OuvinteTecnologiasMentor {
+    private static final Comparator<Posicao> ORDEM = Comparator
+            .comparingDouble((Posicao p) -> p.media).reversed()
+            .thenComparing(Comparator.comparingLong((Posicao p) -> p.contagem).reversed())
+            .thenComparingLong(p -> p.mentor.getId());
+
+    private final ReentrantReadWriteLock trava = new ReentrantReadWriteLock();
+    private final Map<Mentor, Posicao> posicoes = new HashMap<>();
+    private final TreeSet<Posicao> global = new TreeSet<>(ORDEM);
+    private final Map<Long, TreeSet<Posicao>> porArea = new HashMap<>();
+
+    public void registrar(Mentor mentor) {
+        if (mentor == null || mentor.getId() == null) {
+            throw new IllegalArgumentException("O mentor e o id dele são obrigatórios.");
+        }
+        trava.writeLock().lock();
+        try {
+            if (posicoes.containsKey(mentor)) {
+                return;
+            }
+            posicoes.put(mentor, null);
+            mentor.adicionarOuvinteAvaliacoes(this);
+            mentor.adicionarOuvinteTecnologias(this);
+            atualizar(mentor);
+        } finally {
+            trava.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void avaliacaoRegistrada(Mentor mentor, int nota) {
+        trava.writeLock().lock();
+        try {
+            if (posicoes.containsKey(mentor)) {
+                atualizar(mentor);
+            }
+        } finally {
+            trava.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void tecnologiaAdicionada(Mentor mentor, Tecnologia tecnologia) {
+        AreaConhecimento area = tecnologia.getAreaConhecimento();
+        if (area == null) {
+            return;
+        }
+        trava.writeLock().lock();
+        try {
+            Posicao posicao = posicoes.get(mentor);
+            if (posicao != null) {
+                porArea.computeIfAbsent(area.getId(), k -> new TreeSet<>(ORDEM)).add(posicao);
+            }
+        } finally {
+            trava.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void tecnologiaRemovida(Mentor mentor, Tecnologia tecnologia) {
+        AreaConhecimento area = tecnologia.getAreaConhecimento();
+        if (area == null || mentor.atuaNaArea(area)) {
+            return;
+        }
+        trava.writeLock().lock();
+        try {
+            Posicao posicao = posicoes.get(mentor);
+            TreeSet<Posicao> ranking = porArea.get(area.getId());
+            if (posicao != null && ranking != null) {
+                ranking.remove(posicao);
+            }
+        } finally {
+            trava.writeLock().unlock();
+        }
+    }
+
+    public List<Mentor> topGlobal(int k) {
+        trava.readLock().lock();
+        try {
+            return prefixo(global, k);
+        } finally {
+            trava.readLock().unlock();
+        }
+    }
+
+    public List<Mentor> topPorArea(AreaConhecimento area, int k) {
+        if (area == null) {
+            throw new IllegalArgumentException("A área é obrigatória.");
+        }
+        trava.readLock().lock();
+        try {
+            return prefixo(porArea.get(area.getId()), k);
+        } finally {
+            trava.readLock().unlock();
+        }
+    }
+
+    public int tamanho() {
+        trava.readLock().lock();
+        try {
+            return global.size();
+        } finally {
+            trava.readLock().unlock();
+        }
+    }
+
+    private void atualizar(Mentor mentor) {
+        ResumoAvaliacoes total = mentor.getAvaliacoes().getTotal();
+        Posicao anterior = posicoes.get(mentor);
+        Posicao nova = total.getContagem() == 0 ? null : new Posicao(mentor, total.getMedia(), total.getContagem());
+        if (anterior != null) {
+            global.remove(anterior);
+        }
+        if (nova != null) {
+            global.add(nova);
+        }
+        for (AreaConhecimento area : mentor.getAreasConhecimento()) {
+            TreeSet<Posicao> ranking = porArea.computeIfAbsent(area.getId(), k -> new TreeSet<>(ORDEM));
+            if (anterior != null) {
+                ranking.remove(anterior);
+            }
+            if (nova != null) {
+                ranking.add(nova);
+            }
+        }
+        posicoes.put(mentor, nova);
+    }
+
+    private static List<Mentor> prefixo(TreeSet<Posicao> ranking, int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("O tamanho do ranking não pode ser negativo.");
+        }
+        List<Mentor> topo = new ArrayList<>(ranking == null ? 0 : Math.min(k, ranking.size()));
+        if (ranking == null) {
+            return topo;
+        }
+        Iterator<Posicao> iterador = ranking.iterator();
+        while (topo.size() < k && iterador.hasNext()) {
+            topo.add(iterador.next().mentor);
+        }
+        return topo;
+    }
+
+    private static final class Posicao {
+        private final Mentor mentor;
+        private final double media;
+        private final long contagem;
+
+        private Posicao(Mentor mentor, double media, long contagem) {
+            this.mentor = mentor;
+            this.media = media;
+            this.contagem = contagem;
+        }
+    }
+}
@@ -0,0 +1,319 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32;
+
+interface LeitorMensagens {
+    void ler(long id, long remetenteId, long destinatarioId, LocalDateTime dataEnvio, ByteBuffer conteudo);
+}
+
+/**
+ * Armazena mensagens em arquivos mapeados em memória, só de acréscimo, com um diretório por conversa (par
+ * remetente/destinatário, em qualquer ordem) dividido em segmentos de tamanho fixo nomeados pela sequência
+ * da primeira mensagem. Cada registro é [comprimento][crc32][id][remetente][destinatário][segundos][nanos]
+ * [conteúdo UTF-8] e o comprimento é gravado por último, de modo que um registro incompleto ou com crc
+ * inválido marca o fim do segmento: ao reabrir a conversa o restante é zerado e as gravações continuam dali.
+ * {@link #anexar} só retorna depois que a mensagem foi forçada para o disco, mas as chamadas concorrentes
+ * compartilham o mesmo {@code force}: a primeira a esperar sincroniza todos os segmentos sujos e libera as
+ * demais. A leitura entrega o conteúdo como fatia somente leitura do próprio mapeamento, sem cópia.
+ */
+class RegistroMensagens implements AutoCloseable {
+    static final int TAMANHO_SEGMENTO_PADRAO = 1024 * 1024;
+    private static final int CABECALHO = 8;
+    private static final int CAMPOS_FIXOS = 8 * 4 + 4;
+    private static final String EXTENSAO = ".seg";
+
+    private final Path diretorio;
+    private final int tamanhoSegmento;
+    private final Map<String, Conversa> conversas = new ConcurrentHashMap<>();
+    private final Set<Segmento> sujos = ConcurrentHashMap.newKeySet();
+    private final AtomicLong gravadas = new AtomicLong();
+    private final Object sincronizacao = new Object();
+    private long duraveisAte;
+    private boolean sincronizando;
+    private long sincronizacoes;
+
+    public RegistroMensagens(Path diretorio) {
+        this(diretorio, TAMANHO_SEGMENTO_PADRAO);
+    }
+
+    public RegistroMensagens(Path diretorio, int tamanhoSegmento) {
+        if (diretorio == null) {
+            throw new IllegalArgumentException("O diretório do registro é obrigatório.");
+        }
+        if (tamanhoSegmento <= CABECALHO + CAMPOS_FIXOS) {
+            throw new IllegalArgumentException("O tamanho do segmento é pequeno demais.");
+        }
+        this.diretorio = diretorio;
+        this.tamanhoSegmento = tamanhoSegmento;
+        try {
+            Files.createDirectories(diretorio);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void anexar(Mensagem mensagem) {
+        if (mensagem == null || mensagem.getId() == null || mensagem.getRemetente().getId() == null || mensagem.getDestinatario().getId() == null) {
+            throw new IllegalArgumentException("A mensagem e os ids dela e dos participantes são obrigatórios.");
+        }
+        byte[] conteudo = mensagem.getConteudo().getBytes(StandardCharsets.UTF_8);
+        int comprimento = CAMPOS_FIXOS + conteudo.length;
+        if (CABECALHO + comprimento > tamanhoSegmento) {
+            throw new IllegalArgumentException("A mensagem não cabe em um segmento.");
+        }
+        Conversa conversa = conversa(mensagem.getRemetente().getId(), mensagem.getDestinatario().getId());
+        Segmento segmento = conversa.gravar(mensagem, conteudo, comprimento);
+        sujos.add(segmento);
+        aguardarDurabilidade(gravadas.incrementAndGet());
+    }
+
+    public void percorrer(Usuario participante, Usuario outro, LeitorMensagens leitor) {
+        if (participante == null || outro == null || leitor == null) {
+            throw new IllegalArgumentException("Os participantes e o leitor são obrigatórios.");
+        }
+        conversa(participante.getId(), outro.getId()).percorrer(leitor);
+    }
+
+    public List<Mensagem> conversa(Usuario participante, Usuario outro) {
+        List<Mensagem> mensagens = new ArrayList<>();
+        percorrer(participante, outro, (id, remetenteId, destinatarioId, dataEnvio, conteudo) -> {
+            Usuario remetente = remetenteId == participante.getId() ? participante : outro;
+            Usuario destinatario = remetente == participante ? outro : participante;
+            mensagens.add(new Mensagem(id, remetente, destinatario, StandardCharsets.UTF_8.decode(conteudo).toString(), dataEnvio));
+        });
+        return mensagens;
+    }
+
+    public long getSincronizacoes() {
+        synchronized (sincronizacao) {
+            return sincronizacoes;
+        }
+    }
+
+    @Override
+    public void close() {
+        aguardarDurabilidade(gravadas.get());
+        conversas.clear();
+    }
+
+    private Conversa conversa(Long a, Long b) {
+        if (a == null || b == null) {
+            throw new IllegalArgumentException("Os participantes da conversa precisam de id.");
+        }
+        String chave = "conversa-" + Math.min(a, b) + "-" + Math.max(a, b);
+        return conversas.computeIfAbsent(chave, c -> new Conversa(diretorio.resolve(c)));
+    }
+
+    private void aguardarDurabilidade(long ordem) {
+        while (true) {
+            long alvo;
+            synchronized (sincronizacao) {
+                while (sincronizando && duraveisAte < ordem) {
+                    try {
+                        sincronizacao.wait();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new IllegalStateException("Interrompido aguardando a gravação da mensagem.", e);
+                    }
+                }
+                if (duraveisAte >= ordem) {
+                    return;
+                }
+                sincronizando = true;
+                alvo = gravadas.get();
+            }
+            boolean sucesso = false;
+            try {
+                forcarSujos();
+                sucesso = true;
+            } finally {
+                synchronized (sincronizacao) {
+                    sincronizando = false;
+                    if (sucesso) {
+                        duraveisAte = Math.max(duraveisAte, alvo);
+                        sincronizacoes++;
+                    }
+                    sincronizacao.notifyAll();
+                }
+            }
+        }
+    }
+
+    // O segmento sai do conjunto antes do force() para que uma escrita concorrente o marque de novo; se o
+    // force() falhar, ele volta a ficar sujo e a próxima sincronização tenta outra vez.
+    private void forcarSujos() {
+        for (Segmento segmento : sujos) {
+            sujos.remove(segmento);
+            try {
+                segmento.mapa.force();
+            } catch (RuntimeException | Error e) {
+                sujos.add(segmento);
+                throw e;
+            }
+        }
+    }
+
+    private static long crc(ByteBuffer mapa, int inicio, int comprimento) {
+        CRC32 crc = new CRC32();
+        ByteBuffer payload = mapa.duplicate();
+        payload.limit(inicio + comprimento).position(inicio);
+        crc.update(payload);
+        return crc.getValue();
+    }
+
+    private static final class Segmento {
+        private final long primeiraSequencia;
+        private final MappedByteBuffer mapa;
+        private volatile int posicao;
+        private long mensagens;
+
+        private Segmento(long primeiraSequencia, MappedByteBuffer mapa) {
+            this.primeiraSequencia = primeiraSequencia;
+            this.mapa = mapa;
+        }
+    }
+
+    private final class Conversa {
+        private final Path pasta;
+        private final List<Path> selados = new ArrayList<>();
+        private Segmento ativo;
+
+        private Conversa(Path pasta) {
+            this.pasta = pasta;
+            try {
+                Files.createDirectories(pasta);
+                List<Path> arquivos = new ArrayList<>();
+                try (DirectoryStream<Path> stream = Files.newDirectoryStream(pasta, "*" + EXTENSAO)) {
+                    stream.forEach(arquivos::add);
+                }
+                arquivos.sort(null);
+                if (arquivos.isEmpty()) {
+                    ativo = abrir(0L);
+                } else {
+                    selados.addAll(arquivos.subList(0, arquivos.size() - 1));
+                    Path ultimo = arquivos.get(arquivos.size() - 1);
+                    ativo = abrir(Long.parseLong(ultimo.getFileName().toString().replace(EXTENSAO, "")));
+                    recuperar(ativo);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private synchronized Segmento gravar(Mensagem mensagem, byte[] conteudo, int comprimento) {
+            if (ativo.posicao + CABECALHO + comprimento > tamanhoSegmento) {
+                Segmento anterior = ativo;
+                sujos.add(anterior);
+                ativo = abrir(anterior.primeiraSequencia + anterior.mensagens);
+                selados.add(arquivo(anterior.primeiraSequencia));
+            }
+            MappedByteBuffer mapa = ativo.mapa;
+            int inicio = ativo.posicao;
+            LocalDateTime dataEnvio = mensagem.getDataEnvio();
+            mapa.position(inicio + CABECALHO);
+            mapa.putLong(mensagem.getId());
+            mapa.putLong(mensagem.getRemetente().getId());
+            mapa.putLong(mensagem.getDestinatario().getId());
+            mapa.putLong(dataEnvio.toEpochSecond(ZoneOffset.UTC));
+            mapa.putInt(dataEnvio.getNano());
+            mapa.put(conteudo);
+            mapa.putInt(inicio + 4, (int) crc(mapa, inicio + CABECALHO, comprimento));
+            mapa.putInt(inicio, comprimento);
+            ativo.mensagens++;
+            ativo.posicao = inicio + CABECALHO + comprimento;
+            return ativo;
+        }
+
+        private void percorrer(LeitorMensagens leitor) {
+            List<Path> anteriores;
+            Segmento atual;
+            int limite;
+            synchronized (this) {
+                anteriores = new ArrayList<>(selados);
+                atual = ativo;
+                limite = atual.posicao;
+            }
+            for (Path arquivo : anteriores) {
+                try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.READ)) {
+                    MappedByteBuffer mapa = canal.map(FileChannel.MapMode.READ_ONLY, 0, canal.size());
+                    ler(mapa, fimValido(mapa), leitor);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+            ler(atual.mapa.asReadOnlyBuffer(), limite, leitor);
+        }
+
+        private void ler(ByteBuffer mapa, int limite, LeitorMensagens leitor) {
+            int posicao = 0;
+            while (posicao < limite) {
+                int comprimento = mapa.getInt(posicao);
+                int inicio = posicao + CABECALHO;
+                long segundos = mapa.getLong(inicio + 24);
+                int nanos = mapa.getInt(inicio + 32);
+                ByteBuffer conteudo = mapa.duplicate();
+                conteudo.limit(inicio + comprimento).position(inicio + CAMPOS_FIXOS);
+                leitor.ler(mapa.getLong(inicio), mapa.getLong(inicio + 8), mapa.getLong(inicio + 16),
+                        LocalDateTime.ofEpochSecond(segundos, nanos, ZoneOffset.UTC), conteudo.slice().asReadOnlyBuffer());
+                posicao = inicio + comprimento;
+            }
+        }
+
+        private Path arquivo(long primeiraSequencia) {
+            return pasta.resolve(String.format("%020d%s", primeiraSequencia, EXTENSAO));
+        }
+
+        private Segmento abrir(long primeiraSequencia) {
+            try (FileChannel canal = FileChannel.open(arquivo(primeiraSequencia), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                return new Segmento(primeiraSequencia, canal.map(FileChannel.MapMode.READ_WRITE, 0, tamanhoSegmento));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private void recuperar(Segmento segmento) {
+            MappedByteBuffer mapa = segmento.mapa;
+            int fim = fimValido(mapa);
+            for (int posicao = 0; posicao < fim; posicao += CABECALHO + mapa.getInt(posicao)) {
+                segmento.mensagens++;
+            }
+            byte[] zeros = new byte[Math.min(64 * 1024, mapa.capacity())];
+            for (int i = fim; i < mapa.capacity(); i += zeros.length) {
+                mapa.put(i, zeros, 0, Math.min(zeros.length, mapa.capacity() - i));
+            }
+            mapa.force();
+            segmento.posicao = fim;
+        }
+    }
+
+    private static int fimValido(ByteBuffer mapa) {
+        int posicao = 0;
+        while (posicao + CABECALHO + CAMPOS_FIXOS <= mapa.capacity()) {
+            int comprimento = mapa.getInt(posicao);
+            if (comprimento < CAMPOS_FIXOS || posicao + CABECALHO + comprimento > mapa.capacity()) {
+                break;
+            }
+            if ((int) crc(mapa, posicao + CABECALHO, comprimento) != mapa.getInt(posicao + 4)) {
+                break;
+            }
+            posicao += CABECALHO + comprimento;
+        }
+        return posicao;
+    }
+}
@@ -0,0 +1,101 @@
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.locks.LockSupport;
+
+interface Relogio {
+    LocalDateTime agora();
+
+    static Relogio sistema() {
+        return RelogioSistema.INSTANCIA;
+    }
+}
+
+class RelogioSistema implements Relogio {
+    static final RelogioSistema INSTANCIA = new RelogioSistema();
+
+    private final Clock clock = Clock.systemDefaultZone();
+
+    private RelogioSistema() {
+    }
+
+    @Override
+    public LocalDateTime agora() {
+        return LocalDateTime.now(clock);
+    }
+}
+
+class RelogioAjustavel implements Relogio {
+    private volatile LocalDateTime atual;
+
+    public RelogioAjustavel(LocalDateTime inicial) {
+        ajustar(inicial);
+    }
+
+    @Override
+    public LocalDateTime agora() {
+        return atual;
+    }
+
+    public void ajustar(LocalDateTime novoInstante) {
+        if (novoInstante == null) {
+            throw new IllegalArgumentException("O instante do relógio não pode ser nulo.");
+        }
+        this.atual = novoInstante;
+    }
+
+    public void avancar(Duration duracao) {
+        ajustar(atual.plus(duracao));
+    }
+}
+
+/**
+ * Relógio de baixa resolução para caminhos de alta vazão: uma thread daemon lê a fonte a cada intervalo e
+ * publica o valor num campo volátil, de modo que {@link #agora()} é só uma leitura de memória. O valor pode
+ * ficar atrasado em até um intervalo em relação à fonte.
+ */
+class RelogioGrosso implements Relogio, AutoCloseable {
+    private final Relogio fonte;
+    private final long intervaloNanos;
+    private final Thread atualizador;
+    private volatile LocalDateTime atual;
+    private volatile boolean ativo = true;
+
+    public RelogioGrosso(Relogio fonte, Duration intervalo) {
+        if (fonte == null || intervalo == null) {
+            throw new IllegalArgumentException("A fonte e o intervalo do relógio são obrigatórios.");
+        }
+        if (intervalo.isNegative() || intervalo.isZero()) {
+            throw new IllegalArgumentException("O intervalo de atualização deve ser positivo.");
+        }
+        this.fonte = fonte;
+        this.intervaloNanos = intervalo.toNanos();
+        this.atual = fonte.agora();
+        this.atualizador = new Thread(this::atualizar, "relogio-grosso");
+        this.atualizador.setDaemon(true);
+        this.atualizador.start();
+    }
+
+    @Override
+    public LocalDateTime agora() {
+        return atual;
+    }
+
+    private void atualizar() {
+        while (ativo) {
+            LockSupport.parkNanos(this, intervaloNanos);
+            atual = fonte.agora();
+        }
+    }
+
+    @Override
+    public void close() {
+        ativo = false;
+        LockSupport.unpark(atualizador);
+        try {
+            atualizador.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,198 @@
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Roda de temporização hierárquica: {@value #NIVEIS} níveis de {@value #POSICOES} posições, cada nível
+ * cobrindo 64 vezes o intervalo do anterior. Agendar e cancelar são O(1) (listas duplamente encadeadas
+ * intrusivas) e cada pendência ocupa uma única {@link Entrada}. Ao avançar, as posições de níveis
+ * superiores são redistribuídas para os inferiores quando o tick atual cruza a fronteira delas; enquanto os
+ * níveis inferiores estiverem vazios, o avanço salta direto para a próxima fronteira do nível ocupado.
+ * Não é thread-safe; quem a usa deve serializar o acesso.
+ */
+class RodaTemporizadora<T> {
+    static final int BITS_POR_NIVEL = 6;
+    static final int POSICOES = 1 << BITS_POR_NIVEL;
+    static final int NIVEIS = 6;
+    private static final int MASCARA = POSICOES - 1;
+    private static final long ALCANCE_MAXIMO = 1L << (BITS_POR_NIVEL * NIVEIS);
+
+    static final class Entrada<T> {
+        private final T valor;
+        private long tickAlvo;
+        private Entrada<T> anterior;
+        private Entrada<T> proxima;
+        private Balde<T> balde;
+
+        private Entrada(T valor) {
+            this.valor = valor;
+        }
+
+        T getValor() {
+            return valor;
+        }
+
+        boolean isPendente() {
+            return balde != null;
+        }
+    }
+
+    private static final class Balde<T> {
+        private final Entrada<T> sentinela = new Entrada<>(null);
+        private final int nivel;
+
+        private Balde(int nivel) {
+            this.nivel = nivel;
+            sentinela.anterior = sentinela;
+            sentinela.proxima = sentinela;
+        }
+
+        private void adicionar(Entrada<T> entrada) {
+            entrada.balde = this;
+            entrada.proxima = sentinela;
+            entrada.anterior = sentinela.anterior;
+            sentinela.anterior.proxima = entrada;
+            sentinela.anterior = entrada;
+        }
+
+        private static <T> void remover(Entrada<T> entrada) {
+            entrada.anterior.proxima = entrada.proxima;
+            entrada.proxima.anterior = entrada.anterior;
+            entrada.anterior = null;
+            entrada.proxima = null;
+            entrada.balde = null;
+        }
+
+        private Entrada<T> retirarPrimeira() {
+            Entrada<T> primeira = sentinela.proxima;
+            if (primeira == sentinela) {
+                return null;
+            }
+            remover(primeira);
+            return primeira;
+        }
+    }
+
+    private final long resolucaoMillis;
+    private final Balde<T>[][] niveis;
+    private final Balde<T> vencidas = new Balde<>(-1);
+    private final int[] ocupacaoPorNivel = new int[NIVEIS];
+    private long tickAtual;
+    private int pendentes;
+
+    @SuppressWarnings("unchecked")
+    RodaTemporizadora(long resolucaoMillis, long inicioMillis) {
+        if (resolucaoMillis <= 0) {
+            throw new IllegalArgumentException("A resolução deve ser positiva.");
+        }
+        this.resolucaoMillis = resolucaoMillis;
+        this.tickAtual = Math.floorDiv(inicioMillis, resolucaoMillis);
+        this.niveis = (Balde<T>[][]) new Balde<?>[NIVEIS][POSICOES];
+        for (int nivel = 0; nivel < NIVEIS; nivel++) {
+            for (int posicao = 0; posicao < POSICOES; posicao++) {
+                niveis[nivel][posicao] = new Balde<>(nivel);
+            }
+        }
+    }
+
+    Entrada<T> agendar(T valor, long instanteMillis) {
+        Entrada<T> entrada = new Entrada<>(valor);
+        entrada.tickAlvo = Math.floorDiv(instanteMillis, resolucaoMillis);
+        inserir(entrada);
+        pendentes++;
+        return entrada;
+    }
+
+    void reagendar(Entrada<T> entrada, long instanteMillis) {
+        cancelar(entrada);
+        entrada.tickAlvo = Math.floorDiv(instanteMillis, resolucaoMillis);
+        inserir(entrada);
+        pendentes++;
+    }
+
+    boolean cancelar(Entrada<T> entrada) {
+        if (entrada == null || entrada.balde == null) {
+            return false;
+        }
+        desocupar(entrada.balde);
+        Balde.remover(entrada);
+        pendentes--;
+        return true;
+    }
+
+    List<T> avancar(long agoraMillis) {
+        List<T> expiradas = new ArrayList<>();
+        drenar(vencidas, expiradas);
+        long tickDestino = Math.floorDiv(agoraMillis, resolucaoMillis);
+        while (tickAtual < tickDestino) {
+            if (pendentes == 0) {
+                tickAtual = tickDestino;
+                break;
+            }
+            tickAtual = Math.min(tickDestino, proximoTickRelevante());
+            cascatear();
+            drenar(niveis[0][(int) (tickAtual & MASCARA)], expiradas);
+            drenar(vencidas, expiradas);
+        }
+        return expiradas;
+    }
+
+    int getPendentes() {
+        return pendentes;
+    }
+
+    long getResolucaoMillis() {
+        return resolucaoMillis;
+    }
+
+    private long proximoTickRelevante() {
+        int nivel = 0;
+        while (nivel < NIVEIS - 1 && ocupacaoPorNivel[nivel] == 0) {
+            nivel++;
+        }
+        long passo = 1L << (BITS_POR_NIVEL * nivel);
+        return (Math.floorDiv(tickAtual, passo) + 1) * passo;
+    }
+
+    private void desocupar(Balde<T> balde) {
+        if (balde.nivel >= 0) {
+            ocupacaoPorNivel[balde.nivel]--;
+        }
+    }
+
+    private void inserir(Entrada<T> entrada) {
+        long distancia = entrada.tickAlvo - tickAtual;
+        if (distancia <= 0) {
+            vencidas.adicionar(entrada);
+            return;
+        }
+        long alvo = distancia >= ALCANCE_MAXIMO ? tickAtual + ALCANCE_MAXIMO - 1 : entrada.tickAlvo;
+        int nivel = 0;
+        while (nivel < NIVEIS - 1 && (alvo - tickAtual) >= (1L << (BITS_POR_NIVEL * (nivel + 1)))) {
+            nivel++;
+        }
+        int posicao = (int) ((alvo >>> (BITS_POR_NIVEL * nivel)) & MASCARA);
+        niveis[nivel][posicao].adicionar(entrada);
+        ocupacaoPorNivel[nivel]++;
+    }
+
+    private void cascatear() {
+        for (int nivel = 1; nivel < NIVEIS; nivel++) {
+            if ((tickAtual & ((1L << (BITS_POR_NIVEL * nivel)) - 1)) != 0) {
+                return;
+            }
+            Balde<T> balde = niveis[nivel][(int) ((tickAtual >>> (BITS_POR_NIVEL * nivel)) & MASCARA)];
+            for (Entrada<T> entrada = balde.retirarPrimeira(); entrada != null; entrada = balde.retirarPrimeira()) {
+                ocupacaoPorNivel[nivel]--;
+                inserir(entrada);
+            }
+        }
+    }
+
+    private void drenar(Balde<T> balde, List<T> destino) {
+        for (Entrada<T> entrada = balde.retirarPrimeira(); entrada != null; entrada = balde.retirarPrimeira()) {
+            desocupar(balde);
+            pendentes--;
+            destino.add(entrada.valor);
+        }
+    }
+}
@@ -1,9 +1,27 @@
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
 import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 
 class FeedbackException extends Exception {
     public FeedbackException(String message) {
@@ -20,10 +38,17 @@ abstract class Usuario {
     public Usuario(Long id, String nome, String email, String senha) {
         this.id = id;
         this.nome = nome;
-        this.email = email;
+        this.email = normalizarEmail(email);
         this.senha = senha;
     }
 
+    static String normalizarEmail(String email) {
+        return email == null ? null : email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // Só confere se há e-mail e senha preenchidos; usuários reconstruídos da persistência não têm senha.
+    // A autenticação de verdade é DiretorioUsuarios.autenticar.
+    @Deprecated
     public boolean login() {
         return this.email != null && !this.email.isEmpty() && this.senha != null && !this.senha.isEmpty();
     }
@@ -53,7 +78,7 @@ abstract class Usuario {
     }
 
     public void setEmail(String email) {
-        this.email = email.toLowerCase(Locale.ROOT);
+        this.email = normalizarEmail(email);
     }
 
     public void setSenha(String senha) {
@@ -73,44 +98,226 @@ abstract class Usuario {
 
 }
 
+interface OuvinteTecnologiasMentor {
+    void tecnologiaAdicionada(Mentor mentor, Tecnologia tecnologia);
+
+    default void tecnologiaRemovida(Mentor mentor, Tecnologia tecnologia) {
+    }
+}
+
+// Escritas sincronizadas trocam o array de áreas por uma cópia, e a visão lê sem trava o array atual.
+class ContagemAreas {
+    private static final AreaConhecimento[] SEM_AREAS = new AreaConhecimento[0];
+    private static final int[] SEM_CONTAGENS = new int[0];
+
+    private volatile AreaConhecimento[] areas = SEM_AREAS;
+    private int[] contagens = SEM_CONTAGENS;
+    private final List<AreaConhecimento> visao = new AbstractList<>() {
+        @Override
+        public AreaConhecimento get(int indice) {
+            AreaConhecimento[] atuais = areas;
+            Objects.checkIndex(indice, atuais.length);
+            return atuais[indice];
+        }
+
+        @Override
+        public int size() {
+            return areas.length;
+        }
+    };
+
+    public synchronized boolean incrementar(AreaConhecimento area) {
+        AreaConhecimento[] atuais = areas;
+        int indice = indiceDe(atuais, area);
+        if (indice >= 0) {
+            contagens[indice]++;
+            return false;
+        }
+        AreaConhecimento[] novas = Arrays.copyOf(atuais, atuais.length + 1);
+        novas[atuais.length] = area;
+        contagens = Arrays.copyOf(contagens, atuais.length + 1);
+        contagens[atuais.length] = 1;
+        areas = novas;
+        return true;
+    }
+
+    public synchronized boolean decrementar(AreaConhecimento area) {
+        AreaConhecimento[] atuais = areas;
+        int indice = indiceDe(atuais, area);
+        if (indice < 0) {
+            return false;
+        }
+        if (--contagens[indice] > 0) {
+            return false;
+        }
+        if (atuais.length == 1) {
+            contagens = SEM_CONTAGENS;
+            areas = SEM_AREAS;
+            return true;
+        }
+        int restantes = atuais.length - indice - 1;
+        AreaConhecimento[] novas = new AreaConhecimento[atuais.length - 1];
+        int[] novasContagens = new int[atuais.length - 1];
+        System.arraycopy(atuais, 0, novas, 0, indice);
+        System.arraycopy(atuais, indice + 1, novas, indice, restantes);
+        System.arraycopy(contagens, 0, novasContagens, 0, indice);
+        System.arraycopy(contagens, indice + 1, novasContagens, indice, restantes);
+        contagens = novasContagens;
+        areas = novas;
+        return true;
+    }
+
+    public synchronized int contagem(AreaConhecimento area) {
+        int indice = indiceDe(areas, area);
+        return indice < 0 ? 0 : contagens[indice];
+    }
+
+    public List<AreaConhecimento> visao() {
+        return visao;
+    }
+
+    private static int indiceDe(AreaConhecimento[] areas, AreaConhecimento area) {
+        for (int i = 0; i < areas.length; i++) {
+            if (Objects.equals(areas[i], area)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
+
 class Mentor extends Usuario {
+    private static final String HORARIO_INDISPONIVEL = "Horário proposto não está disponível na agenda.";
+
+    private static final int[] SEM_TECNOLOGIAS = new int[0];
+
     private String biografia;
-    private List<Tecnologia> tecnologias;
+    private final CatalogoTecnologias catalogo;
+    private volatile int[] tecnologias = SEM_TECNOLOGIAS;
     private Agenda agenda;
-    private List<SessaoMentoria> minhasSessoes;
+    private IndiceSessoes minhasSessoes;
+    private final ContagemAreas areasConhecimento = new ContagemAreas();
+    private final AvaliacoesMentor avaliacoes = new AvaliacoesMentor();
+    private final List<OuvinteTecnologiasMentor> ouvintesTecnologias = new CopyOnWriteArrayList<>();
+    private final List<OuvinteAvaliacoesMentor> ouvintesAvaliacoes = new CopyOnWriteArrayList<>();
+    private Relogio relogio = Relogio.sistema();
 
     public Mentor(Long id, String nome, String email, String senha, String biografia, Agenda agenda) {
+        this(id, nome, email, senha, biografia, agenda, null);
+    }
+
+    public Mentor(Long id, String nome, String email, String senha, String biografia, Agenda agenda, CatalogoTecnologias catalogo) {
         super(id, nome, email, senha);
         this.biografia = biografia;
-        this.tecnologias = new ArrayList<>();
         this.agenda = agenda;
-        this.minhasSessoes = new ArrayList<>();
+        this.catalogo = catalogo == null ? CatalogoTecnologias.padrao() : catalogo;
+        this.minhasSessoes = new IndiceSessoes();
     }
 
     public void adicionarTecnologia(Tecnologia tecnologia) {
-        if (tecnologia != null && !tecnologias.contains(tecnologia)) {
-            tecnologias.add(tecnologia);
+        if (tecnologia == null) {
+            return;
+        }
+        Tecnologia canonica;
+        synchronized (areasConhecimento) {
+            if (indiceTecnologia(tecnologia.getId()) >= 0) {
+                return;
+            }
+            int ordinal = catalogo.ordinal(tecnologia);
+            int[] atualizadas = Arrays.copyOf(tecnologias, tecnologias.length + 1);
+            atualizadas[atualizadas.length - 1] = ordinal;
+            tecnologias = atualizadas;
+            canonica = catalogo.porOrdinal(ordinal);
+            areasConhecimento.incrementar(canonica.getAreaConhecimento());
+        }
+        for (OuvinteTecnologiasMentor ouvinte : ouvintesTecnologias) {
+            ouvinte.tecnologiaAdicionada(this, canonica);
+        }
+    }
+
+    public void removerTecnologia(Tecnologia tecnologia) {
+        if (tecnologia == null) {
+            return;
+        }
+        Tecnologia canonica;
+        synchronized (areasConhecimento) {
+            int indice = indiceTecnologia(tecnologia.getId());
+            if (indice < 0) {
+                return;
+            }
+            int[] atuais = tecnologias;
+            canonica = catalogo.porOrdinal(atuais[indice]);
+            int[] restantes = new int[atuais.length - 1];
+            System.arraycopy(atuais, 0, restantes, 0, indice);
+            System.arraycopy(atuais, indice + 1, restantes, indice, restantes.length - indice);
+            tecnologias = restantes.length == 0 ? SEM_TECNOLOGIAS : restantes;
+            areasConhecimento.decrementar(canonica.getAreaConhecimento());
+        }
+        for (OuvinteTecnologiasMentor ouvinte : ouvintesTecnologias) {
+            ouvinte.tecnologiaRemovida(this, canonica);
+        }
+    }
+
+    private int indiceTecnologia(Long id) {
+        int[] atuais = tecnologias;
+        for (int i = 0; i < atuais.length; i++) {
+            if (Objects.equals(catalogo.porOrdinal(atuais[i]).getId(), id)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public boolean atuaNaArea(AreaConhecimento area) {
+        return areasConhecimento.contagem(area) > 0;
+    }
+
+    void adicionarOuvinteTecnologias(OuvinteTecnologiasMentor ouvinte) {
+        if (ouvinte != null && !ouvintesTecnologias.contains(ouvinte)) {
+            ouvintesTecnologias.add(ouvinte);
         }
     }
 
     public List<AreaConhecimento> getAreasConhecimento() {
-        if (this.tecnologias.isEmpty()) {
-            return new ArrayList<>();
+        return areasConhecimento.visao();
+    }
+
+    void registrarAvaliacao(int nota, LocalDateTime instante) {
+        avaliacoes.registrar(nota, instante);
+        for (OuvinteAvaliacoesMentor ouvinte : ouvintesAvaliacoes) {
+            ouvinte.avaliacaoRegistrada(this, nota);
+        }
+    }
+
+    void adicionarOuvinteAvaliacoes(OuvinteAvaliacoesMentor ouvinte) {
+        if (ouvinte != null && !ouvintesAvaliacoes.contains(ouvinte)) {
+            ouvintesAvaliacoes.add(ouvinte);
         }
-        return this.tecnologias.stream()
-                .map(Tecnologia::getAreaConhecimento)
-                .distinct()
-                .collect(Collectors.toList());
     }
 
     public void adicionarSessao(SessaoMentoria sessao) {
-        if (sessao != null && !minhasSessoes.contains(sessao)) {
-            minhasSessoes.add(sessao);
+        if (sessao != null) {
+            minhasSessoes.adicionar(sessao);
         }
     }
 
+    public SessaoMentoria buscarSessao(Long id) {
+        return minhasSessoes.buscarPorId(id);
+    }
+
+    public List<SessaoMentoria> getSessoesComStatus(StatusSessao status) {
+        return minhasSessoes.comStatus(status);
+    }
+
+    public List<SessaoMentoria> getSessoesComStatus(String status) {
+        return getSessoesComStatus(StatusSessao.deRotulo(status));
+    }
+
+    public List<SessaoMentoria> getSessoesPendentes() {
+        return getSessoesComStatus(StatusSessao.PENDENTE);
+    }
+
     public String gerenciarDisponibilidadeEAprovarSessao(LocalDateTime horarioProposto, SessaoMentoria sessao) {
-        String statusAprovacao = "Pendente";
         boolean horarioValido = false;
         boolean sessaoExisteEPendente = false;
 
@@ -119,54 +326,132 @@ class Mentor extends Usuario {
         }
 
         if (agenda != null) {
-            for (LocalDateTime horario : agenda.getHorariosDisponiveis()) {
-                if (horario.isEqual(horarioProposto)) {
-                    horarioValido = true;
-                    break;
-                }
-            }
+            horarioValido = agenda.contemHorario(horarioProposto);
         }
 
         if (!horarioValido) {
-            return "Horário proposto não está disponível na agenda.";
+            return HORARIO_INDISPONIVEL;
         }
 
-        for (SessaoMentoria s : minhasSessoes) {
-            if (s.equals(sessao) && s.getStatus().equalsIgnoreCase("Pendente")) {
-                sessaoExisteEPendente = true;
-                break;
-            }
+        SessaoMentoria registrada = minhasSessoes.buscarPorId(sessao.getId());
+        if (registrada != null && registrada.getEstado() == StatusSessao.PENDENTE) {
+            sessaoExisteEPendente = true;
         }
 
         if (!sessaoExisteEPendente) {
             return "Sessão não encontrada ou não está pendente.";
         }
 
-        if (horarioProposto.isAfter(LocalDateTime.now().plusHours(24))) {
-            if (sessao.getMentorado().getNome().startsWith("A")) {
-                statusAprovacao = "Aprovada com Prioridade";
-                sessao.setStatus("Aprovada com Prioridade");
-            } else if (sessao.getMentorado().getNome().startsWith("B")) {
-                statusAprovacao = "Aprovada Normal";
-                sessao.setStatus("Aprovada Normal");
+        LocalDateTime agora = relogio.agora();
+        StatusSessao decisao = decidir(horarioProposto, agora, sessao);
+        if (decisao == null) {
+            return HORARIO_INDISPONIVEL;
+        }
+        sessao.setEstado(decisao);
+
+        if (decisao == StatusSessao.APROVADA_PRIORIDADE) {
+            Eventos.publicar(TipoEvento.APROVACAO_PRIORITARIA, sessao.getId(), getId(), StatusSessao.PENDENTE, decisao, null, agora);
+        } else if (decisao == StatusSessao.RECUSADA) {
+            Eventos.publicar(TipoEvento.PENALIDADE_APLICADA, sessao.getId(), getId(), StatusSessao.PENDENTE, decisao, null, agora);
+        }
+        return resultadoAprovacao(decisao);
+    }
+
+    public List<ResultadoAprovacao> aprovarSessoesEmLote(Collection<PedidoAprovacao> pedidos) {
+        if (pedidos == null) {
+            throw new IllegalArgumentException("A coleção de pedidos é obrigatória.");
+        }
+        PedidoAprovacao[] lote = pedidos.toArray(new PedidoAprovacao[0]);
+        Integer[] ordem = new Integer[lote.length];
+        for (int i = 0; i < lote.length; i++) {
+            ordem[i] = i;
+        }
+        Arrays.sort(ordem, Comparator.comparing((Integer i) -> lote[i] == null ? null : lote[i].getHorarioProposto(),
+                Comparator.nullsFirst(Comparator.naturalOrder())));
+
+        ResultadoAprovacao[] resultados = new ResultadoAprovacao[lote.length];
+        LocalDateTime agora = relogio.agora();
+        Iterator<LocalDateTime> livres = null;
+        LocalDateTime livre = null;
+        int aprovadas = 0;
+        int recusadas = 0;
+        for (Integer indice : ordem) {
+            PedidoAprovacao pedido = lote[indice];
+            if (pedido == null || pedido.getHorarioProposto() == null || pedido.getSessao() == null) {
+                resultados[indice] = new ResultadoAprovacao(pedido, null, "Erro: Horário ou sessão inválidos.");
+                continue;
+            }
+            LocalDateTime horario = pedido.getHorarioProposto();
+            if (livres == null) {
+                livres = agenda == null ? Collections.emptyIterator() : agenda.horariosAPartirDe(horario);
+                livre = livres.hasNext() ? livres.next() : null;
+            }
+            while (livre != null && livre.isBefore(horario)) {
+                livre = livres.hasNext() ? livres.next() : null;
+            }
+            SessaoMentoria sessao = pedido.getSessao();
+            SessaoMentoria registrada = minhasSessoes.buscarPorId(sessao.getId());
+            StatusSessao decisao = null;
+            String mensagem;
+            if (!horario.equals(livre)) {
+                mensagem = HORARIO_INDISPONIVEL;
+            } else if (registrada == null || registrada.getEstado() != StatusSessao.PENDENTE) {
+                mensagem = "Sessão não encontrada ou não está pendente.";
+            } else if ((decisao = decidir(horario, agora, sessao)) == null) {
+                mensagem = HORARIO_INDISPONIVEL;
             } else {
-                statusAprovacao = "Aprovada Condicional";
-                sessao.setStatus("Aprovada Condicional");
+                sessao.setEstado(decisao);
+                mensagem = resultadoAprovacao(decisao);
+                if (decisao == StatusSessao.RECUSADA) {
+                    recusadas++;
+                } else {
+                    aprovadas++;
+                    livre = livres.hasNext() ? livres.next() : null;
+                }
             }
-        } else if (horarioProposto.isBefore(LocalDateTime.now().plusHours(6))) {
-            statusAprovacao = "Recusada (Muito em cima da hora)";
-            sessao.setStatus("Recusada");
-        } else {
-            statusAprovacao = "Aprovada (Revisar disponibilidade)";
-            sessao.setStatus("Aprovada");
+            resultados[indice] = new ResultadoAprovacao(pedido, decisao, mensagem);
         }
+        if (lote.length > 0) {
+            Eventos.publicar(TipoEvento.APROVACAO_EM_LOTE, null, getId(), null, null,
+                    lote.length + " pedidos: " + aprovadas + " aprovados, " + recusadas + " recusados, "
+                            + (lote.length - aprovadas - recusadas) + " não atendidos", agora);
+        }
+        return Arrays.asList(resultados);
+    }
 
-        if (statusAprovacao.contains("Prioridade")) {
-            System.out.println("Sessão aprovada com prioridade para mentorado ");
-        } else if (statusAprovacao.contains("Recusada")) {
-            System.out.println("Penalidade aplicada ao mentor por sessão recusada.");
+    private StatusSessao decidir(LocalDateTime horarioProposto, LocalDateTime agora, SessaoMentoria sessao) {
+        if (horarioProposto.isBefore(agora.plusHours(6))) {
+            return StatusSessao.RECUSADA;
+        }
+        if (!agenda.reservar(horarioProposto, sessao)) {
+            return null;
+        }
+        if (!horarioProposto.isAfter(agora.plusHours(24))) {
+            return StatusSessao.APROVADA;
+        }
+        String nomeMentorado = sessao.getMentorado().getNome();
+        if (nomeMentorado.startsWith("A")) {
+            return StatusSessao.APROVADA_PRIORIDADE;
+        }
+        if (nomeMentorado.startsWith("B")) {
+            return StatusSessao.APROVADA_NORMAL;
+        }
+        return StatusSessao.APROVADA_CONDICIONAL;
+    }
+
+    private static String resultadoAprovacao(StatusSessao decisao) {
+        switch (decisao) {
+            case APROVADA_PRIORIDADE:
+                return "Status da aprovação: Aprovada com Prioridade";
+            case APROVADA_NORMAL:
+                return "Status da aprovação: Aprovada Normal";
+            case APROVADA_CONDICIONAL:
+                return "Status da aprovação: Aprovada Condicional";
+            case RECUSADA:
+                return "Status da aprovação: Recusada (Muito em cima da hora)";
+            default:
+                return "Status da aprovação: Aprovada (Revisar disponibilidade)";
         }
-        return "Status da aprovação: " + statusAprovacao;
     }
 
     public String getBiografia() {
@@ -174,15 +459,28 @@ class Mentor extends Usuario {
     }
 
     public List<Tecnologia> getTecnologias() {
-        return new ArrayList<>(tecnologias);
+        int[] atuais = tecnologias;
+        List<Tecnologia> resolvidas = new ArrayList<>(atuais.length);
+        for (int ordinal : atuais) {
+            resolvidas.add(catalogo.porOrdinal(ordinal));
+        }
+        return resolvidas;
     }
 
     public Agenda getAgenda() {
         return agenda;
     }
 
+    CatalogoTecnologias getCatalogo() {
+        return catalogo;
+    }
+
+    public AvaliacoesMentor getAvaliacoes() {
+        return avaliacoes;
+    }
+
     public List<SessaoMentoria> getMinhasSessoes() {
-        return new ArrayList<>(minhasSessoes);
+        return minhasSessoes.todas();
     }
 
     public void setBiografia(String biografia) {
@@ -193,6 +491,10 @@ class Mentor extends Usuario {
         this.agenda = agenda;
     }
 
+    void setRelogio(Relogio relogio) {
+        this.relogio = relogio == null ? Relogio.sistema() : relogio;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -233,46 +535,149 @@ class Mentorado extends Usuario {
     }
 }
 
+enum StatusSessao {
+    PENDENTE("Pendente"),
+    APROVADA("Aprovada"),
+    APROVADA_PRIORIDADE("Aprovada com Prioridade"),
+    APROVADA_NORMAL("Aprovada Normal"),
+    APROVADA_CONDICIONAL("Aprovada Condicional"),
+    RECUSADA("Recusada"),
+    INICIADA("Iniciada"),
+    FINALIZADA("Finalizada"),
+    CANCELADA("Cancelada");
+
+    private static final StatusSessao[] VALORES = values();
+    private static final int[] TRANSICOES = new int[VALORES.length];
+    private static final Map<String, StatusSessao> POR_ROTULO = new HashMap<>();
+
+    static {
+        permitir(PENDENTE, APROVADA, APROVADA_PRIORIDADE, APROVADA_NORMAL, APROVADA_CONDICIONAL, RECUSADA, CANCELADA);
+        permitir(APROVADA, INICIADA, CANCELADA);
+        permitir(APROVADA_PRIORIDADE, INICIADA, CANCELADA);
+        permitir(APROVADA_NORMAL, INICIADA, CANCELADA);
+        permitir(APROVADA_CONDICIONAL, INICIADA, CANCELADA);
+        permitir(INICIADA, FINALIZADA);
+        for (StatusSessao status : VALORES) {
+            POR_ROTULO.put(status.rotulo.toLowerCase(Locale.ROOT), status);
+        }
+    }
+
+    private final String rotulo;
+
+    StatusSessao(String rotulo) {
+        this.rotulo = rotulo;
+    }
+
+    private static void permitir(StatusSessao origem, StatusSessao... destinos) {
+        for (StatusSessao destino : destinos) {
+            TRANSICOES[origem.ordinal()] |= destino.mascara();
+        }
+    }
+
+    int mascara() {
+        return 1 << ordinal();
+    }
+
+    public boolean podeTransicionarPara(StatusSessao destino) {
+        return destino != null && (TRANSICOES[ordinal()] & destino.mascara()) != 0;
+    }
+
+    public boolean isAprovada() {
+        return podeTransicionarPara(INICIADA);
+    }
+
+    public String getRotulo() {
+        return rotulo;
+    }
+
+    public static StatusSessao deRotulo(String rotulo) {
+        if (rotulo == null) {
+            return null;
+        }
+        return POR_ROTULO.get(rotulo.toLowerCase(Locale.ROOT));
+    }
+
+    public static StatusSessao porOrdinal(int ordinal) {
+        return VALORES[ordinal];
+    }
+
+    @Override
+    public String toString() {
+        return rotulo;
+    }
+}
+
 class SessaoMentoria {
+    static final Duration ANTECEDENCIA_INICIO = Duration.ofMinutes(15);
+    static final Duration TOLERANCIA_INICIO = Duration.ofMinutes(60);
+    static final Duration DURACAO_MINIMA = Duration.ofMinutes(30);
+
     private Long id;
     private Mentor mentor;
     private Mentorado mentorado;
     private LocalDateTime dataHora;
-    private String status;
-    private List<Feedback> feedbacks;
+    private volatile StatusSessao estado;
+    private final List<Feedback> feedbacks = new CopyOnWriteArrayList<>();
+    private final ConcurrentMap<Usuario, Feedback> feedbacksPorAutor = new ConcurrentHashMap<>();
+    private final CopyOnWriteArrayList<OuvinteStatusSessao> ouvintes = new CopyOnWriteArrayList<>();
+    private final CopyOnWriteArrayList<OuvinteFeedbackSessao> ouvintesFeedback = new CopyOnWriteArrayList<>();
+    private Relogio relogio = Relogio.sistema();
+
+    public SessaoMentoria(Mentor mentor, Mentorado mentorado, LocalDateTime dataHora) {
+        this(GeradorIds.padrao().proximoId(), mentor, mentorado, dataHora);
+    }
 
     public SessaoMentoria(Long id, Mentor mentor, Mentorado mentorado, LocalDateTime dataHora) {
         this.id = id;
         this.mentor = mentor;
         this.mentorado = mentorado;
         this.dataHora = dataHora;
-        this.status = "Pendente";
-        this.feedbacks = new ArrayList<>();
+        this.estado = StatusSessao.PENDENTE;
     }
 
     public void iniciarSessao() {
-        if (this.status.equalsIgnoreCase("Aprovada") && LocalDateTime.now().isAfter(dataHora.minusMinutes(15)) && LocalDateTime.now().isBefore(dataHora.plusMinutes(60))) {
-            this.status = "Iniciada";
-            System.out.println("Sessão " + id + " iniciada com sucesso.");
+        iniciarSessao(relogio.agora());
+    }
+
+    void iniciarSessao(LocalDateTime agora) {
+        StatusSessao statusAtual = this.estado;
+        if (statusAtual.podeTransicionarPara(StatusSessao.INICIADA) && janelaPermite(StatusSessao.INICIADA, agora) && agora.isBefore(dataHora.plus(TOLERANCIA_INICIO))) {
+            alterarEstado(StatusSessao.INICIADA);
+            publicar(TipoEvento.SESSAO_INICIADA, statusAtual, StatusSessao.INICIADA, null, agora);
         } else {
-            System.out.println("Sessão " + id + " não pode ser iniciada. Verifique o status e o horário.");
+            publicar(TipoEvento.TRANSICAO_REJEITADA, statusAtual, StatusSessao.INICIADA, null, agora);
         }
     }
 
     public void adicionarFeedback(Usuario autor, int nota, String comentario) throws FeedbackException {
-        if (!this.status.equalsIgnoreCase("Finalizada")) {
+        adicionarFeedback(GeradorIds.padrao().proximoId(), autor, nota, comentario);
+    }
+
+    Feedback adicionarFeedback(long feedbackId, Usuario autor, int nota, String comentario) throws FeedbackException {
+        return adicionarFeedback(feedbackId, autor, nota, comentario, relogio.agora());
+    }
+
+    Feedback adicionarFeedback(long feedbackId, Usuario autor, int nota, String comentario, LocalDateTime instante) throws FeedbackException {
+        if (this.estado != StatusSessao.FINALIZADA) {
             throw new IllegalStateException("Só é possível dar feedback após a sessão ser finalizada.");
         }
 
-        for (Feedback f : this.feedbacks) {
-            if (f.getAutor().equals(autor)) {
-                throw new FeedbackException("Este usuário já forneceu um feedback para esta sessão.");
-            }
+        if (autor != null && feedbacksPorAutor.containsKey(autor)) {
+            throw new FeedbackException("Este usuário já forneceu um feedback para esta sessão.");
         }
 
-        long feedbackId = System.currentTimeMillis();
-        Feedback novoFeedback = new Feedback(feedbackId, this, autor, nota, comentario);
+        Feedback novoFeedback = new Feedback(feedbackId, this, autor, nota, comentario, instante);
+        if (feedbacksPorAutor.putIfAbsent(autor, novoFeedback) != null) {
+            throw new FeedbackException("Este usuário já forneceu um feedback para esta sessão.");
+        }
         this.feedbacks.add(novoFeedback);
+        if (mentor != null && autor.equals(mentorado)) {
+            mentor.registrarAvaliacao(nota, novoFeedback.getInstante());
+        }
+        for (OuvinteFeedbackSessao ouvinte : ouvintesFeedback) {
+            ouvinte.feedbackRegistrado(novoFeedback);
+        }
+        return novoFeedback;
     }
 
     public List<Feedback> getFeedbacks() {
@@ -284,76 +689,81 @@ class SessaoMentoria {
     }
 
     public void finalizarSessao() {
-        if (this.status.equalsIgnoreCase("Iniciada") && LocalDateTime.now().isAfter(dataHora.plusMinutes(30))) {
-            this.status = "Finalizada";
-            System.out.println("Sessão " + id + " finalizada com sucesso.");
+        finalizarSessao(relogio.agora());
+    }
+
+    void finalizarSessao(LocalDateTime agora) {
+        StatusSessao statusAtual = this.estado;
+        if (statusAtual.podeTransicionarPara(StatusSessao.FINALIZADA) && janelaPermite(StatusSessao.FINALIZADA, agora)) {
+            alterarEstado(StatusSessao.FINALIZADA);
+            publicar(TipoEvento.SESSAO_FINALIZADA, statusAtual, StatusSessao.FINALIZADA, null, agora);
         } else {
-            System.out.println("Sessão " + id + " não pode ser finalizada. Verifique o status e o horário.");
+            publicar(TipoEvento.TRANSICAO_REJEITADA, statusAtual, StatusSessao.FINALIZADA, null, agora);
         }
     }
 
     public boolean atualizarStatusSessao(String novoStatus, String motivo) {
         if (novoStatus == null || novoStatus.trim().isEmpty()) {
-            System.out.println("Novo status não pode ser nulo ou vazio.");
+            publicar(TipoEvento.STATUS_INVALIDO, estado, null, null, relogio.agora());
             return false;
         }
 
-        String statusAtual = this.status;
+        StatusSessao destino = StatusSessao.deRotulo(novoStatus);
+        if (destino == null) {
+            publicar(TipoEvento.STATUS_INVALIDO, estado, null, novoStatus, relogio.agora());
+            return false;
+        }
+        return transicionarPara(destino, motivo);
+    }
 
-        switch (novoStatus.toLowerCase()) {
-            case "aprovada":
-                if (statusAtual.equalsIgnoreCase("Pendente")) {
-                    this.status = "Aprovada";
-                    System.out.println("Sessão " + id + " aprovada com sucesso.");
-                    return true;
-                } else {
-                    System.out.println("Sessão " + id + " não pode ser aprovada. Status atual: " + statusAtual);
-                    return false;
-                }
+    public boolean transicionarPara(StatusSessao novoStatus, String motivo) {
+        return transicionarPara(novoStatus, motivo, relogio.agora());
+    }
 
-            case "recusada":
-                if (statusAtual.equalsIgnoreCase("Pendente")) {
-                    this.status = "Recusada";
-                    System.out.println("Sessão " + id + " recusada. Motivo: " + motivo);
-                    return true;
-                } else {
-                    System.out.println("Sessão " + id + " não pode ser recusada. Status atual: " + statusAtual);
-                    return false;
-                }
+    boolean transicionarPara(StatusSessao novoStatus, String motivo, LocalDateTime agora) {
+        if (novoStatus == null) {
+            publicar(TipoEvento.STATUS_INVALIDO, estado, null, null, agora);
+            return false;
+        }
 
-            case "iniciada":
-                if (statusAtual.equalsIgnoreCase("Aprovada") && LocalDateTime.now().isAfter(dataHora.minusMinutes(15))) {
-                    this.status = "Iniciada";
-                    System.out.println("Sessão " + id + " iniciada com sucesso.");
-                    return true;
-                } else {
-                    System.out.println("Sessão " + id + " não pode ser iniciada. Status atual: " + statusAtual);
-                    return false;
-                }
+        StatusSessao statusAtual = this.estado;
+        if (!statusAtual.podeTransicionarPara(novoStatus) || !janelaPermite(novoStatus, agora)) {
+            publicar(TipoEvento.TRANSICAO_REJEITADA, statusAtual, novoStatus, motivo, agora);
+            return false;
+        }
 
-            case "finalizada":
-                if (statusAtual.equalsIgnoreCase("Iniciada") && LocalDateTime.now().isAfter(dataHora.plusMinutes(30))) {
-                    this.status = "Finalizada";
-                    System.out.println("Sessão " + id + " finalizada com sucesso.");
-                    return true;
-                } else {
-                    System.out.println("Não é possível finalizar a sessão. Status: " + statusAtual + " ou duração insuficiente.");
-                    return false;
-                }
+        alterarEstado(novoStatus);
+        publicar(tipoEventoDe(novoStatus), statusAtual, novoStatus, motivo, agora);
+        return true;
+    }
+
+    private static TipoEvento tipoEventoDe(StatusSessao status) {
+        switch (status) {
+            case INICIADA:
+                return TipoEvento.SESSAO_INICIADA;
+            case FINALIZADA:
+                return TipoEvento.SESSAO_FINALIZADA;
+            case RECUSADA:
+                return TipoEvento.SESSAO_RECUSADA;
+            case CANCELADA:
+                return TipoEvento.SESSAO_CANCELADA;
+            default:
+                return TipoEvento.SESSAO_APROVADA;
+        }
+    }
 
-            case "cancelada":
-                if (statusAtual.equalsIgnoreCase("Pendente") || statusAtual.equalsIgnoreCase("Aprovada")) {
-                    this.status = "Cancelada";
-                    System.out.println("Sessão " + id + " cancelada. Motivo: " + (motivo != null ? motivo : ""));
-                    return true;
-                } else {
-                    System.out.println("Não é possível cancelar uma sessão com status " + statusAtual);
-                    return false;
-                }
+    private void publicar(TipoEvento tipo, StatusSessao anterior, StatusSessao novo, String detalhe, LocalDateTime agora) {
+        Eventos.publicar(tipo, id, mentor != null ? mentor.getId() : null, anterior, novo, detalhe, agora);
+    }
 
+    private boolean janelaPermite(StatusSessao novoStatus, LocalDateTime agora) {
+        switch (novoStatus) {
+            case INICIADA:
+                return agora.isAfter(dataHora.minus(ANTECEDENCIA_INICIO));
+            case FINALIZADA:
+                return agora.isAfter(dataHora.plus(DURACAO_MINIMA));
             default:
-                System.out.println("Status desconhecido: " + novoStatus);
-                return false;
+                return true;
         }
     }
 
@@ -374,7 +784,11 @@ class SessaoMentoria {
     }
 
     public String getStatus() {
-        return status;
+        return estado.getRotulo();
+    }
+
+    public StatusSessao getEstado() {
+        return estado;
     }
 
     public void setId(Long id) {
@@ -393,8 +807,45 @@ class SessaoMentoria {
         this.dataHora = dataHora;
     }
 
+    void setRelogio(Relogio relogio) {
+        this.relogio = relogio == null ? Relogio.sistema() : relogio;
+    }
+
     public void setStatus(String status) {
-        this.status = status;
+        StatusSessao novoEstado = StatusSessao.deRotulo(status);
+        if (novoEstado == null) {
+            throw new IllegalArgumentException("Status desconhecido: " + status);
+        }
+        alterarEstado(novoEstado);
+    }
+
+    public void setEstado(StatusSessao estado) {
+        if (estado == null) {
+            throw new IllegalArgumentException("O status da sessão não pode ser nulo.");
+        }
+        alterarEstado(estado);
+    }
+
+    void adicionarOuvinte(OuvinteStatusSessao ouvinte) {
+        if (ouvinte != null) {
+            ouvintes.addIfAbsent(ouvinte);
+        }
+    }
+
+    void adicionarOuvinteFeedback(OuvinteFeedbackSessao ouvinte) {
+        if (ouvinte != null) {
+            ouvintesFeedback.addIfAbsent(ouvinte);
+        }
+    }
+
+    private void alterarEstado(StatusSessao novoEstado) {
+        StatusSessao anterior = this.estado;
+        this.estado = novoEstado;
+        if (anterior != novoEstado) {
+            for (OuvinteStatusSessao ouvinte : ouvintes) {
+                ouvinte.statusAlterado(this, anterior);
+            }
+        }
     }
 
     @Override
@@ -411,28 +862,135 @@ class SessaoMentoria {
     }
 }
 
+interface OuvinteStatusSessao {
+    void statusAlterado(SessaoMentoria sessao, StatusSessao statusAnterior);
+}
+
+interface OuvinteFeedbackSessao {
+    void feedbackRegistrado(Feedback feedback);
+}
+
+// Sincronizado: os ouvintes de status escrevem aqui de qualquer thread, sem a trava do mentor.
+class IndiceSessoes implements OuvinteStatusSessao {
+    private final Map<Long, SessaoMentoria> porId = new LinkedHashMap<>();
+    private final Map<StatusSessao, Map<Long, SessaoMentoria>> porStatus = new EnumMap<>(StatusSessao.class);
+
+    public synchronized boolean adicionar(SessaoMentoria sessao) {
+        if (sessao == null || porId.containsKey(sessao.getId())) {
+            return false;
+        }
+        porId.put(sessao.getId(), sessao);
+        if (sessao.getEstado() != null) {
+            balde(sessao.getEstado()).put(sessao.getId(), sessao);
+        }
+        sessao.adicionarOuvinte(this);
+        return true;
+    }
+
+    public synchronized SessaoMentoria buscarPorId(Long id) {
+        return porId.get(id);
+    }
+
+    public synchronized List<SessaoMentoria> comStatus(StatusSessao status) {
+        Map<Long, SessaoMentoria> sessoes = status == null ? null : porStatus.get(status);
+        return sessoes == null ? new ArrayList<>() : new ArrayList<>(sessoes.values());
+    }
+
+    public synchronized List<SessaoMentoria> todas() {
+        return new ArrayList<>(porId.values());
+    }
+
+    public synchronized int tamanho() {
+        return porId.size();
+    }
+
+    @Override
+    public synchronized void statusAlterado(SessaoMentoria sessao, StatusSessao statusAnterior) {
+        if (porId.get(sessao.getId()) != sessao) {
+            return;
+        }
+        Map<Long, SessaoMentoria> anterior = statusAnterior == null ? null : porStatus.get(statusAnterior);
+        if (anterior != null) {
+            anterior.remove(sessao.getId());
+        }
+        balde(sessao.getEstado()).put(sessao.getId(), sessao);
+    }
+
+    private Map<Long, SessaoMentoria> balde(StatusSessao status) {
+        return porStatus.computeIfAbsent(status, k -> new LinkedHashMap<>());
+    }
+}
+
+interface OuvinteMetasPlano {
+    void metaAdicionada(PlanoEstudo plano, Meta meta);
+}
+
 class PlanoEstudo {
     private Long id;
-    private List<Meta> metas;
+    private final Set<Meta> metas = new LinkedHashSet<>();
+    private final AtomicInteger totalMetas = new AtomicInteger();
+    private final AtomicInteger metasConcluidas = new AtomicInteger();
+    private final List<OuvinteMetasPlano> ouvintesMetas = new CopyOnWriteArrayList<>();
 
     public PlanoEstudo(Long id) {
         this.id = id;
-        this.metas = new ArrayList<>();
     }
 
     public void adicionarMeta(Meta meta) {
-        if (meta != null && !metas.contains(meta)) {
-            metas.add(meta);
+        if (meta == null) {
+            return;
+        }
+        synchronized (metas) {
+            if (!metas.add(meta)) {
+                return;
+            }
+        }
+        totalMetas.incrementAndGet();
+        if (meta.vincularPlano(this)) {
+            metasConcluidas.incrementAndGet();
+        }
+        for (OuvinteMetasPlano ouvinte : ouvintesMetas) {
+            ouvinte.metaAdicionada(this, meta);
+        }
+    }
+
+    void adicionarOuvinteMetas(OuvinteMetasPlano ouvinte) {
+        if (ouvinte != null && !ouvintesMetas.contains(ouvinte)) {
+            ouvintesMetas.add(ouvinte);
+        }
+    }
+
+    void conclusaoDeMetaAlterada(boolean concluida) {
+        if (concluida) {
+            metasConcluidas.incrementAndGet();
+        } else {
+            metasConcluidas.decrementAndGet();
         }
     }
 
     public double avaliarProgresso() {
-        if (metas.isEmpty()) {
+        int total = totalMetas.get();
+        if (total == 0) {
             return 0.0;
         }
+        return (double) metasConcluidas.get() / total * 100.0;
+    }
+
+    public static Map<Mentorado, Double> avaliarProgresso(Collection<Mentorado> mentorados) {
+        Map<Mentorado, Double> progresso = new LinkedHashMap<>();
+        for (Mentorado mentorado : mentorados) {
+            PlanoEstudo plano = mentorado.getPlanoEstudo();
+            progresso.put(mentorado, plano == null ? 0.0 : plano.avaliarProgresso());
+        }
+        return progresso;
+    }
 
-        long metasConcluidas = metas.stream().filter(m -> "Concluída".equalsIgnoreCase(m.getStatus())).count();
-        return (double) metasConcluidas / metas.size() * 100.0;
+    public int getTotalMetas() {
+        return totalMetas.get();
+    }
+
+    public int getMetasConcluidas() {
+        return metasConcluidas.get();
     }
 
     public Long getId() {
@@ -440,7 +998,9 @@ class PlanoEstudo {
     }
 
     public List<Meta> getMetas() {
-        return new ArrayList<>(metas);
+        synchronized (metas) {
+            return new ArrayList<>(metas);
+        }
     }
 
     public void setId(Long id) {
@@ -461,23 +1021,66 @@ class PlanoEstudo {
     }
 }
 
+interface OuvintePrazoMeta {
+    void prazoAlterado(Meta meta);
+}
+
+interface OuvinteStatusMeta {
+    void statusMetaAlterado(Meta meta);
+}
+
 class Meta {
     private Long id;
     private String descricao;
     private String status;
     private LocalDateTime prazo;
+    private boolean concluida;
+    private final List<PlanoEstudo> planos = new CopyOnWriteArrayList<>();
+    private final List<OuvintePrazoMeta> ouvintesPrazo = new CopyOnWriteArrayList<>();
+    private final List<OuvinteStatusMeta> ouvintesStatus = new CopyOnWriteArrayList<>();
+
+    public Meta(String descricao, String status, LocalDateTime prazo) {
+        this(GeradorIds.padrao().proximoId(), descricao, status, prazo);
+    }
 
     public Meta(Long id, String descricao, String status, LocalDateTime prazo) {
         this.id = id;
         this.descricao = descricao;
         this.status = status;
+        this.concluida = statusConcluido(status);
         this.prazo = prazo;
     }
 
     public void atualizarStatus(String novoStatus) {
         if (novoStatus != null && !novoStatus.trim().isEmpty()) {
-            this.status = novoStatus;
+            setStatus(novoStatus);
+        }
+    }
+
+    private synchronized boolean alterarStatus(String novoStatus) {
+        boolean alterado = !Objects.equals(this.status, novoStatus);
+        this.status = novoStatus;
+        boolean agoraConcluida = statusConcluido(novoStatus);
+        if (agoraConcluida != concluida) {
+            concluida = agoraConcluida;
+            for (PlanoEstudo plano : planos) {
+                plano.conclusaoDeMetaAlterada(agoraConcluida);
+            }
         }
+        return alterado;
+    }
+
+    synchronized boolean vincularPlano(PlanoEstudo plano) {
+        planos.add(plano);
+        return concluida;
+    }
+
+    private static boolean statusConcluido(String status) {
+        return "Concluída".equalsIgnoreCase(status);
+    }
+
+    public synchronized boolean isConcluida() {
+        return concluida;
     }
 
     public Long getId() {
@@ -505,11 +1108,41 @@ class Meta {
     }
 
     public void setStatus(String status) {
-        this.status = status;
+        if (alterarStatus(status)) {
+            for (OuvinteStatusMeta ouvinte : ouvintesStatus) {
+                ouvinte.statusMetaAlterado(this);
+            }
+        }
     }
 
     public void setPrazo(LocalDateTime prazo) {
+        boolean alterado = !Objects.equals(this.prazo, prazo);
         this.prazo = prazo;
+        if (alterado) {
+            for (OuvintePrazoMeta ouvinte : ouvintesPrazo) {
+                ouvinte.prazoAlterado(this);
+            }
+        }
+    }
+
+    void adicionarOuvintePrazo(OuvintePrazoMeta ouvinte) {
+        if (ouvinte != null && !ouvintesPrazo.contains(ouvinte)) {
+            ouvintesPrazo.add(ouvinte);
+        }
+    }
+
+    void removerOuvintePrazo(OuvintePrazoMeta ouvinte) {
+        ouvintesPrazo.remove(ouvinte);
+    }
+
+    void adicionarOuvinteStatus(OuvinteStatusMeta ouvinte) {
+        if (ouvinte != null && !ouvintesStatus.contains(ouvinte)) {
+            ouvintesStatus.add(ouvinte);
+        }
+    }
+
+    void removerOuvinteStatus(OuvinteStatusMeta ouvinte) {
+        ouvintesStatus.remove(ouvinte);
     }
 
     @Override
@@ -532,8 +1165,17 @@ class Feedback {
     private Usuario autor;
     private Avaliacao avaliacao;
     private String comentario;
+    private LocalDateTime instante;
+
+    public Feedback(SessaoMentoria sessao, Usuario autor, int nota, String comentario) throws FeedbackException {
+        this(GeradorIds.padrao().proximoId(), sessao, autor, nota, comentario);
+    }
 
     public Feedback(Long id, SessaoMentoria sessao, Usuario autor, int nota, String comentario) throws FeedbackException {
+        this(id, sessao, autor, nota, comentario, null);
+    }
+
+    public Feedback(Long id, SessaoMentoria sessao, Usuario autor, int nota, String comentario, LocalDateTime instante) throws FeedbackException {
         if (sessao == null) {
             throw new IllegalArgumentException("O Feedback deve estar associado a uma sessão.");
         }
@@ -556,6 +1198,7 @@ class Feedback {
         this.comentario = comentario;
         this.autor = autor;
         this.avaliacao = new Avaliacao(null, nota);
+        this.instante = instante == null ? Relogio.sistema().agora() : instante;
     }
 
     public Usuario getAutor() {
@@ -578,6 +1221,10 @@ class Feedback {
         return comentario;
     }
 
+    public LocalDateTime getInstante() {
+        return instante;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -644,6 +1291,10 @@ class Mensagem {
     private String conteudo;
     private LocalDateTime dataEnvio;
 
+    public Mensagem(Usuario remetente, Usuario destinatario, String conteudo, LocalDateTime dataEnvio) {
+        this(GeradorIds.padrao().proximoId(), remetente, destinatario, conteudo, dataEnvio);
+    }
+
     public Mensagem(Long id, Usuario remetente, Usuario destinatario, String conteudo, LocalDateTime dataEnvio) {
         if (remetente == null || destinatario == null || conteudo == null || dataEnvio == null) {
             throw new IllegalArgumentException("Todos os campos devem ser preenchidos.");
@@ -709,23 +1360,158 @@ class Mensagem {
     }
 }
 
-class Agenda {
+interface OuvinteReservasAgenda {
+    void horarioReservado(Agenda agenda, LocalDateTime horario, SessaoMentoria sessao);
+
+    void reservaLiberada(Agenda agenda, LocalDateTime horario, SessaoMentoria sessao);
+}
+
+interface OuvinteHorariosAgenda {
+    void horarioAdicionado(Agenda agenda, LocalDateTime horario);
+
+    void horarioRemovido(Agenda agenda, LocalDateTime horario);
+}
+
+class Agenda implements OuvinteStatusSessao {
     private Long id;
-    private List<LocalDateTime> horariosDisponiveis;
+    private NavigableSet<LocalDateTime> horariosDisponiveis;
+    private final ConcurrentMap<LocalDateTime, SessaoMentoria> reservas = new ConcurrentHashMap<>();
+    private final ConcurrentMap<SessaoMentoria, LocalDateTime> horariosReservados = new ConcurrentHashMap<>();
+    private final List<OuvinteReservasAgenda> ouvintesReservas = new CopyOnWriteArrayList<>();
+    private final List<OuvinteHorariosAgenda> ouvintesHorarios = new CopyOnWriteArrayList<>();
 
     public Agenda(Long id) {
         this.id = id;
-        this.horariosDisponiveis = new ArrayList<>();
+        this.horariosDisponiveis = new ConcurrentSkipListSet<>();
+    }
+
+    public boolean reservar(LocalDateTime horario, SessaoMentoria sessao) {
+        if (horario == null || sessao == null) {
+            return false;
+        }
+        if (!horariosDisponiveis.remove(horario)) {
+            return sessao.equals(reservas.get(horario));
+        }
+        SessaoMentoria titular = reservas.putIfAbsent(horario, sessao);
+        if (titular != null) {
+            return titular.equals(sessao);
+        }
+        LocalDateTime anterior = horariosReservados.put(sessao, horario);
+        sessao.adicionarOuvinte(this);
+        for (OuvinteReservasAgenda ouvinte : ouvintesReservas) {
+            ouvinte.horarioReservado(this, horario, sessao);
+        }
+        if (anterior != null && reservas.remove(anterior, sessao)) {
+            horariosDisponiveis.add(anterior);
+            for (OuvinteReservasAgenda ouvinte : ouvintesReservas) {
+                ouvinte.reservaLiberada(this, anterior, sessao);
+            }
+        }
+        return true;
+    }
+
+    public boolean liberarReserva(SessaoMentoria sessao) {
+        LocalDateTime horario = sessao == null ? null : horariosReservados.remove(sessao);
+        if (horario == null || !reservas.remove(horario, sessao)) {
+            return false;
+        }
+        horariosDisponiveis.add(horario);
+        for (OuvinteReservasAgenda ouvinte : ouvintesReservas) {
+            ouvinte.reservaLiberada(this, horario, sessao);
+        }
+        return true;
+    }
+
+    public SessaoMentoria reservaDe(LocalDateTime horario) {
+        return horario == null ? null : reservas.get(horario);
+    }
+
+    public LocalDateTime horarioReservadoPara(SessaoMentoria sessao) {
+        return sessao == null ? null : horariosReservados.get(sessao);
+    }
+
+    public List<LocalDateTime> getHorariosReservados() {
+        List<LocalDateTime> reservados = new ArrayList<>(reservas.keySet());
+        Collections.sort(reservados);
+        return reservados;
+    }
+
+    void adicionarOuvinteReservas(OuvinteReservasAgenda ouvinte) {
+        if (ouvinte != null && !ouvintesReservas.contains(ouvinte)) {
+            ouvintesReservas.add(ouvinte);
+        }
+    }
+
+    void adicionarOuvinteHorarios(OuvinteHorariosAgenda ouvinte) {
+        if (ouvinte != null && !ouvintesHorarios.contains(ouvinte)) {
+            ouvintesHorarios.add(ouvinte);
+        }
+    }
+
+    public int quantidadeReservas() {
+        return reservas.size();
+    }
+
+    @Override
+    public void statusAlterado(SessaoMentoria sessao, StatusSessao statusAnterior) {
+        StatusSessao atual = sessao.getEstado();
+        if (atual == StatusSessao.RECUSADA || atual == StatusSessao.CANCELADA) {
+            liberarReserva(sessao);
+        }
     }
 
     public void adicionarHorario(LocalDateTime horario) {
-        if (horario != null && !horariosDisponiveis.contains(horario)) {
-            horariosDisponiveis.add(horario);
+        if (horario != null && !reservas.containsKey(horario) && horariosDisponiveis.add(horario)) {
+            for (OuvinteHorariosAgenda ouvinte : ouvintesHorarios) {
+                ouvinte.horarioAdicionado(this, horario);
+            }
         }
     }
 
     public void removerHorario(LocalDateTime horario) {
-        horariosDisponiveis.remove(horario);
+        if (horario != null && horariosDisponiveis.remove(horario)) {
+            for (OuvinteHorariosAgenda ouvinte : ouvintesHorarios) {
+                ouvinte.horarioRemovido(this, horario);
+            }
+        }
+    }
+
+    public boolean contemHorario(LocalDateTime horario) {
+        return horario != null && horariosDisponiveis.contains(horario);
+    }
+
+    public Iterator<LocalDateTime> horariosAPartirDe(LocalDateTime inicio) {
+        if (inicio == null) {
+            return Collections.emptyIterator();
+        }
+        return Collections.unmodifiableNavigableSet(horariosDisponiveis.tailSet(inicio, true)).iterator();
+    }
+
+    public LocalDateTime proximoHorarioApos(LocalDateTime referencia) {
+        if (referencia == null) {
+            return null;
+        }
+        return horariosDisponiveis.higher(referencia);
+    }
+
+    public NavigableSet<LocalDateTime> horariosEntre(LocalDateTime inicio, LocalDateTime fim) {
+        if (inicio == null || fim == null || !inicio.isBefore(fim)) {
+            return Collections.emptyNavigableSet();
+        }
+        return Collections.unmodifiableNavigableSet(horariosDisponiveis.subSet(inicio, true, fim, false));
+    }
+
+    public List<LocalDateTime> primeirosHorarios(int quantidade) {
+        List<LocalDateTime> primeiros = new ArrayList<>(Math.max(0, Math.min(quantidade, horariosDisponiveis.size())));
+        Iterator<LocalDateTime> iterator = horariosDisponiveis.iterator();
+        while (primeiros.size() < quantidade && iterator.hasNext()) {
+            primeiros.add(iterator.next());
+        }
+        return primeiros;
+    }
+
+    public int quantidadeHorarios() {
+        return horariosDisponiveis.size();
     }
 
     public Long getId() {
@@ -758,6 +1544,7 @@ class Tecnologia {
     private Long id;
     private String nome;
     private AreaConhecimento areaConhecimento;
+    private boolean congelada;
 
     public Tecnologia(Long id, String nome, AreaConhecimento areaConhecimento) {
         this.id = id;
@@ -770,6 +1557,7 @@ class Tecnologia {
     }
 
     public void setAreaConhecimento(AreaConhecimento areaConhecimento) {
+        exigirMutavel();
         this.areaConhecimento = areaConhecimento;
     }
 
@@ -777,9 +1565,26 @@ class Tecnologia {
 
     public String getNome() { return nome; }
 
-    public void setId(Long id) { this.id = id; }
+    public void setId(Long id) {
+        exigirMutavel();
+        this.id = id;
+    }
 
-    public void setNome(String nome) { this.nome = nome; }
+    public void setNome(String nome) {
+        exigirMutavel();
+        this.nome = nome;
+    }
+
+    Tecnologia congelar() {
+        congelada = true;
+        return this;
+    }
+
+    private void exigirMutavel() {
+        if (congelada) {
+            throw new IllegalStateException("A tecnologia " + id + " pertence a um catálogo e não pode ser alterada.");
+        }
+    }
 
     @Override
     public boolean equals(Object o) {
@@ -796,6 +1601,7 @@ class Tecnologia {
 class AreaConhecimento {
     private Long id;
     private String nome;
+    private boolean congelada;
 
     public AreaConhecimento(Long id, String nome) {
         this.id = id;
@@ -811,13 +1617,26 @@ class AreaConhecimento {
     }
 
     public void setId(Long id) {
+        exigirMutavel();
         this.id = id;
     }
 
     public void setNome(String nome) {
+        exigirMutavel();
         this.nome = nome;
     }
 
+    AreaConhecimento congelar() {
+        congelada = true;
+        return this;
+    }
+
+    private void exigirMutavel() {
+        if (congelada) {
+            throw new IllegalStateException("A área de conhecimento " + id + " pertence a um catálogo e não pode ser alterada.");
+        }
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -0,0 +1,99 @@
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Serializa as operações de cada mentor com um conjunto fixo de travas escolhidas pelo id dele: mentores em
+ * listras diferentes são atendidos em paralelo e os de uma mesma listra, um de cada vez. Com uma única listra o
+ * comportamento é o de uma trava global.
+ * <p>
+ * As travas são opcionais e não protegem estruturas: o índice de sessões, a contagem de áreas, as tecnologias
+ * do {@link Mentor} e a {@link Agenda} são seguros sob concorrência por conta própria, porque também são escritos
+ * sem trava pelos ouvintes de status, pelo {@link CicloVidaSessoes} e pela persistência. O que a listra garante é
+ * a atomicidade das operações compostas de um mesmo mentor, como conferir se a sessão está pendente, decidir e
+ * reservar o horário em {@link Mentor#gerenciarDisponibilidadeEAprovarSessao}; quem precisa dessa garantia
+ * passa por {@link #comTrava(Mentor, Supplier)} ou pelos atalhos abaixo.
+ */
+class TravasMentores {
+    static final int LISTRAS_PADRAO = Math.min(1 << 16, Runtime.getRuntime().availableProcessors() * 4);
+
+    private final ReentrantLock[] travas;
+    private final int mascara;
+
+    public TravasMentores() {
+        this(LISTRAS_PADRAO);
+    }
+
+    public TravasMentores(int listras) {
+        if (listras <= 0 || listras > 1 << 16) {
+            throw new IllegalArgumentException("O número de listras deve estar entre 1 e 65536.");
+        }
+        int potencia = Integer.highestOneBit(listras);
+        if (potencia < listras) {
+            potencia <<= 1;
+        }
+        travas = new ReentrantLock[potencia];
+        for (int i = 0; i < potencia; i++) {
+            travas[i] = new ReentrantLock();
+        }
+        mascara = potencia - 1;
+    }
+
+    ReentrantLock travaDe(Mentor mentor) {
+        if (mentor == null || mentor.getId() == null) {
+            throw new IllegalArgumentException("O mentor e o id dele são obrigatórios.");
+        }
+        long misturado = mentor.getId() * 0x9E3779B97F4A7C15L;
+        return travas[(int) (misturado >>> 40) & mascara];
+    }
+
+    public <T> T comTrava(Mentor mentor, Supplier<T> operacao) {
+        ReentrantLock trava = travaDe(mentor);
+        trava.lock();
+        try {
+            return operacao.get();
+        } finally {
+            trava.unlock();
+        }
+    }
+
+    public String aprovarSessao(Mentor mentor, LocalDateTime horarioProposto, SessaoMentoria sessao) {
+        return comTrava(mentor, () -> mentor.gerenciarDisponibilidadeEAprovarSessao(horarioProposto, sessao));
+    }
+
+    public List<ResultadoAprovacao> aprovarSessoesEmLote(Mentor mentor, Collection<PedidoAprovacao> pedidos) {
+        return comTrava(mentor, () -> mentor.aprovarSessoesEmLote(pedidos));
+    }
+
+    public void adicionarSessao(Mentor mentor, SessaoMentoria sessao) {
+        comTrava(mentor, () -> {
+            mentor.adicionarSessao(sessao);
+            return null;
+        });
+    }
+
+    public boolean atualizarStatusSessao(SessaoMentoria sessao, String novoStatus, String motivo) {
+        return comTrava(mentorDe(sessao), () -> sessao.atualizarStatusSessao(novoStatus, motivo));
+    }
+
+    public boolean transicionar(SessaoMentoria sessao, StatusSessao novoStatus, String motivo) {
+        return comTrava(mentorDe(sessao), () -> sessao.transicionarPara(novoStatus, motivo));
+    }
+
+    public List<SessaoMentoria> sessoesComStatus(Mentor mentor, StatusSessao status) {
+        return comTrava(mentor, () -> mentor.getSessoesComStatus(status));
+    }
+
+    public int getListras() {
+        return travas.length;
+    }
+
+    private static Mentor mentorDe(SessaoMentoria sessao) {
+        if (sessao == null) {
+            throw new IllegalArgumentException("A sessão é obrigatória.");
+        }
+        return sessao.getMentor();
+    }
+}
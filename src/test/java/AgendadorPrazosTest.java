@@ -0,0 +1,115 @@
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AgendadorPrazosTest {
+
+    private final LocalDateTime inicio = LocalDateTime.of(2030, 3, 1, 8, 0);
+    private final List<List<Meta>> lotesVencidos = new ArrayList<>();
+    private final List<List<Meta>> lotesProximos = new ArrayList<>();
+    private AgendadorPrazos agendador;
+
+    @BeforeEach
+    void setup() {
+        agendador = new AgendadorPrazos(Duration.ofMinutes(1), Duration.ofDays(1), inicio, new OuvintePrazos() {
+            @Override
+            public void prazosVencidos(List<Meta> metas) {
+                lotesVencidos.add(metas);
+            }
+
+            @Override
+            public void prazosProximos(List<Meta> metas) {
+                lotesProximos.add(metas);
+            }
+        });
+    }
+
+    @Test
+    void testDisparaAvisosEVencimentosEmLote() {
+        Meta spring = new Meta(1L, "Aprender Spring Boot", "Pendente", inicio.plusDays(3));
+        Meta jpa = new Meta(2L, "Concluir curso de JPA", "Pendente", inicio.plusDays(3).plusMinutes(30));
+        Meta docker = new Meta(3L, "Estudar Docker", "Pendente", inicio.plusDays(10));
+        agendador.agendar(spring);
+        agendador.agendar(jpa);
+        agendador.agendar(docker);
+        agendador.agendar(new Meta(4L, "Sem prazo", "Pendente", null));
+        assertEquals(3, agendador.getPendentes());
+
+        agendador.avancar(inicio.plusDays(1));
+        assertTrue(lotesProximos.isEmpty());
+        agendador.avancar(inicio.plusDays(2).plusHours(1));
+        assertEquals(List.of(List.of(spring, jpa)), lotesProximos);
+        assertTrue(lotesVencidos.isEmpty());
+
+        agendador.avancar(inicio.plusDays(4));
+        assertEquals(List.of(List.of(spring, jpa)), lotesVencidos);
+        assertEquals(1, agendador.getPendentes());
+    }
+
+    @Test
+    void testReagendaQuandoPrazoMudaEIgnoraMetasConcluidas() {
+        Meta spring = new Meta(1L, "Aprender Spring Boot", "Pendente", inicio.plusDays(3));
+        Meta jpa = new Meta(2L, "Concluir curso de JPA", "Pendente", inicio.plusDays(3));
+        agendador.agendar(spring);
+        agendador.agendar(jpa);
+        spring.setPrazo(inicio.plusDays(20));
+        jpa.atualizarStatus("Concluída");
+
+        agendador.avancar(inicio.plusDays(5));
+        assertTrue(lotesVencidos.isEmpty());
+        assertTrue(lotesProximos.isEmpty());
+        assertEquals(1, agendador.getPendentes());
+
+        spring.setPrazo(null);
+        assertEquals(0, agendador.getPendentes());
+        spring.setPrazo(inicio.plusDays(6));
+        assertEquals(1, agendador.getPendentes());
+        agendador.avancar(inicio.plusDays(7));
+        assertEquals(List.of(List.of(spring)), lotesVencidos);
+        assertEquals(0, agendador.getPendentes());
+
+        spring.setPrazo(inicio.plusDays(9));
+        agendador.avancar(inicio.plusDays(10));
+        assertEquals(List.of(List.of(spring), List.of(spring)), lotesVencidos);
+
+        assertFalse(agendador.cancelar(spring));
+        spring.setPrazo(inicio.plusDays(12));
+        assertEquals(0, agendador.getPendentes());
+    }
+
+    @Test
+    void testPrazoJaVencidoDisparaNoProximoAvanco() {
+        Meta atrasada = new Meta(1L, "Meta atrasada", "Pendente", inicio.minusDays(2));
+        agendador.agendar(atrasada);
+        assertTrue(agendador.cancelar(atrasada));
+        assertFalse(agendador.cancelar(atrasada));
+        agendador.agendar(atrasada);
+        agendador.avancar(inicio);
+        assertEquals(List.of(List.of(atrasada)), lotesVencidos);
+        assertTrue(lotesProximos.isEmpty());
+    }
+
+    @Test
+    void testMuitosPrazosPendentes() {
+        int quantidade = 200_000;
+        for (int i = 0; i < quantidade; i++) {
+            agendador.agendar(new Meta((long) i, "Meta " + i, "Pendente", inicio.plusMinutes(1 + i % 100_000)));
+        }
+        assertEquals(quantidade, agendador.getPendentes());
+        agendador.avancar(inicio.plusMinutes(100_001));
+        assertEquals(quantidade, lotesVencidos.stream().mapToInt(List::size).sum());
+        assertEquals(0, agendador.getPendentes());
+    }
+
+    @Test
+    void testParametrosObrigatorios() {
+        assertThrows(IllegalArgumentException.class, () -> new AgendadorPrazos(null, Duration.ZERO, inicio, metas -> { }));
+        assertThrows(IllegalArgumentException.class, () -> new AgendadorPrazos(Duration.ofMinutes(1), Duration.ofMinutes(-1), inicio, metas -> { }));
+    }
+}
@@ -0,0 +1,366 @@
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ArmazenamentoArquivoTest {
+
+    @TempDir
+    Path diretorio;
+
+    private final LocalDateTime inicio = LocalDateTime.of(2030, 4, 1, 9, 0);
+    private SinkEventos sinkOriginal;
+
+    @BeforeEach
+    void setUp() {
+        sinkOriginal = Eventos.trocarSink(SinkEventosNulo.INSTANCIA);
+    }
+
+    @AfterEach
+    void restaurarEventos() {
+        Eventos.setSink(sinkOriginal);
+    }
+
+    private DominioPersistente abrir() {
+        return new DominioPersistente(new ArmazenamentoArquivo(diretorio, 64, Duration.ZERO));
+    }
+
+    @Test
+    void testReconstroiTodoODominioAPartirDoLog() throws FeedbackException {
+        AreaConhecimento backend = new AreaConhecimento(1L, "Desenvolvimento Backend");
+        Tecnologia java = new Tecnologia(10L, "Java", backend);
+        Tecnologia spring = new Tecnologia(11L, "Spring Boot", backend);
+
+        try (DominioPersistente dominio = abrir()) {
+            Mentor mentor = new Mentor(1L, "Carlos", "carlos@email.com", "senha123", "Mentor Java", new Agenda(1L));
+            mentor.adicionarTecnologia(java);
+            dominio.registrarMentor(mentor);
+            dominio.adicionarTecnologia(mentor, spring);
+            dominio.adicionarHorario(mentor, inicio);
+            dominio.adicionarHorario(mentor, inicio.plusHours(1));
+            dominio.removerHorario(mentor, inicio.plusHours(1));
+
+            Mentorado ana = new Mentorado(2L, "Ana", "ana@email.com", "senha456");
+            dominio.registrarMentorado(ana);
+            PlanoEstudo plano = new PlanoEstudo(20L);
+            plano.adicionarMeta(new Meta(30L, "Aprender Spring Boot", "Pendente", inicio.plusDays(30)));
+            dominio.registrarPlano(ana, plano);
+            Meta jpa = new Meta(31L, "Estudar JPA", "Pendente", inicio.plusDays(10));
+            dominio.adicionarMeta(plano, jpa);
+            dominio.atualizarStatusMeta(jpa, "Concluída");
+            jpa.setPrazo(inicio.plusDays(5));
+
+            SessaoMentoria sessao = new SessaoMentoria(40L, mentor, ana, inicio);
+            sessao.setRelogio(new RelogioAjustavel(inicio.plusMinutes(40)));
+            dominio.agendarSessao(sessao);
+            sessao.transicionarPara(StatusSessao.APROVADA, null);
+            sessao.iniciarSessao();
+            sessao.finalizarSessao();
+            dominio.registrarFeedback(sessao, ana, 4, "Muito boa");
+            SessaoMentoria pendente = new SessaoMentoria(41L, mentor, ana, inicio.plusDays(1));
+            dominio.agendarSessao(pendente);
+        }
+
+        try (DominioPersistente dominio = abrir()) {
+            EstadoDominio estado = dominio.getEstado();
+            Mentor mentor = estado.buscarMentor(1L);
+            assertEquals("Carlos", mentor.getNome());
+            assertEquals("Mentor Java", mentor.getBiografia());
+            assertEquals(List.of(java, spring), mentor.getTecnologias());
+            assertTrue(mentor.atuaNaArea(backend));
+            assertEquals(List.of(inicio), mentor.getAgenda().getHorariosDisponiveis());
+
+            Mentorado ana = estado.buscarMentorado(2L);
+            PlanoEstudo plano = ana.getPlanoEstudo();
+            assertEquals(20L, plano.getId());
+            assertEquals(2, plano.getTotalMetas());
+            assertEquals(1, plano.getMetasConcluidas());
+            assertEquals(inicio.plusDays(5), estado.buscarMeta(31L).getPrazo());
+            assertEquals("Concluída", estado.buscarMeta(31L).getStatus());
+
+            SessaoMentoria sessao = estado.buscarSessao(40L);
+            assertEquals(StatusSessao.FINALIZADA, sessao.getEstado());
+            assertSame(mentor, sessao.getMentor());
+            assertSame(ana, sessao.getMentorado());
+            assertEquals(1, sessao.getFeedbacks().size());
+            assertEquals(4, sessao.getFeedbacks().get(0).getAvaliacao().getNota());
+            assertEquals("Muito boa", sessao.getFeedbacks().get(0).getComentario());
+            assertEquals(inicio.plusMinutes(40), sessao.getFeedbacks().get(0).getInstante());
+            assertEquals(1, mentor.getAvaliacoes().ultimos30Dias(inicio.plusDays(1)).getContagem());
+            assertEquals(0, mentor.getAvaliacoes().ultimos30Dias(inicio.plusDays(60)).getContagem());
+            assertEquals(List.of(estado.buscarSessao(41L)), mentor.getSessoesPendentes());
+        }
+    }
+
+    @Test
+    void testReservasDaAgendaSobrevivemAoReinicio() {
+        try (DominioPersistente dominio = abrir()) {
+            Mentor mentor = new Mentor(1L, "Carlos", "carlos@email.com", "senha123", "Mentor Java", new Agenda(1L));
+            mentor.setRelogio(new RelogioAjustavel(inicio.minusDays(2)));
+            dominio.registrarMentor(mentor);
+            Mentorado ana = new Mentorado(2L, "Ana", "ana@email.com", "senha456");
+            dominio.registrarMentorado(ana);
+            for (int i = 0; i < 3; i++) {
+                dominio.adicionarHorario(mentor, inicio.plusHours(i));
+            }
+            SessaoMentoria mantida = new SessaoMentoria(40L, mentor, ana, inicio);
+            SessaoMentoria cancelada = new SessaoMentoria(41L, mentor, ana, inicio.plusHours(1));
+            dominio.agendarSessao(mantida);
+            dominio.agendarSessao(cancelada);
+            mentor.gerenciarDisponibilidadeEAprovarSessao(inicio, mantida);
+            mentor.gerenciarDisponibilidadeEAprovarSessao(inicio.plusHours(1), cancelada);
+            cancelada.atualizarStatusSessao("cancelada", "Imprevisto");
+        }
+
+        try (DominioPersistente dominio = abrir()) {
+            EstadoDominio estado = dominio.getEstado();
+            Agenda agenda = estado.buscarMentor(1L).getAgenda();
+            assertSame(estado.buscarSessao(40L), agenda.reservaDe(inicio));
+            assertEquals(List.of(inicio.plusHours(1), inicio.plusHours(2)), agenda.getHorariosDisponiveis());
+            assertFalse(agenda.reservar(inicio, estado.buscarSessao(41L)));
+            dominio.gravarSnapshot();
+        }
+
+        try (DominioPersistente dominio = abrir()) {
+            EstadoDominio estado = dominio.getEstado();
+            Agenda agenda = estado.buscarMentor(1L).getAgenda();
+            SessaoMentoria mantida = estado.buscarSessao(40L);
+            assertSame(mantida, agenda.reservaDe(inicio));
+            assertEquals(List.of(inicio.plusHours(1), inicio.plusHours(2)), agenda.getHorariosDisponiveis());
+            mantida.atualizarStatusSessao("cancelada", "Imprevisto");
+        }
+
+        try (DominioPersistente dominio = abrir()) {
+            Agenda agenda = dominio.getEstado().buscarMentor(1L).getAgenda();
+            assertEquals(0, agenda.quantidadeReservas());
+            assertEquals(3, agenda.quantidadeHorarios());
+        }
+    }
+
+    @Test
+    void testMudancasFeitasDiretamenteNasEntidadesSobrevivemAoReinicio() throws FeedbackException {
+        AreaConhecimento backend = new AreaConhecimento(1L, "Desenvolvimento Backend");
+        SessaoMentoria daSessaoAnterior;
+        try (DominioPersistente dominio = abrir()) {
+            Mentor mentor = new Mentor(1L, "Carlos", "carlos@email.com", "senha123", "Mentor Java", new Agenda(1L));
+            dominio.registrarMentor(mentor);
+            Mentorado ana = new Mentorado(2L, "Ana", "ana@email.com", "senha456");
+            PlanoEstudo plano = new PlanoEstudo(20L);
+            ana.setPlanoEstudo(plano);
+            dominio.registrarMentorado(ana);
+            SessaoMentoria sessao = new SessaoMentoria(40L, mentor, ana, inicio);
+            sessao.setRelogio(new RelogioAjustavel(inicio.plusMinutes(40)));
+            dominio.agendarSessao(sessao);
+
+            mentor.adicionarTecnologia(new Tecnologia(10L, "Java", backend));
+            mentor.adicionarTecnologia(new Tecnologia(11L, "Spring Boot", backend));
+            mentor.removerTecnologia(new Tecnologia(10L, "Java", backend));
+            mentor.getAgenda().adicionarHorario(inicio.plusDays(3));
+            mentor.getAgenda().adicionarHorario(inicio.plusDays(4));
+            mentor.getAgenda().removerHorario(inicio.plusDays(4));
+            plano.adicionarMeta(new Meta(31L, "Estudar JPA", "Pendente", inicio.plusDays(10)));
+            sessao.transicionarPara(StatusSessao.APROVADA, null);
+            sessao.iniciarSessao();
+            sessao.finalizarSessao();
+            sessao.adicionarFeedback(ana, 5, "Excelente");
+            daSessaoAnterior = sessao;
+        }
+
+        try (DominioPersistente dominio = abrir()) {
+            EstadoDominio estado = dominio.getEstado();
+            Mentor mentor = estado.buscarMentor(1L);
+            assertEquals(List.of("Spring Boot"), mentor.getTecnologias().stream().map(Tecnologia::getNome).collect(Collectors.toList()));
+            assertEquals(List.of(inicio.plusDays(3)), mentor.getAgenda().getHorariosDisponiveis());
+            assertEquals(List.of(estado.buscarMeta(31L)), estado.buscarMentorado(2L).getPlanoEstudo().getMetas());
+            SessaoMentoria sessao = estado.buscarSessao(40L);
+            assertEquals(StatusSessao.FINALIZADA, sessao.getEstado());
+            assertEquals(1, sessao.getFeedbacks().size());
+
+            Feedback registrado = dominio.registrarFeedback(daSessaoAnterior, mentor, 4, "Boa participação");
+            assertNotSame(daSessaoAnterior, sessao);
+            assertSame(sessao, registrado.getSessao());
+            assertEquals(2, sessao.getFeedbacks().size());
+            SessaoMentoria desconhecida = new SessaoMentoria(99L, mentor, estado.buscarMentorado(2L), inicio);
+            assertThrows(IllegalArgumentException.class, () -> dominio.registrarFeedback(desconhecida, mentor, 4, null));
+            assertThrows(IllegalArgumentException.class, () -> dominio.registrarFeedback(null, mentor, 4, null));
+        }
+
+        try (DominioPersistente dominio = abrir()) {
+            assertEquals(2, dominio.getEstado().buscarSessao(40L).getFeedbacks().size());
+        }
+    }
+
+    @Test
+    void testCredenciaisDoDiretorioSobrevivemAoReinicio() {
+        try (DominioPersistente dominio = abrir()) {
+            Mentor mentor = new Mentor(1L, "Carlos", "carlos@email.com", "senha123", "Mentor Java", new Agenda(1L));
+            Mentorado ana = new Mentorado(2L, "Ana", "ana@email.com", "senha456");
+            dominio.registrarMentor(mentor);
+            dominio.registrarMentorado(ana);
+            DiretorioUsuarios diretorio = new DiretorioUsuarios(1_000, Duration.ZERO, Relogio.sistema());
+            dominio.conectar(diretorio);
+            diretorio.cadastrar(mentor);
+            diretorio.cadastrar(ana);
+            diretorio.cadastrar(new Mentorado(3L, "Fora do domínio", "fora@email.com", "x"));
+            assertEquals("senha123", mentor.getSenha());
+            assertTrue(diretorio.redefinirSenha("ana@email.com", "nova789"));
+        }
+
+        try (DominioPersistente dominio = abrir()) {
+            DiretorioUsuarios diretorio = new DiretorioUsuarios(1_000, Duration.ZERO, Relogio.sistema());
+            dominio.conectar(diretorio);
+            assertEquals(2, diretorio.tamanho());
+            Mentor mentor = dominio.getEstado().buscarMentor(1L);
+            assertNull(mentor.getSenha());
+            assertSame(mentor, diretorio.autenticar("carlos@email.com", "senha123"));
+            assertSame(dominio.getEstado().buscarMentorado(2L), diretorio.autenticar("ana@email.com", "nova789"));
+            assertNull(diretorio.autenticar("ana@email.com", "senha456"));
+            assertTrue(diretorio.remover("carlos@email.com"));
+            dominio.gravarSnapshot();
+        }
+
+        try (DominioPersistente dominio = abrir()) {
+            DiretorioUsuarios diretorio = new DiretorioUsuarios(1_000, Duration.ZERO, Relogio.sistema());
+            dominio.conectar(diretorio);
+            assertEquals(1, diretorio.tamanho());
+            assertNull(diretorio.buscarPorEmail("carlos@email.com"));
+            assertSame(dominio.getEstado().buscarMentorado(2L), diretorio.autenticar("ana@email.com", "nova789"));
+        }
+    }
+
+    @Test
+    void testStatusDeMetaAlteradoDiretamenteERegistradoUmaVez() {
+        ArmazenamentoArquivo armazenamento = new ArmazenamentoArquivo(diretorio, 1, Duration.ZERO);
+        try (DominioPersistente dominio = new DominioPersistente(armazenamento)) {
+            Mentorado ana = new Mentorado(2L, "Ana", "ana@email.com", "senha456");
+            dominio.registrarMentorado(ana);
+            PlanoEstudo plano = new PlanoEstudo(20L);
+            Meta spring = new Meta(30L, "Aprender Spring Boot", "Pendente", inicio.plusDays(30));
+            plano.adicionarMeta(spring);
+            dominio.registrarPlano(ana, plano);
+            Meta jpa = new Meta(31L, "Estudar JPA", "Pendente", inicio.plusDays(10));
+            dominio.adicionarMeta(plano, jpa);
+            long registros = armazenamento.getSincronizacoes();
+
+            spring.atualizarStatus("Concluída");
+            jpa.setStatus("Em Andamento");
+            assertEquals(registros + 2, armazenamento.getSincronizacoes());
+            dominio.atualizarStatusMeta(jpa, "Concluída");
+            assertEquals(registros + 3, armazenamento.getSincronizacoes());
+            jpa.atualizarStatus("Concluída");
+            jpa.atualizarStatus("  ");
+            assertEquals(registros + 3, armazenamento.getSincronizacoes());
+            spring.atualizarStatus("Revisar");
+        }
+
+        try (DominioPersistente dominio = abrir()) {
+            EstadoDominio estado = dominio.getEstado();
+            assertEquals("Revisar", estado.buscarMeta(30L).getStatus());
+            assertEquals("Concluída", estado.buscarMeta(31L).getStatus());
+            assertEquals(1, estado.buscarMentorado(2L).getPlanoEstudo().getMetasConcluidas());
+        }
+    }
+
+    @Test
+    void testSnapshotLimitaAReaplicacaoACaudaDoLog() throws IOException {
+        try (DominioPersistente dominio = abrir()) {
+            Mentor mentor = new Mentor(1L, "Carlos", "carlos@email.com", "senha123", "Mentor Java", new Agenda(1L));
+            dominio.registrarMentor(mentor);
+            for (int i = 0; i < 1_000; i++) {
+                dominio.adicionarHorario(mentor, inicio.plusMinutes(i));
+            }
+            dominio.gravarSnapshot();
+            for (int i = 0; i < 5; i++) {
+                dominio.removerHorario(mentor, inicio.plusMinutes(i));
+            }
+        }
+
+        try (Stream<Path> arquivos = Files.list(diretorio)) {
+            List<String> nomes = arquivos.map(p -> p.getFileName().toString()).sorted().collect(Collectors.toList());
+            assertEquals(List.of("snapshot-00000000000000001001.bin", "wal-00000000000000001002.log"), nomes);
+        }
+
+        ArmazenamentoArquivo armazenamento = new ArmazenamentoArquivo(diretorio, 64, Duration.ZERO);
+        try (DominioPersistente dominio = new DominioPersistente(armazenamento)) {
+            assertEquals(5, armazenamento.getReaplicadas());
+            assertEquals(1_006, armazenamento.getUltimaSequencia());
+            Agenda agenda = dominio.getEstado().buscarMentor(1L).getAgenda();
+            assertEquals(995, agenda.quantidadeHorarios());
+            assertEquals(inicio.plusMinutes(5), agenda.primeirosHorarios(1).get(0));
+        }
+    }
+
+    @Test
+    void testDescartaRegistroIncompletoNoFinalDoLog() throws IOException {
+        try (DominioPersistente dominio = abrir()) {
+            Mentor mentor = new Mentor(1L, "Carlos", "carlos@email.com", "senha123", "Mentor Java", new Agenda(1L));
+            dominio.registrarMentor(mentor);
+            dominio.adicionarHorario(mentor, inicio);
+        }
+        Path log;
+        try (Stream<Path> arquivos = Files.list(diretorio)) {
+            log = arquivos.filter(p -> p.getFileName().toString().startsWith("wal-")).findFirst().orElseThrow();
+        }
+        Files.write(log, new byte[]{0, 0, 0, 40, 1, 2, 3, 4, 5, 6}, StandardOpenOption.APPEND);
+
+        try (DominioPersistente dominio = abrir()) {
+            Mentor mentor = dominio.getEstado().buscarMentor(1L);
+            assertEquals(1, mentor.getAgenda().quantidadeHorarios());
+            dominio.adicionarHorario(mentor, inicio.plusHours(1));
+        }
+        try (DominioPersistente dominio = abrir()) {
+            assertEquals(2, dominio.getEstado().buscarMentor(1L).getAgenda().quantidadeHorarios());
+        }
+    }
+
+    @Test
+    void testSincronizaEmLotes() {
+        ArmazenamentoArquivo armazenamento = new ArmazenamentoArquivo(diretorio, 100, Duration.ZERO);
+        try (DominioPersistente dominio = new DominioPersistente(armazenamento)) {
+            Mentor mentor = new Mentor(1L, "Carlos", "carlos@email.com", "senha123", "Mentor Java", new Agenda(1L));
+            dominio.registrarMentor(mentor);
+            for (int i = 0; i < 249; i++) {
+                dominio.adicionarHorario(mentor, inicio.plusMinutes(i));
+            }
+            assertEquals(2, armazenamento.getSincronizacoes());
+            dominio.sincronizar();
+            assertEquals(3, armazenamento.getSincronizacoes());
+            dominio.sincronizar();
+            assertEquals(3, armazenamento.getSincronizacoes());
+        }
+    }
+
+    @Test
+    void testSincronizadorPeriodicoDescarregaOLote() throws InterruptedException {
+        ArmazenamentoArquivo armazenamento = new ArmazenamentoArquivo(diretorio, 1_000, Duration.ofMillis(5));
+        try (DominioPersistente dominio = new DominioPersistente(armazenamento)) {
+            dominio.registrarMentorado(new Mentorado(2L, "Ana", "ana@email.com", "senha456"));
+            long limite = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+            while (armazenamento.getSincronizacoes() == 0 && System.nanoTime() < limite) {
+                Thread.sleep(1);
+            }
+            assertEquals(1, armazenamento.getSincronizacoes());
+        }
+    }
+
+    @Test
+    void testParametrosInvalidos() {
+        assertThrows(IllegalArgumentException.class, () -> new ArmazenamentoArquivo(null));
+        assertThrows(IllegalArgumentException.class, () -> new ArmazenamentoArquivo(diretorio, 0, Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> new DominioPersistente(null));
+        ArmazenamentoArquivo naoCarregado = new ArmazenamentoArquivo(diretorio);
+        assertThrows(IllegalStateException.class, () -> naoCarregado.registrar(Mutacao.mentoradoCadastrado(new Mentorado(2L, "Ana", "a@b.com", "x"))));
+    }
+}
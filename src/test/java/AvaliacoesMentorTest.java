@@ -0,0 +1,133 @@
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AvaliacoesMentorTest {
+
+    private final LocalDateTime inicio = LocalDateTime.of(2030, 5, 1, 10, 0);
+    private SinkEventos sinkOriginal;
+    private Mentor mentor;
+
+    @BeforeEach
+    void setUp() {
+        sinkOriginal = Eventos.trocarSink(SinkEventosNulo.INSTANCIA);
+        mentor = new Mentor(1L, "Carlos", "carlos@email.com", "senha123", "Mentor Java", new Agenda(1L));
+    }
+
+    @AfterEach
+    void restaurarEventos() {
+        Eventos.setSink(sinkOriginal);
+    }
+
+    private SessaoMentoria sessaoFinalizada(long id, Mentorado mentorado, RelogioAjustavel relogio) {
+        SessaoMentoria sessao = new SessaoMentoria(id, mentor, mentorado, inicio);
+        sessao.setEstado(StatusSessao.FINALIZADA);
+        sessao.setRelogio(relogio);
+        return sessao;
+    }
+
+    @Test
+    void testAgregadosAtualizadosSoPorFeedbackDoMentorado() throws FeedbackException {
+        RelogioAjustavel relogio = new RelogioAjustavel(inicio);
+        Mentorado ana = new Mentorado(2L, "Ana", "ana@email.com", "senha");
+        Mentorado bruno = new Mentorado(3L, "Bruno", "bruno@email.com", "senha");
+        SessaoMentoria primeira = sessaoFinalizada(10L, ana, relogio);
+        SessaoMentoria segunda = sessaoFinalizada(11L, bruno, relogio);
+
+        primeira.adicionarFeedback(ana, 5, "Excelente");
+        primeira.adicionarFeedback(mentor, 1, "Mentorada faltou ao combinado");
+        segunda.adicionarFeedback(bruno, 4, null);
+        assertThrows(FeedbackException.class, () -> segunda.adicionarFeedback(bruno, 2, null));
+        assertThrows(FeedbackException.class, () -> segunda.adicionarFeedback(mentor, 0, ""));
+
+        ResumoAvaliacoes total = mentor.getAvaliacoes().getTotal();
+        assertEquals(2, total.getContagem());
+        assertEquals(9, total.getSoma());
+        assertEquals(4.5, total.getMedia());
+        assertArrayEquals(new long[]{0, 0, 0, 0, 1, 1}, total.getHistograma());
+        assertEquals(1, total.getQuantidade(5));
+        assertEquals(0, total.getQuantidade(1));
+        assertThrows(IllegalArgumentException.class, () -> total.getQuantidade(6));
+        assertEquals(4.5, mentor.getAvaliacoes().getMedia());
+    }
+
+    @Test
+    void testJanelasDeTrintaENoventaDias() throws FeedbackException {
+        RelogioAjustavel relogio = new RelogioAjustavel(inicio);
+        for (int i = 0; i < 4; i++) {
+            Mentorado mentorado = new Mentorado(100L + i, "Mentorado " + i, "m" + i + "@email.com", "senha");
+            sessaoFinalizada(200L + i, mentorado, relogio).adicionarFeedback(mentorado, i + 2, "Nota " + (i + 2));
+            relogio.avancar(Duration.ofDays(40));
+        }
+        LocalDateTime agora = relogio.agora().minusDays(40);
+
+        ResumoAvaliacoes curta = mentor.getAvaliacoes().ultimos30Dias(agora);
+        assertEquals(1, curta.getContagem());
+        assertEquals(5, curta.getSoma());
+        ResumoAvaliacoes longa = mentor.getAvaliacoes().ultimos90Dias(agora);
+        assertEquals(3, longa.getContagem());
+        assertEquals(3 + 4 + 5, longa.getSoma());
+        assertEquals(4, mentor.getAvaliacoes().getContagem());
+
+        assertEquals(0, mentor.getAvaliacoes().ultimos30Dias(agora.plusDays(30)).getContagem());
+        assertEquals(0.0, mentor.getAvaliacoes().ultimos30Dias(agora.plusDays(30)).getMedia());
+        assertEquals(0, mentor.getAvaliacoes().ultimos90Dias(agora.plusDays(90)).getContagem());
+    }
+
+    @Test
+    void testAvaliacaoAntigaForaDoAnelEDescartada() {
+        AvaliacoesMentor avaliacoes = new AvaliacoesMentor();
+        avaliacoes.registrar(5, inicio);
+        avaliacoes.registrar(1, inicio.minusDays(30));
+        avaliacoes.registrar(3, inicio.minusDays(29));
+
+        assertEquals(2, avaliacoes.ultimos30Dias(inicio).getContagem());
+        assertEquals(8, avaliacoes.ultimos30Dias(inicio).getSoma());
+        assertEquals(3, avaliacoes.ultimos90Dias(inicio).getContagem());
+        assertEquals(3, avaliacoes.getContagem());
+        assertThrows(IllegalArgumentException.class, () -> avaliacoes.registrar(6, inicio));
+        assertThrows(IllegalArgumentException.class, () -> avaliacoes.registrar(3, null));
+        assertThrows(IllegalArgumentException.class, () -> new JanelaAvaliacoes(0));
+    }
+
+    @Test
+    void testRegistrosConcorrentesNaoSePerdem() throws InterruptedException {
+        AvaliacoesMentor avaliacoes = new AvaliacoesMentor();
+        int threads = 8;
+        int porThread = 5_000;
+        CountDownLatch largada = new CountDownLatch(1);
+        List<Thread> trabalhadores = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            Thread trabalhador = new Thread(() -> {
+                try {
+                    largada.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                for (int i = 0; i < porThread; i++) {
+                    avaliacoes.registrar(i % 6, inicio.plusDays(i % 3));
+                }
+            });
+            trabalhadores.add(trabalhador);
+            trabalhador.start();
+        }
+        largada.countDown();
+        for (Thread trabalhador : trabalhadores) {
+            trabalhador.join();
+        }
+
+        ResumoAvaliacoes total = avaliacoes.getTotal();
+        assertEquals((long) threads * porThread, total.getContagem());
+        assertEquals(834L * threads, total.getQuantidade(0));
+        assertEquals((long) threads * porThread, avaliacoes.ultimos30Dias(inicio.plusDays(2)).getContagem());
+        assertEquals(total.getSoma(), avaliacoes.ultimos90Dias(inicio.plusDays(2)).getSoma());
+    }
+}
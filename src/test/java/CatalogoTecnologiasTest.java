@@ -0,0 +1,88 @@
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CatalogoTecnologiasTest {
+
+    @Test
+    void testDefinicoesIguaisCompartilhamInstancia() {
+        CatalogoTecnologias catalogo = new CatalogoTecnologias();
+        Tecnologia original = new Tecnologia(1L, "Java", new AreaConhecimento(1L, "Backend"));
+        AreaConhecimento areaOriginal = original.getAreaConhecimento();
+        Tecnologia java = catalogo.internar(original);
+        Tecnologia copia = new Tecnologia(1L, "Java", new AreaConhecimento(1L, "Backend"));
+        Tecnologia spring = new Tecnologia(2L, "Spring Boot", new AreaConhecimento(1L, "Backend"));
+
+        assertSame(java, catalogo.internar(copia));
+        assertSame(java.getAreaConhecimento(), catalogo.internar(spring).getAreaConhecimento());
+        assertSame(java, catalogo.tecnologia(1L));
+        assertSame(java.getAreaConhecimento(), catalogo.area(1L));
+        assertEquals(2, catalogo.quantidadeTecnologias());
+        assertNull(catalogo.internar((Tecnologia) null));
+        assertNull(catalogo.tecnologia(99L));
+        assertThrows(IllegalArgumentException.class, () -> catalogo.porOrdinal(99));
+
+        assertNotSame(original, java);
+        assertSame(areaOriginal, original.getAreaConhecimento());
+        original.setNome("Java 21");
+        assertEquals("Java", java.getNome());
+        assertThrows(IllegalStateException.class, () -> java.setNome("Kotlin"));
+        assertThrows(IllegalStateException.class, () -> java.setId(2L));
+        assertThrows(IllegalStateException.class, () -> java.setAreaConhecimento(null));
+        assertThrows(IllegalStateException.class, () -> java.getAreaConhecimento().setNome("Frontend"));
+        assertSame(java, catalogo.tecnologia(1L));
+    }
+
+    @Test
+    void testRedefinicaoNaoAlteraOrdinaisAnteriores() {
+        CatalogoTecnologias catalogo = new CatalogoTecnologias();
+        int python = catalogo.ordinal(new Tecnologia(2L, "Python", new AreaConhecimento(1L, "Backend")));
+        int spring = catalogo.ordinal(new Tecnologia(2L, "Spring Boot", new AreaConhecimento(1L, "Backend")));
+
+        assertNotEquals(python, spring);
+        assertEquals("Python", catalogo.porOrdinal(python).getNome());
+        assertEquals("Spring Boot", catalogo.porOrdinal(spring).getNome());
+        assertEquals("Spring Boot", catalogo.tecnologia(2L).getNome());
+        assertEquals(spring, catalogo.ordinal(new Tecnologia(2L, "Spring Boot", new AreaConhecimento(1L, "Backend"))));
+
+        AreaConhecimento renomeada = catalogo.internar(new AreaConhecimento(1L, "Desenvolvimento Backend"));
+        assertEquals("Desenvolvimento Backend", catalogo.area(1L).getNome());
+        assertEquals("Backend", catalogo.porOrdinal(spring).getAreaConhecimento().getNome());
+        assertSame(renomeada, catalogo.internar(new AreaConhecimento(1L, "Desenvolvimento Backend")));
+    }
+
+    @Test
+    void testMentoresGuardamOrdinaisResolvidosPeloCatalogo() {
+        CatalogoTecnologias catalogo = new CatalogoTecnologias();
+        AreaConhecimento dados = new AreaConhecimento(1L, "Engenharia de Dados");
+        Mentor primeiro = new Mentor(1L, "Carlos", "carlos@email.com", "senha", "bio", new Agenda(1L), catalogo);
+        Mentor segundo = new Mentor(2L, "Diana", "diana@email.com", "senha", "bio", new Agenda(2L), catalogo);
+        Mentor isolado = new Mentor(3L, "Eduardo", "eduardo@email.com", "senha", "bio", new Agenda(3L));
+        Mentor semCatalogo = new Mentor(4L, "Fernanda", "fernanda@email.com", "senha", "bio", new Agenda(4L));
+        primeiro.adicionarTecnologia(new Tecnologia(1L, "Spark", dados));
+        primeiro.adicionarTecnologia(new Tecnologia(2L, "Kafka", dados));
+        segundo.adicionarTecnologia(new Tecnologia(2L, "Kafka", new AreaConhecimento(1L, "Engenharia de Dados")));
+        segundo.adicionarTecnologia(new Tecnologia(2L, "Kafka", dados));
+        isolado.adicionarTecnologia(new Tecnologia(2L, "Kafka", dados));
+
+        List<Tecnologia> doPrimeiro = primeiro.getTecnologias();
+        assertEquals(List.of("Spark", "Kafka"), List.of(doPrimeiro.get(0).getNome(), doPrimeiro.get(1).getNome()));
+        assertEquals(1, segundo.getTecnologias().size());
+        assertSame(doPrimeiro.get(1), segundo.getTecnologias().get(0));
+        assertSame(primeiro.getAreasConhecimento().get(0), segundo.getAreasConhecimento().get(0));
+        assertNotSame(doPrimeiro.get(1), isolado.getTecnologias().get(0));
+        assertEquals(2, catalogo.quantidadeTecnologias());
+        semCatalogo.adicionarTecnologia(new Tecnologia(2L, "Kafka", new AreaConhecimento(1L, "Engenharia de Dados")));
+        assertSame(CatalogoTecnologias.padrao(), isolado.getCatalogo());
+        assertSame(isolado.getTecnologias().get(0), semCatalogo.getTecnologias().get(0));
+
+        primeiro.removerTecnologia(new Tecnologia(1L, "Spark", dados));
+        assertEquals(List.of(doPrimeiro.get(1)), primeiro.getTecnologias());
+        assertTrue(primeiro.atuaNaArea(dados));
+        primeiro.removerTecnologia(new Tecnologia(2L, null, null));
+        assertTrue(primeiro.getTecnologias().isEmpty());
+        assertFalse(primeiro.atuaNaArea(dados));
+    }
+}
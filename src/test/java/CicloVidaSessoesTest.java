@@ -0,0 +1,156 @@
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CicloVidaSessoesTest {
+
+    private final LocalDateTime agora = LocalDateTime.of(2030, 3, 1, 14, 0);
+    private final RelogioAjustavel relogio = new RelogioAjustavel(agora);
+    private final SinkEventosMemoria memoria = new SinkEventosMemoria();
+    private SinkEventos sinkOriginal;
+    private Mentor mentor;
+    private Mentorado mentorado;
+    private CicloVidaSessoes ciclo;
+
+    @BeforeEach
+    void setup() {
+        sinkOriginal = Eventos.trocarSink(memoria);
+        mentor = new Mentor(1L, "Carlos", "carlos@email.com", "senha123", "Mentor Java", new Agenda(1L));
+        mentorado = new Mentorado(2L, "Ana", "ana@email.com", "senha456");
+        ciclo = new CicloVidaSessoes(Duration.ofMinutes(1), agora.minusDays(1));
+    }
+
+    @AfterEach
+    void restaurarSink() {
+        Eventos.setSink(sinkOriginal);
+    }
+
+    private SessaoMentoria sessao(long id, LocalDateTime dataHora) {
+        SessaoMentoria sessao = new SessaoMentoria(id, mentor, mentorado, dataHora);
+        sessao.setRelogio(relogio);
+        return sessao;
+    }
+
+    @Test
+    void testIniciaEFinalizaSessaoAprovadaNasJanelas() {
+        SessaoMentoria sessao = sessao(10L, agora.minusMinutes(40));
+        sessao.setEstado(StatusSessao.APROVADA);
+        ciclo.acompanhar(sessao);
+
+        assertEquals(1, ciclo.avancar(agora));
+        assertEquals(StatusSessao.INICIADA, sessao.getEstado());
+
+        assertEquals(1, ciclo.avancar(agora));
+        assertEquals(StatusSessao.FINALIZADA, sessao.getEstado());
+        assertFalse(ciclo.isAcompanhada(sessao));
+        assertEquals(1, memoria.getEventos(TipoEvento.SESSAO_INICIADA).size());
+        assertEquals(1, memoria.getEventos(TipoEvento.SESSAO_FINALIZADA).size());
+    }
+
+    @Test
+    void testJanelasAvaliadasNoInstanteDoAvancoENaoNoRelogioDaSessao() {
+        SessaoMentoria sessao = sessao(10L, agora.minusMinutes(40));
+        sessao.setRelogio(new RelogioAjustavel(agora.minusDays(1)));
+        sessao.setEstado(StatusSessao.APROVADA);
+        ciclo.acompanhar(sessao);
+
+        assertEquals(1, ciclo.avancar(agora));
+        assertEquals(StatusSessao.INICIADA, sessao.getEstado());
+        assertEquals(1, ciclo.avancar(agora));
+        assertEquals(StatusSessao.FINALIZADA, sessao.getEstado());
+        assertTrue(memoria.getEventos(TipoEvento.TRANSICAO_REJEITADA).isEmpty());
+    }
+
+    @Test
+    void testJanelaPerdidaParaSessaoAprovadaOuPendente() {
+        SessaoMentoria aprovada = new SessaoMentoria(10L, mentor, mentorado, agora.minusHours(2));
+        aprovada.setEstado(StatusSessao.APROVADA);
+        SessaoMentoria pendente = new SessaoMentoria(11L, mentor, mentorado, agora.minusMinutes(30));
+        ciclo.acompanhar(aprovada);
+        ciclo.acompanhar(pendente);
+
+        ciclo.avancar(agora);
+        assertEquals(StatusSessao.APROVADA, aprovada.getEstado());
+        assertFalse(ciclo.isAcompanhada(aprovada));
+        assertTrue(ciclo.isAcompanhada(pendente));
+        assertEquals(1, memoria.getEventos(TipoEvento.JANELA_PERDIDA).size());
+
+        ciclo.avancar(agora.plusMinutes(30));
+        assertTrue(ciclo.isAcompanhada(pendente));
+        ciclo.avancar(agora.plusMinutes(31));
+        assertFalse(ciclo.isAcompanhada(pendente));
+        assertEquals(StatusSessao.PENDENTE, pendente.getEstado());
+
+        List<EventoDominio> perdidas = memoria.getEventos(TipoEvento.JANELA_PERDIDA);
+        assertEquals(2, perdidas.size());
+        assertEquals(11L, perdidas.get(1).getSessaoId());
+        assertEquals("Sessão 11 perdeu a janela de início. Status atual: Pendente", perdidas.get(1).descrever());
+    }
+
+    @Test
+    void testMudancaDeStatusExternaReposicionaSessao() {
+        SessaoMentoria sessao = sessao(10L, agora.plusDays(2));
+        ciclo.acompanhar(sessao);
+        assertEquals(0, ciclo.avancar(agora.minusMinutes(10)));
+
+        sessao.setEstado(StatusSessao.CANCELADA);
+        assertFalse(ciclo.isAcompanhada(sessao));
+        assertEquals(0, ciclo.getAcompanhadas());
+
+        SessaoMentoria outra = sessao(11L, agora.minusMinutes(5));
+        ciclo.acompanhar(outra);
+        outra.setEstado(StatusSessao.APROVADA);
+        assertEquals(1, ciclo.avancar(agora));
+        assertEquals(StatusSessao.INICIADA, outra.getEstado());
+        assertTrue(memoria.getEventos(TipoEvento.JANELA_PERDIDA).isEmpty());
+    }
+
+    @Test
+    void testMuitasSessoesDisparamUmaVezSemVarredura() {
+        Random random = new Random(42);
+        int total = 200_000;
+        List<LocalDateTime> fechamentos = new ArrayList<>();
+        for (int i = 0; i < total; i++) {
+            LocalDateTime dataHora = agora.plusMinutes(random.nextInt(30 * 24 * 60));
+            ciclo.acompanhar(new SessaoMentoria((long) i, mentor, mentorado, dataHora));
+            fechamentos.add(dataHora.plus(SessaoMentoria.TOLERANCIA_INICIO));
+        }
+        assertEquals(total, ciclo.getAcompanhadas());
+
+        for (int horas = 1; horas <= 10 * 24; horas++) {
+            LocalDateTime instante = agora.plusHours(horas);
+            ciclo.avancar(instante);
+            if (horas % 48 == 0) {
+                long esperadas = fechamentos.stream().filter(f -> !f.plusMinutes(1).isAfter(instante)).count();
+                assertEquals(esperadas, memoria.getEventos(TipoEvento.JANELA_PERDIDA).size());
+            }
+        }
+
+        ciclo.avancar(agora.plusDays(32));
+        List<EventoDominio> perdidas = memoria.getEventos(TipoEvento.JANELA_PERDIDA);
+        Set<Long> ids = new HashSet<>();
+        for (EventoDominio evento : perdidas) {
+            ids.add(evento.getSessaoId());
+        }
+        assertEquals(total, perdidas.size());
+        assertEquals(total, ids.size());
+        assertEquals(0, ciclo.getAcompanhadas());
+    }
+
+    @Test
+    void testParametrosInvalidos() {
+        assertThrows(IllegalArgumentException.class, () -> new CicloVidaSessoes(null, agora));
+        assertThrows(IllegalArgumentException.class, () -> new CicloVidaSessoes(Duration.ofMinutes(1), null));
+        assertThrows(IllegalArgumentException.class, () -> new CicloVidaSessoes(Duration.ZERO, agora));
+    }
+}
@@ -0,0 +1,186 @@
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CodecBinarioTest {
+
+    private final LocalDateTime inicio = LocalDateTime.of(2030, 4, 1, 9, 0);
+    private final ByteBuffer buffer = ByteBuffer.allocate(4_096);
+    private EstadoDominio estado;
+    private Tecnologia java;
+    private Tecnologia spring;
+    private Mentor mentor;
+    private Mentorado ana;
+
+    @BeforeEach
+    void setUp() {
+        AreaConhecimento backend = new AreaConhecimento(1L, "Desenvolvimento Backend");
+        java = new Tecnologia(10L, "Java", backend);
+        spring = new Tecnologia(11L, "Spring Boot", backend);
+        estado = new EstadoDominio();
+        mentor = new Mentor(1L, "Carlos", "carlos@email.com", "senha123", "Mentor Java", new Agenda(7L), estado.catalogo());
+        mentor.adicionarTecnologia(java);
+        mentor.adicionarTecnologia(spring);
+        ana = new Mentorado(2L, "Ana", "ana@email.com", "senha456");
+        estado.adicionarMentor(mentor);
+        estado.adicionarMentorado(ana);
+    }
+
+    @Test
+    void testVarLongUsaOMinimoDeBytes() {
+        long[] valores = {0, 1, 127, 128, 16_383, 16_384, Integer.MAX_VALUE, Long.MAX_VALUE, -1};
+        int[] tamanhos = {1, 1, 1, 2, 2, 3, 5, 9, 10};
+        for (int i = 0; i < valores.length; i++) {
+            buffer.clear();
+            CodecBinario.escreverVarLong(buffer, valores[i]);
+            assertEquals(tamanhos[i], buffer.position(), "valor " + valores[i]);
+            buffer.flip();
+            assertEquals(valores[i], CodecBinario.lerVarLong(buffer));
+        }
+    }
+
+    @Test
+    void testInstantesAntesEDepoisDaEpoca() {
+        for (LocalDateTime instante : List.of(inicio, inicio.withNano(123_456_789), LocalDateTime.of(1969, 12, 31, 23, 59, 59), LocalDateTime.of(1970, 1, 1, 0, 0))) {
+            buffer.clear();
+            CodecBinario.escreverInstante(buffer, instante);
+            buffer.flip();
+            assertEquals(instante, CodecBinario.lerInstante(buffer));
+        }
+        buffer.clear();
+        CodecBinario.escreverInstante(buffer, LocalDateTime.of(1970, 1, 1, 0, 0));
+        assertEquals(2, buffer.position());
+    }
+
+    @Test
+    void testTextosEmUtf8EmBufferDiretoEHeap() {
+        List<String> textos = List.of("", "simples", "sessão avançada", "日本語", "emoji 🚀 fim");
+        for (ByteBuffer alvo : List.of(ByteBuffer.allocate(256), ByteBuffer.allocateDirect(256))) {
+            for (String texto : textos) {
+                assertEquals(texto.getBytes(StandardCharsets.UTF_8).length, CodecBinario.tamanhoUtf8(texto));
+                alvo.clear();
+                CodecBinario.escreverTexto(alvo, texto);
+                CodecBinario.escreverTexto(alvo, null);
+                alvo.flip();
+                assertEquals(texto, CodecBinario.lerTexto(alvo));
+                assertNull(CodecBinario.lerTexto(alvo));
+                assertFalse(alvo.hasRemaining());
+            }
+        }
+    }
+
+    @Test
+    void testUsuariosResolvemTecnologiasPeloId() {
+        CodecBinario.escreverUsuario(buffer, mentor);
+        CodecBinario.escreverUsuario(buffer, ana);
+        buffer.flip();
+
+        Mentor lido = (Mentor) CodecBinario.lerUsuario(buffer, estado);
+        assertEquals(mentor.getId(), lido.getId());
+        assertEquals("Carlos", lido.getNome());
+        assertEquals("carlos@email.com", lido.getEmail());
+        assertNull(lido.getSenha());
+        assertEquals("Mentor Java", lido.getBiografia());
+        assertEquals(7L, lido.getAgenda().getId());
+        assertSame(mentor.getTecnologias().get(0), lido.getTecnologias().get(0));
+        assertSame(mentor.getTecnologias().get(1), lido.getTecnologias().get(1));
+
+        Mentorado mentorado = (Mentorado) CodecBinario.lerUsuario(buffer, estado);
+        assertEquals(ana.getId(), mentorado.getId());
+        assertEquals("ana@email.com", mentorado.getEmail());
+        assertFalse(buffer.hasRemaining());
+    }
+
+    @Test
+    void testSessaoComCadaStatusDoDicionario() {
+        for (StatusSessao status : StatusSessao.values()) {
+            SessaoMentoria sessao = new SessaoMentoria(40L, mentor, ana, inicio);
+            sessao.setEstado(status);
+            buffer.clear();
+            CodecBinario.escreverSessao(buffer, sessao);
+            buffer.flip();
+            SessaoMentoria lida = CodecBinario.lerSessao(buffer, estado);
+            assertEquals(40L, lida.getId());
+            assertSame(mentor, lida.getMentor());
+            assertSame(ana, lida.getMentorado());
+            assertEquals(inicio, lida.getDataHora());
+            assertEquals(status, lida.getEstado());
+        }
+        assertEquals(StatusSessao.values().length, CodecBinario.STATUS.length);
+    }
+
+    @Test
+    void testFeedbackEMensagem() throws FeedbackException {
+        SessaoMentoria sessao = new SessaoMentoria(40L, mentor, ana, inicio);
+        estado.adicionarSessao(sessao);
+        Feedback feedback = new Feedback(50L, sessao, ana, 5, "Excelente sessão", inicio.plusHours(1));
+        Mensagem mensagem = new Mensagem(60L, ana, mentor, "Obrigada pela ajuda!", inicio.plusHours(2));
+
+        CodecBinario.escreverFeedback(buffer, feedback);
+        CodecBinario.escreverMensagem(buffer, mensagem);
+        buffer.flip();
+
+        Feedback feedbackLido = CodecBinario.lerFeedback(buffer, estado);
+        assertEquals(50L, feedbackLido.getId());
+        assertSame(sessao, feedbackLido.getSessao());
+        assertSame(ana, feedbackLido.getAutor());
+        assertEquals(5, feedbackLido.getAvaliacao().getNota());
+        assertEquals("Excelente sessão", feedbackLido.getComentario());
+        assertEquals(inicio.plusHours(1), feedbackLido.getInstante());
+
+        Mensagem mensagemLida = CodecBinario.lerMensagem(buffer, estado);
+        assertEquals(60L, mensagemLida.getId());
+        assertSame(ana, mensagemLida.getRemetente());
+        assertSame(mentor, mensagemLida.getDestinatario());
+        assertEquals("Obrigada pela ajuda!", mensagemLida.getConteudo());
+        assertEquals(inicio.plusHours(2), mensagemLida.getDataEnvio());
+        assertFalse(buffer.hasRemaining());
+    }
+
+    @Test
+    void testSessaoOcupaMenosQueAMutacaoDeTamanhoFixo() throws IOException {
+        SessaoMentoria sessao = new SessaoMentoria(40L, mentor, ana, inicio);
+        CodecBinario.escreverSessao(buffer, sessao);
+
+        ByteArrayOutputStream fixo = new ByteArrayOutputStream();
+        Mutacao.sessaoAgendada(sessao).escrever(new DataOutputStream(fixo));
+
+        assertEquals(10, buffer.position());
+        assertTrue(buffer.position() * 3 < fixo.size());
+    }
+
+    @Test
+    void testDadosInvalidos() {
+        buffer.put((byte) 9);
+        buffer.flip();
+        assertThrows(IllegalArgumentException.class, () -> CodecBinario.lerUsuario(buffer, estado));
+
+        buffer.clear();
+        CodecBinario.escreverSessao(buffer, new SessaoMentoria(40L, mentor, ana, inicio));
+        buffer.put(buffer.position() - 1, (byte) 42);
+        buffer.flip();
+        assertThrows(IllegalArgumentException.class, () -> CodecBinario.lerSessao(buffer, estado));
+
+        buffer.clear();
+        for (int i = 0; i < 10; i++) {
+            buffer.put((byte) 0xFF);
+        }
+        buffer.flip();
+        assertThrows(IllegalArgumentException.class, () -> CodecBinario.lerVarLong(buffer));
+
+        buffer.clear();
+        CodecBinario.escreverVarLong(buffer, 99L);
+        CodecBinario.escreverVarLong(buffer, 77L);
+        buffer.flip();
+        assertThrows(IllegalStateException.class, () -> CodecBinario.lerSessao(buffer, estado));
+    }
+}
@@ -0,0 +1,161 @@
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DiretorioUsuariosTest {
+
+    private final RelogioAjustavel relogio = new RelogioAjustavel(LocalDateTime.of(2030, 7, 1, 9, 0));
+    private DiretorioUsuarios diretorio;
+    private Mentor mentor;
+    private Mentorado mentorado;
+
+    @BeforeEach
+    void setUp() {
+        diretorio = new DiretorioUsuarios(1_000, Duration.ofSeconds(30), relogio);
+        mentor = new Mentor(1L, "Carlos", "  Carlos.Silva@Email.COM ", "senha123", "Mentor Java", new Agenda(1L));
+        mentorado = new Mentorado(2L, "Ana", "ana@email.com", "ana123");
+        diretorio.cadastrar(mentor);
+        diretorio.cadastrar(mentorado);
+    }
+
+    @Test
+    void testEmailNormalizadoNoConstrutorENaBusca() {
+        assertEquals("carlos.silva@email.com", mentor.getEmail());
+        assertEquals("senha123", mentor.getSenha());
+        assertEquals("ana123", mentorado.getSenha());
+        assertSame(mentor, diretorio.buscarPorEmail("CARLOS.SILVA@email.com"));
+        assertSame(mentorado, diretorio.buscarPorEmail(" Ana@Email.com"));
+        assertNull(diretorio.buscarPorEmail("outro@email.com"));
+        assertNull(diretorio.buscarPorEmail(null));
+        assertEquals(2, diretorio.tamanho());
+
+        Mentorado duplicado = new Mentorado(3L, "Outra Ana", "ANA@email.com", "x");
+        assertThrows(IllegalArgumentException.class, () -> diretorio.cadastrar(duplicado));
+        assertThrows(IllegalArgumentException.class, () -> diretorio.cadastrar(new Mentorado(4L, "Sem senha", "s@email.com", "")));
+        assertThrows(IllegalArgumentException.class, () -> diretorio.cadastrar(null));
+        assertThrows(IllegalArgumentException.class, () -> new DiretorioUsuarios(0, Duration.ZERO, relogio));
+    }
+
+    @Test
+    void testAutenticacaoComCacheDeVerificacoes() {
+        assertSame(mentor, diretorio.autenticar("Carlos.Silva@email.com", "senha123"));
+        assertEquals(1, diretorio.verificacoesEmCache());
+        assertSame(mentor, diretorio.autenticar("carlos.silva@email.com", "senha123"));
+        assertNull(diretorio.autenticar("carlos.silva@email.com", "senha errada"));
+        assertNull(diretorio.autenticar("ana@email.com", "senha123"));
+        assertNull(diretorio.autenticar("ninguem@email.com", "senha123"));
+        assertNull(diretorio.autenticar(null, "senha123"));
+        assertEquals(1, diretorio.verificacoesEmCache());
+
+        relogio.avancar(Duration.ofSeconds(31));
+        assertNull(diretorio.autenticar("carlos.silva@email.com", "outra"));
+        assertEquals(0, diretorio.verificacoesEmCache());
+        assertSame(mentor, diretorio.autenticar("carlos.silva@email.com", "senha123"));
+        assertEquals(1, diretorio.verificacoesEmCache());
+    }
+
+    @Test
+    void testRedefinirSenhaERemoverDescartamOCache() {
+        assertSame(mentorado, diretorio.autenticar("ana@email.com", "ana123"));
+        assertTrue(diretorio.redefinirSenha("ANA@email.com", "nova456"));
+        assertEquals("ana123", mentorado.getSenha());
+        assertNull(diretorio.autenticar("ana@email.com", "ana123"));
+        assertSame(mentorado, diretorio.autenticar("ana@email.com", "nova456"));
+        assertFalse(diretorio.redefinirSenha("ninguem@email.com", "x"));
+        assertThrows(IllegalArgumentException.class, () -> diretorio.redefinirSenha("ana@email.com", ""));
+
+        assertTrue(diretorio.remover("ana@email.com"));
+        assertFalse(diretorio.remover("ana@email.com"));
+        assertNull(diretorio.autenticar("ana@email.com", "nova456"));
+        assertEquals(0, diretorio.verificacoesEmCache());
+    }
+
+    @Test
+    void testSemCacheQuandoValidadeZero() {
+        DiretorioUsuarios semCache = new DiretorioUsuarios(1_000, Duration.ZERO, relogio);
+        semCache.cadastrar(mentor);
+        assertSame(mentor, semCache.autenticar("carlos.silva@email.com", "senha123"));
+        assertEquals(0, semCache.verificacoesEmCache());
+    }
+
+    @Test
+    void testCredenciaisPublicadasRestauramUsuarioSemSenha() {
+        DiretorioUsuarios origem = new DiretorioUsuarios(1_000, Duration.ZERO, relogio);
+        List<CredencialSenha> definidas = new ArrayList<>();
+        List<Usuario> removidos = new ArrayList<>();
+        origem.adicionarOuvinteCredenciais(new OuvinteCredenciais() {
+            @Override
+            public void credencialDefinida(Usuario usuario, CredencialSenha credencial) {
+                definidas.add(credencial);
+            }
+
+            @Override
+            public void credencialRemovida(Usuario usuario) {
+                removidos.add(usuario);
+            }
+        });
+        origem.cadastrar(mentorado);
+        assertTrue(origem.redefinirSenha("ana@email.com", "nova456"));
+        assertTrue(origem.remover("ana@email.com"));
+        assertEquals(2, definidas.size());
+        assertEquals(List.of(mentorado), removidos);
+        assertEquals(1_000, definidas.get(1).getIteracoes());
+
+        Mentorado reconstruido = new Mentorado(2L, "Ana", "ana@email.com", null);
+        DiretorioUsuarios destino = new DiretorioUsuarios(5_000, Duration.ZERO, relogio);
+        destino.restaurar(reconstruido, definidas.get(1));
+        assertSame(reconstruido, destino.autenticar("ana@email.com", "nova456"));
+        assertNull(destino.autenticar("ana@email.com", "ana123"));
+        assertThrows(IllegalArgumentException.class, () -> destino.restaurar(reconstruido, definidas.get(0)));
+        assertThrows(IllegalArgumentException.class, () -> destino.restaurar(mentor, null));
+    }
+
+    @Test
+    void testLoginsConcorrentes() throws InterruptedException {
+        List<Mentorado> usuarios = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            Mentorado usuario = new Mentorado(100L + i, "Usuario " + i, "usuario" + i + "@email.com", "senha" + i);
+            diretorio.cadastrar(usuario);
+            usuarios.add(usuario);
+        }
+        AtomicInteger sucessos = new AtomicInteger();
+        AtomicInteger falhas = new AtomicInteger();
+        CountDownLatch largada = new CountDownLatch(1);
+        List<Thread> trabalhadores = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            Thread trabalhador = new Thread(() -> {
+                try {
+                    largada.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                for (int i = 0; i < 200; i++) {
+                    Mentorado usuario = usuarios.get(i % usuarios.size());
+                    if (diretorio.autenticar(usuario.getEmail().toUpperCase(), i >= 180 ? "errada" : usuario.getSenha()) == usuario) {
+                        sucessos.incrementAndGet();
+                    } else {
+                        falhas.incrementAndGet();
+                    }
+                }
+            });
+            trabalhadores.add(trabalhador);
+            trabalhador.start();
+        }
+        largada.countDown();
+        for (Thread trabalhador : trabalhadores) {
+            trabalhador.join();
+        }
+
+        assertEquals(4 * 180, sucessos.get());
+        assertEquals(4 * 20, falhas.get());
+        assertEquals(20, diretorio.verificacoesEmCache());
+    }
+}
@@ -0,0 +1,125 @@
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventosDominioTest {
+
+    @Test
+    void testSinkAssincronoEntregaTodosOsEventosDeVariosProdutores() throws InterruptedException {
+        SinkEventosMemoria memoria = new SinkEventosMemoria();
+        SinkEventosAssincrono assincrono = new SinkEventosAssincrono(memoria, 1 << 16);
+        int produtores = 8;
+        int eventosPorProdutor = 5_000;
+        CountDownLatch largada = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < produtores; p++) {
+            long base = p * 1_000_000L;
+            Thread t = new Thread(() -> {
+                try {
+                    largada.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                for (int i = 0; i < eventosPorProdutor; i++) {
+                    assincrono.publicar(new EventoDominio(TipoEvento.SESSAO_INICIADA, base + i, 1L, StatusSessao.APROVADA, StatusSessao.INICIADA, null));
+                }
+            });
+            threads.add(t);
+            t.start();
+        }
+        largada.countDown();
+        for (Thread t : threads) {
+            t.join();
+        }
+        assincrono.close();
+
+        assertEquals(produtores * eventosPorProdutor, memoria.getEventos().size() + assincrono.getDescartados());
+        assertEquals(0, assincrono.getDescartados());
+        assertEquals(memoria.getEventos().size(), memoria.getEventos().stream().map(EventoDominio::getSessaoId).distinct().count());
+    }
+
+    @Test
+    void testSinkAssincronoDescartaQuandoCheioOuFechado() {
+        SinkEventos lento = evento -> {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        SinkEventosAssincrono assincrono = new SinkEventosAssincrono(lento, 2);
+        for (int i = 0; i < 20; i++) {
+            assincrono.publicar(new EventoDominio(TipoEvento.PENALIDADE_APLICADA, (long) i, 1L, null, null, null));
+        }
+        assertTrue(assincrono.getDescartados() > 0);
+        assincrono.close();
+        long descartadosAposFechar = assincrono.getDescartados();
+        assincrono.publicar(new EventoDominio(TipoEvento.PENALIDADE_APLICADA, 99L, 1L, null, null, null));
+        assertEquals(descartadosAposFechar + 1, assincrono.getDescartados());
+    }
+
+    @Test
+    void testSetSinkFechaOAnteriorETrocarSinkDevolveAPosse() {
+        SinkEventosMemoria memoria = new SinkEventosMemoria();
+        SinkEventosAssincrono assincrono = new SinkEventosAssincrono(memoria, 8);
+        SinkEventos original = Eventos.trocarSink(assincrono);
+        try {
+            Eventos.publicar(TipoEvento.PENALIDADE_APLICADA, 1L, 1L, null, null, null);
+            assertSame(assincrono, Eventos.trocarSink(SinkEventosNulo.INSTANCIA));
+            Eventos.setSink(assincrono);
+            Eventos.setSink(assincrono);
+            Eventos.setSink(null);
+            assertSame(SinkEventosNulo.INSTANCIA, Eventos.getSink());
+            assertEquals(1, memoria.getEventos().size());
+            assincrono.publicar(new EventoDominio(TipoEvento.PENALIDADE_APLICADA, 2L, 1L, null, null, null));
+            assertEquals(1, assincrono.getDescartados());
+        } finally {
+            Eventos.setSink(original);
+        }
+    }
+
+    @Test
+    void testEventosUsamOInstanteDoRelogioDaSessao() {
+        LocalDateTime agora = LocalDateTime.of(2030, 3, 1, 10, 0);
+        SinkEventosMemoria memoria = new SinkEventosMemoria();
+        SinkEventos original = Eventos.trocarSink(memoria);
+        try {
+            Mentor mentor = new Mentor(1L, "Carlos", "carlos@email.com", "senha", "bio", new Agenda(1L));
+            Mentorado ana = new Mentorado(2L, "Ana", "ana@email.com", "senha");
+            SessaoMentoria sessao = new SessaoMentoria(3L, mentor, ana, agora.plusDays(2));
+            sessao.setRelogio(new RelogioAjustavel(agora));
+            sessao.transicionarPara(StatusSessao.APROVADA, null);
+            sessao.atualizarStatusSessao("", null);
+
+            List<EventoDominio> eventos = memoria.getEventos();
+            assertEquals(List.of(TipoEvento.SESSAO_APROVADA, TipoEvento.STATUS_INVALIDO),
+                    List.of(eventos.get(0).getTipo(), eventos.get(1).getTipo()));
+            assertEquals(agora, eventos.get(0).getInstante());
+            assertEquals(agora, eventos.get(1).getInstante());
+            assertNotNull(new EventoDominio(TipoEvento.PENALIDADE_APLICADA, 1L, 1L, null, null, null).getInstante());
+        } finally {
+            Eventos.setSink(original);
+        }
+    }
+
+    @Test
+    void testSinkAssincronoValidaParametros() {
+        assertThrows(IllegalArgumentException.class, () -> new SinkEventosAssincrono(null, 8));
+        assertThrows(IllegalArgumentException.class, () -> new SinkEventosAssincrono(new SinkEventosMemoria(), 6));
+        assertThrows(IllegalArgumentException.class, () -> new EventoDominio(null, 1L, 1L, null, null, null));
+    }
+
+    @Test
+    void testSinkNuloEDescricaoDosEventos() {
+        assertFalse(SinkEventosNulo.INSTANCIA.isAtivo());
+        assertEquals("Sessão 7 iniciada com sucesso.", new EventoDominio(TipoEvento.SESSAO_INICIADA, 7L, 1L, StatusSessao.APROVADA, StatusSessao.INICIADA, null).descrever());
+        assertEquals("Sessão 7 cancelada. Motivo: ", new EventoDominio(TipoEvento.SESSAO_CANCELADA, 7L, 1L, StatusSessao.APROVADA, StatusSessao.CANCELADA, null).descrever());
+        assertEquals("Não é possível cancelar uma sessão com status Iniciada", new EventoDominio(TipoEvento.TRANSICAO_REJEITADA, 7L, 1L, StatusSessao.INICIADA, StatusSessao.CANCELADA, null).descrever());
+        assertEquals("Status desconhecido: xyz", new EventoDominio(TipoEvento.STATUS_INVALIDO, 7L, 1L, StatusSessao.PENDENTE, null, "xyz").descrever());
+    }
+}
@@ -0,0 +1,93 @@
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GeradorIdsTest {
+
+    @Test
+    void testIdsUnicosECrescentesSobContencao() throws InterruptedException {
+        GeradorIds gerador = new GeradorIds(3);
+        int threads = Math.max(4, Runtime.getRuntime().availableProcessors());
+        int idsPorThread = 200_000;
+        long[][] gerados = new long[threads][idsPorThread];
+        CountDownLatch largada = new CountDownLatch(1);
+        List<Thread> trabalhadores = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            long[] destino = gerados[t];
+            Thread trabalhador = new Thread(() -> {
+                try {
+                    largada.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                for (int i = 0; i < idsPorThread; i++) {
+                    destino[i] = gerador.proximoId();
+                }
+            });
+            trabalhadores.add(trabalhador);
+            trabalhador.start();
+        }
+        largada.countDown();
+        for (Thread trabalhador : trabalhadores) {
+            trabalhador.join();
+        }
+
+        long[] todos = new long[threads * idsPorThread];
+        for (int t = 0; t < threads; t++) {
+            for (int i = 1; i < idsPorThread; i++) {
+                assertTrue(gerados[t][i] > gerados[t][i - 1]);
+            }
+            System.arraycopy(gerados[t], 0, todos, t * idsPorThread, idsPorThread);
+        }
+        Arrays.sort(todos);
+        for (int i = 1; i < todos.length; i++) {
+            assertNotEquals(todos[i - 1], todos[i]);
+        }
+        for (long id : todos) {
+            assertEquals(3, GeradorIds.extrairNo(id));
+            assertTrue(id > 0);
+        }
+    }
+
+    @Test
+    void testSequenciaEstouraParaOProximoMilissegundo() {
+        long instante = GeradorIds.EPOCA + 1_000;
+        GeradorIds gerador = new GeradorIds(1, () -> instante);
+        long anterior = -1;
+        for (int i = 0; i <= GeradorIds.SEQUENCIA_MAXIMA + 10; i++) {
+            long id = gerador.proximoId();
+            assertTrue(id > anterior);
+            anterior = id;
+        }
+        assertEquals(instante + 1, GeradorIds.extrairEpochMillis(anterior));
+        assertEquals(9, GeradorIds.extrairSequencia(anterior));
+    }
+
+    @Test
+    void testRelogioVoltandoNoTempoNaoGeraRepeticao() {
+        AtomicLong relogio = new AtomicLong(GeradorIds.EPOCA + 5_000);
+        GeradorIds gerador = new GeradorIds(2, relogio::get);
+        long primeiro = gerador.proximoId();
+        relogio.addAndGet(-2_000);
+        long segundo = gerador.proximoId();
+        assertTrue(segundo > primeiro);
+        assertEquals(GeradorIds.EPOCA + 5_000, GeradorIds.extrairEpochMillis(segundo));
+        relogio.addAndGet(10_000);
+        long terceiro = gerador.proximoId();
+        assertEquals(GeradorIds.EPOCA + 13_000, GeradorIds.extrairEpochMillis(terceiro));
+        assertEquals(0, GeradorIds.extrairSequencia(terceiro));
+    }
+
+    @Test
+    void testNoForaDoIntervalo() {
+        assertThrows(IllegalArgumentException.class, () -> new GeradorIds(-1));
+        assertThrows(IllegalArgumentException.class, () -> new GeradorIds(GeradorIds.NO_MAXIMO + 1));
+        assertThrows(IllegalArgumentException.class, () -> new GeradorIds(1, null));
+    }
+}
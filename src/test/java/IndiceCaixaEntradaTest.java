@@ -0,0 +1,133 @@
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IndiceCaixaEntradaTest {
+
+    private final LocalDateTime inicio = LocalDateTime.of(2030, 2, 1, 10, 0);
+    private IndiceCaixaEntrada indice;
+    private Mentor mentor;
+    private Mentorado ana;
+    private Mentorado bruno;
+
+    @BeforeEach
+    void setup() {
+        indice = new IndiceCaixaEntrada();
+        mentor = new Mentor(1L, "Carlos", "carlos@email.com", "senha123", "Mentor Java", new Agenda(1L));
+        ana = new Mentorado(2L, "Ana", "ana@email.com", "senha456");
+        bruno = new Mentorado(3L, "Bruno", "bruno@email.com", "senha789");
+    }
+
+    @Test
+    void testPaginaMensagensRecentesComCursor() {
+        for (long i = 0; i < 120; i++) {
+            Usuario remetente = i % 2 == 0 ? ana : bruno;
+            indice.indexar(new Mensagem(i, remetente, mentor, "Mensagem " + i, inicio.plusMinutes(i)));
+        }
+        indice.indexar(new Mensagem(500L, mentor, ana, "Resposta", inicio));
+
+        List<Long> ids = new ArrayList<>();
+        CursorMensagens cursor = null;
+        int paginas = 0;
+        do {
+            PaginaMensagens pagina = indice.recentes(mentor, 50, cursor);
+            pagina.getMensagens().forEach(m -> ids.add(m.getId()));
+            cursor = pagina.getProximo();
+            paginas++;
+        } while (cursor != null);
+
+        assertEquals(3, paginas);
+        assertEquals(120, ids.size());
+        for (int i = 0; i < 120; i++) {
+            assertEquals(119L - i, ids.get(i));
+        }
+        assertEquals(1, indice.tamanhoCaixa(ana));
+        assertEquals(0, indice.tamanhoCaixa(bruno));
+    }
+
+    @Test
+    void testMensagensComMesmaDataSaoDesempatadasPeloId() {
+        indice.indexar(new Mensagem(2L, ana, mentor, "b", inicio));
+        indice.indexar(new Mensagem(1L, ana, mentor, "a", inicio));
+        indice.indexar(new Mensagem(3L, ana, mentor, "c", inicio));
+
+        PaginaMensagens primeira = indice.recentes(mentor, 2, null);
+        assertEquals(List.of(3L, 2L), List.of(primeira.getMensagens().get(0).getId(), primeira.getMensagens().get(1).getId()));
+        PaginaMensagens segunda = indice.recentes(mentor, 2, primeira.getProximo());
+        assertEquals(1, segunda.getMensagens().size());
+        assertEquals(1L, segunda.getMensagens().get(0).getId());
+        assertFalse(segunda.temProxima());
+    }
+
+    @Test
+    void testConversaEntreDoisUsuariosDesdeUmInstante() {
+        for (long i = 0; i < 30; i++) {
+            Usuario remetente = i % 2 == 0 ? mentor : ana;
+            Usuario destinatario = remetente == mentor ? ana : mentor;
+            indice.indexar(new Mensagem(i, remetente, destinatario, "Mensagem " + i, inicio.plusMinutes(i)));
+        }
+        indice.indexar(new Mensagem(100L, bruno, mentor, "Outra conversa", inicio.plusMinutes(20)));
+
+        PaginaMensagens pagina = indice.conversaDesde(ana, mentor, inicio.plusMinutes(20), 4, null);
+        assertEquals(List.of(20L, 21L, 22L, 23L), idsDe(pagina));
+        pagina = indice.conversaDesde(mentor, ana, inicio.plusMinutes(20), 4, pagina.getProximo());
+        assertEquals(List.of(24L, 25L, 26L, 27L), idsDe(pagina));
+        pagina = indice.conversaDesde(mentor, ana, inicio.plusMinutes(20), 4, pagina.getProximo());
+        assertEquals(List.of(28L, 29L), idsDe(pagina));
+        assertNull(pagina.getProximo());
+
+        assertTrue(indice.conversaDesde(ana, bruno, null, 10, null).getMensagens().isEmpty());
+    }
+
+    @Test
+    void testIteradorPercorreCaixaSemMaterializar() {
+        for (long i = 0; i < 10; i++) {
+            indice.indexar(new Mensagem(i, ana, mentor, "Mensagem " + i, inicio.plusHours(i)));
+        }
+        Iterator<Mensagem> iterador = indice.iterarCaixa(mentor, inicio.plusHours(7));
+        assertEquals(7L, iterador.next().getId());
+        indice.indexar(new Mensagem(10L, ana, mentor, "Chegou depois", inicio.plusHours(10)));
+        assertEquals(8L, iterador.next().getId());
+        assertEquals(9L, iterador.next().getId());
+        assertEquals(10L, iterador.next().getId());
+        assertFalse(iterador.hasNext());
+        assertFalse(indice.iterarCaixa(bruno, null).hasNext());
+    }
+
+    @Test
+    void testContadorDeNaoLidas() {
+        Mensagem primeira = new Mensagem(1L, ana, mentor, "Oi", inicio);
+        Mensagem segunda = new Mensagem(2L, bruno, mentor, "Olá", inicio.plusMinutes(1));
+        assertTrue(indice.indexar(primeira));
+        assertTrue(indice.indexar(segunda));
+        assertFalse(indice.indexar(primeira));
+        assertEquals(2, indice.naoLidas(mentor));
+
+        assertTrue(indice.marcarComoLida(primeira));
+        assertFalse(indice.marcarComoLida(primeira));
+        assertTrue(indice.isLida(primeira));
+        assertFalse(indice.isLida(segunda));
+        assertEquals(1, indice.naoLidas(mentor));
+        assertEquals(0, indice.naoLidas(ana));
+        assertFalse(indice.marcarComoLida(new Mensagem(3L, ana, mentor, "Não indexada", inicio)));
+    }
+
+    @Test
+    void testParametrosInvalidos() {
+        assertThrows(IllegalArgumentException.class, () -> indice.indexar(null));
+        assertThrows(IllegalArgumentException.class, () -> indice.recentes(mentor, 0, null));
+        assertThrows(IllegalArgumentException.class, () -> indice.recentes(null, 10, null));
+    }
+
+    private static List<Long> idsDe(PaginaMensagens pagina) {
+        List<Long> ids = new ArrayList<>();
+        pagina.getMensagens().forEach(m -> ids.add(m.getId()));
+        return ids;
+    }
+}
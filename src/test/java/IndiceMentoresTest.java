@@ -0,0 +1,79 @@
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IndiceMentoresTest {
+
+    private AreaConhecimento areaBackend, areaFrontend;
+    private Tecnologia tecJava, tecSpringBoot, tecReact;
+    private Mentor carlos, beatriz, daniel;
+    private IndiceMentores indice;
+
+    @BeforeEach
+    void setup() {
+        areaBackend = new AreaConhecimento(1L, "Desenvolvimento Backend");
+        areaFrontend = new AreaConhecimento(2L, "Desenvolvimento Frontend");
+        tecJava = new Tecnologia(1L, "Java", areaBackend);
+        tecSpringBoot = new Tecnologia(2L, "Spring Boot", areaBackend);
+        tecReact = new Tecnologia(3L, "React", areaFrontend);
+        carlos = new Mentor(1L, "Carlos Silva", "carlos@email.com", "123", "bio", new Agenda(1L));
+        beatriz = new Mentor(2L, "Beatriz Lima", "beatriz@email.com", "123", "bio", new Agenda(2L));
+        daniel = new Mentor(3L, "Daniel Rocha", "daniel@email.com", "123", "bio", new Agenda(3L));
+        carlos.adicionarTecnologia(tecJava);
+        carlos.adicionarTecnologia(tecSpringBoot);
+        beatriz.adicionarTecnologia(tecJava);
+        beatriz.adicionarTecnologia(tecReact);
+        daniel.adicionarTecnologia(tecReact);
+        indice = new IndiceMentores();
+        indice.registrar(carlos);
+        indice.registrar(beatriz);
+        indice.registrar(daniel);
+    }
+
+    @Test
+    void testConsultasPorTecnologia() {
+        assertEquals(List.of(carlos, beatriz), indice.comTodasTecnologias(1L));
+        assertEquals(List.of(beatriz), indice.comTodasTecnologias(1L, 3L));
+        assertEquals(List.of(carlos, beatriz, daniel), indice.comAlgumaTecnologia(2L, 3L));
+        assertTrue(indice.comTodasTecnologias(1L, 99L).isEmpty());
+        assertTrue(indice.comTodasTecnologias().isEmpty());
+        assertEquals(List.of(carlos), indice.comAlgumaTecnologia(2L, 99L));
+        assertEquals(2, indice.contarComTodasTecnologias(1L));
+        assertEquals(3, indice.contarComAlgumaTecnologia(1L, 3L));
+    }
+
+    @Test
+    void testConsultasPorArea() {
+        assertEquals(List.of(carlos, beatriz), indice.comTodasAreas(1L));
+        assertEquals(List.of(beatriz), indice.comTodasAreas(1L, 2L));
+        assertEquals(List.of(carlos, beatriz, daniel), indice.comAlgumaArea(1L, 2L));
+    }
+
+    @Test
+    void testAtualizacaoIncrementalERegistroIdempotente() {
+        daniel.adicionarTecnologia(tecJava);
+        assertEquals(List.of(carlos, beatriz, daniel), indice.comTodasTecnologias(1L));
+        assertEquals(List.of(beatriz, daniel), indice.comTodasAreas(1L, 2L));
+        indice.registrar(daniel);
+        indice.registrar(null);
+        assertEquals(3, indice.tamanho());
+        Mentor semIndice = new Mentor(4L, "Elisa", "elisa@email.com", "123", "bio", new Agenda(4L));
+        semIndice.adicionarTecnologia(tecSpringBoot);
+        assertEquals(List.of(carlos), indice.comTodasTecnologias(2L));
+    }
+
+    @Test
+    void testRemocaoDeTecnologiaAtualizaIndice() {
+        beatriz.removerTecnologia(tecReact);
+        assertEquals(List.of(daniel), indice.comTodasTecnologias(3L));
+        assertEquals(List.of(daniel), indice.comTodasAreas(2L));
+        carlos.removerTecnologia(tecJava);
+        assertEquals(List.of(beatriz), indice.comTodasTecnologias(1L));
+        assertEquals(List.of(carlos, beatriz), indice.comTodasAreas(1L));
+        carlos.removerTecnologia(tecSpringBoot);
+        assertEquals(List.of(beatriz), indice.comTodasAreas(1L));
+    }
+}
@@ -1,3 +1,4 @@
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -6,8 +7,6 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
-import java.util.Collections;
-import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.*;
@@ -27,74 +26,99 @@ class MentorMockTest {
     @InjectMocks
     private Mentor mentor;
 
+    private SinkEventos sinkOriginal;
+
     @BeforeEach
     void setUp() {
+        sinkOriginal = Eventos.trocarSink(SinkEventosNulo.INSTANCIA);
         mentor.setId(1L);
         mentor.setNome("Sofia");
         mentor.adicionarSessao(sessaoPendenteMock);
     }
 
+    @AfterEach
+    void restaurarEventos() {
+        Eventos.setSink(sinkOriginal);
+    }
+
     @Test
     void gerenciarDisponibilidade_QuandoHorarioDisponivel_DeveAprovarSessao() {
         LocalDateTime horarioProposto = LocalDateTime.now().plusDays(2);
-        when(sessaoPendenteMock.getStatus()).thenReturn("Pendente");
+        when(sessaoPendenteMock.getEstado()).thenReturn(StatusSessao.PENDENTE);
         when(sessaoPendenteMock.getMentorado()).thenReturn(mentoradoMock);
         when(mentoradoMock.getNome()).thenReturn("Ana Pereira");
-        when(agendaMock.getHorariosDisponiveis()).thenReturn(List.of(horarioProposto));
+        when(agendaMock.contemHorario(horarioProposto)).thenReturn(true);
+        when(agendaMock.reservar(horarioProposto, sessaoPendenteMock)).thenReturn(true);
 
         String resultado = mentor.gerenciarDisponibilidadeEAprovarSessao(horarioProposto, sessaoPendenteMock);
 
         assertEquals("Status da aprovação: Aprovada com Prioridade", resultado);
-        verify(agendaMock).getHorariosDisponiveis();
+        verify(agendaMock).contemHorario(horarioProposto);
+        verify(agendaMock).reservar(horarioProposto, sessaoPendenteMock);
+    }
+
+    @Test
+    void gerenciarDisponibilidade_QuandoReservaJaFoiTomada_DeveRetornarErro() {
+        LocalDateTime horarioProposto = LocalDateTime.now().plusDays(2);
+        when(agendaMock.contemHorario(horarioProposto)).thenReturn(true);
+        when(sessaoPendenteMock.getEstado()).thenReturn(StatusSessao.PENDENTE);
+        when(agendaMock.reservar(horarioProposto, sessaoPendenteMock)).thenReturn(false);
+
+        String resultado = mentor.gerenciarDisponibilidadeEAprovarSessao(horarioProposto, sessaoPendenteMock);
+
+        assertEquals("Horário proposto não está disponível na agenda.", resultado);
+        verify(sessaoPendenteMock, never()).setEstado(any());
     }
 
     @Test
     void gerenciarDisponibilidade_QuandoHorarioIndisponivel_DeveRetornarErro() {
         LocalDateTime horarioProposto = LocalDateTime.now().plusDays(2);
-        when(agendaMock.getHorariosDisponiveis()).thenReturn(Collections.emptyList());
+        when(agendaMock.contemHorario(horarioProposto)).thenReturn(false);
 
         String resultado = mentor.gerenciarDisponibilidadeEAprovarSessao(horarioProposto, sessaoPendenteMock);
 
         assertEquals("Horário proposto não está disponível na agenda.", resultado);
-        verify(agendaMock).getHorariosDisponiveis();
+        verify(agendaMock).contemHorario(horarioProposto);
     }
 
     @Test
     void gerenciarDisponibilidade_QuandoSessaoNaoEstaPendente_DeveRetornarErro() {
         LocalDateTime horarioProposto = LocalDateTime.now().plusDays(2);
-        when(agendaMock.getHorariosDisponiveis()).thenReturn(List.of(horarioProposto));
-        when(sessaoPendenteMock.getStatus()).thenReturn("Aprovada");
+        when(agendaMock.contemHorario(horarioProposto)).thenReturn(true);
+        when(sessaoPendenteMock.getEstado()).thenReturn(StatusSessao.APROVADA);
 
         String resultado = mentor.gerenciarDisponibilidadeEAprovarSessao(horarioProposto, sessaoPendenteMock);
 
         assertEquals("Sessão não encontrada ou não está pendente.", resultado);
 
-        verify(sessaoPendenteMock, never()).setStatus(anyString());
+        verify(sessaoPendenteMock, never()).setEstado(any());
     }
 
     @Test
     void gerenciarDisponibilidade_QuandoHorarioMuitoProximo_DeveRecusarSessao() {
         LocalDateTime horarioProposto = LocalDateTime.now().plusHours(4);
-        when(agendaMock.getHorariosDisponiveis()).thenReturn(List.of(horarioProposto));
-        when(sessaoPendenteMock.getStatus()).thenReturn("Pendente");
+        when(agendaMock.contemHorario(horarioProposto)).thenReturn(true);
+        when(sessaoPendenteMock.getEstado()).thenReturn(StatusSessao.PENDENTE);
 
         String resultado = mentor.gerenciarDisponibilidadeEAprovarSessao(horarioProposto, sessaoPendenteMock);
 
         assertEquals("Status da aprovação: Recusada (Muito em cima da hora)", resultado);
 
-        verify(sessaoPendenteMock).setStatus("Recusada");
+        verify(sessaoPendenteMock).setEstado(StatusSessao.RECUSADA);
+        verify(agendaMock, never()).reservar(any(), any());
     }
 
     @Test
     void gerenciarDisponibilidade_QuandoHorarioTemAntecedenciaMedia_DeveAprovarParaRevisao() {
         LocalDateTime horarioProposto = LocalDateTime.now().plusHours(12);
-        when(agendaMock.getHorariosDisponiveis()).thenReturn(List.of(horarioProposto));
-        when(sessaoPendenteMock.getStatus()).thenReturn("Pendente");
+        when(agendaMock.contemHorario(horarioProposto)).thenReturn(true);
+        when(agendaMock.reservar(horarioProposto, sessaoPendenteMock)).thenReturn(true);
+        when(sessaoPendenteMock.getEstado()).thenReturn(StatusSessao.PENDENTE);
 
         String resultado = mentor.gerenciarDisponibilidadeEAprovarSessao(horarioProposto, sessaoPendenteMock);
 
         assertEquals("Status da aprovação: Aprovada (Revisar disponibilidade)", resultado);
 
-        verify(sessaoPendenteMock).setStatus("Aprovada");
+        verify(sessaoPendenteMock).setEstado(StatusSessao.APROVADA);
     }
 }
\ No newline at end of file
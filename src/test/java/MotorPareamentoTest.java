@@ -0,0 +1,160 @@
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MotorPareamentoTest {
+
+    private final LocalDateTime inicio = LocalDateTime.of(2030, 3, 1, 9, 0);
+    private final AreaConhecimento backend = new AreaConhecimento(1L, "Desenvolvimento Backend");
+    private final AreaConhecimento frontend = new AreaConhecimento(2L, "Desenvolvimento Frontend");
+    private final Tecnologia java = new Tecnologia(1L, "Java", backend);
+    private final Tecnologia spring = new Tecnologia(2L, "Spring Boot", backend);
+    private final Tecnologia react = new Tecnologia(3L, "React", frontend);
+
+    private Mentor mentor(long id, int horariosLivres, Tecnologia... tecnologias) {
+        Mentor mentor = new Mentor(id, "Mentor " + id, "mentor" + id + "@email.com", "senha", "bio", new Agenda(id));
+        for (int i = 0; i < horariosLivres; i++) {
+            mentor.getAgenda().adicionarHorario(inicio.plusHours(i));
+        }
+        for (Tecnologia tecnologia : tecnologias) {
+            mentor.adicionarTecnologia(tecnologia);
+        }
+        return mentor;
+    }
+
+    private Mentorado mentorado(long id, String... metas) {
+        Mentorado mentorado = new Mentorado(id, "Mentorado " + id, "mentorado" + id + "@email.com", "senha");
+        PlanoEstudo plano = new PlanoEstudo(id);
+        for (int i = 0; i < metas.length; i++) {
+            plano.adicionarMeta(new Meta(id * 100 + i, metas[i], "Pendente", inicio.plusDays(30)));
+        }
+        mentorado.setPlanoEstudo(plano);
+        return mentorado;
+    }
+
+    @Test
+    void testPareiaPorTecnologiasEmComumERespeitaCapacidade() {
+        Mentor mentorJava = mentor(1L, 5, java, spring);
+        Mentor mentorReact = mentor(2L, 5, react);
+        Mentor semHorarios = mentor(3L, 0, java, spring, react);
+        Mentorado querSpring = mentorado(10L, "Aprender Spring Boot com JAVA");
+        Mentorado querReact = mentorado(11L, "Dominar React");
+        Mentorado querJava = mentorado(12L, "Revisar Java");
+        Mentorado semPlano = new Mentorado(13L, "Sem plano", "sp@email.com", "senha");
+        Mentorado concluido = mentorado(14L, "Java avançado");
+        concluido.getPlanoEstudo().getMetas().get(0).atualizarStatus("Concluída");
+
+        ResultadoPareamento resultado = new MotorPareamento(new ForkJoinPool(2), 4).parear(
+                List.of(mentorJava, mentorReact, semHorarios),
+                List.of(querSpring, querReact, querJava, semPlano, concluido), 2);
+
+        assertSame(mentorJava, resultado.mentorDe(querSpring));
+        assertSame(mentorReact, resultado.mentorDe(querReact));
+        assertSame(mentorJava, resultado.mentorDe(querJava));
+        assertSame(mentorReact, resultado.mentorDe(semPlano));
+        assertEquals(List.of(concluido), resultado.getSemPar());
+        assertEquals(4, resultado.getPares().size());
+        assertFalse(resultado.getPares().containsValue(semHorarios));
+        assertEquals(205 + 105 + 105 + 5, resultado.getPontuacaoTotal());
+        assertTrue(resultado.getRodadas() >= 1);
+    }
+
+    @Test
+    void testInteressesCasamPalavrasInteiras() {
+        AreaConhecimento linguagens = new AreaConhecimento(3L, "Linguagens");
+        Mentor mentorJava = mentor(1L, 1, java);
+        Mentor mentorGo = mentor(2L, 1, new Tecnologia(4L, "Go", linguagens));
+        Mentor mentorC = mentor(3L, 1, new Tecnologia(5L, "C", linguagens));
+        Mentor mentorR = mentor(4L, 1, new Tecnologia(6L, "R", linguagens));
+        Mentor mentorJavaScript = mentor(5L, 1, new Tecnologia(7L, "JavaScript", frontend));
+        Mentorado querJavaScript = mentorado(10L, "Aprender JavaScript", "Estudar algoritmos", "Revisar conceitos de Redes");
+
+        ResultadoPareamento resultado = new MotorPareamento(new ForkJoinPool(1), 5).parear(
+                List.of(mentorJava, mentorGo, mentorC, mentorR, mentorJavaScript), List.of(querJavaScript), 1);
+        assertSame(mentorJavaScript, resultado.mentorDe(querJavaScript));
+        assertEquals(101, resultado.getPontuacaoTotal());
+
+        Mentor mentorCpp = mentor(6L, 1, new Tecnologia(8L, "C++", linguagens));
+        Mentor mentorNode = mentor(7L, 1, new Tecnologia(9L, "Node.js", backend));
+        Mentorado querCpp = mentorado(11L, "Praticar C++ (ponteiros).");
+        Mentorado querNode = mentorado(12L, "APIs com node.js e Spring");
+        resultado = new MotorPareamento(new ForkJoinPool(1), 5).parear(
+                List.of(mentorC, mentorCpp, mentorNode, mentor(8L, 1, spring)), List.of(querCpp, querNode), 1);
+        assertSame(mentorCpp, resultado.mentorDe(querCpp));
+        assertSame(mentorNode, resultado.mentorDe(querNode));
+        assertEquals(202, resultado.getPontuacaoTotal());
+        assertArrayEquals(new String[]{"c#", "e", "spring", "boot", "3"}, MotorPareamento.palavras("C#, e Spring-Boot 3!"));
+    }
+
+    @Test
+    void testQuemPerdeOCandidatoTentaDeNovoNaRodadaSeguinte() {
+        Mentor disputado = mentor(1L, 10, java);
+        Mentor reserva = mentor(2L, 1, react);
+        Mentorado primeiro = mentorado(10L, "Java");
+        Mentorado segundo = mentorado(11L, "Java");
+
+        ResultadoPareamento resultado = new MotorPareamento(new ForkJoinPool(1), 1).parear(
+                List.of(disputado, reserva), List.of(primeiro, segundo), 1);
+
+        assertSame(disputado, resultado.mentorDe(primeiro));
+        assertSame(reserva, resultado.mentorDe(segundo));
+        assertEquals(2, resultado.getRodadas());
+        assertTrue(resultado.getSemPar().isEmpty());
+    }
+
+    @Test
+    void testResultadoNaoDependeDoParalelismo() {
+        Random aleatorio = new Random(42);
+        List<Tecnologia> catalogo = new ArrayList<>();
+        for (int t = 0; t < 80; t++) {
+            catalogo.add(new Tecnologia(100L + t, "tec" + t + "x", t % 2 == 0 ? backend : frontend));
+        }
+        List<Mentor> mentores = new ArrayList<>();
+        for (int m = 0; m < 300; m++) {
+            Mentor mentor = mentor(1_000L + m, 1 + aleatorio.nextInt(6));
+            for (int t = 0; t < 5; t++) {
+                mentor.adicionarTecnologia(catalogo.get(aleatorio.nextInt(catalogo.size())));
+            }
+            mentores.add(mentor);
+        }
+        List<Mentorado> mentorados = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            mentorados.add(mentorado(10_000L + i,
+                    "Estudar tec" + aleatorio.nextInt(80) + "x",
+                    "Praticar tec" + aleatorio.nextInt(80) + "x e tec" + aleatorio.nextInt(80) + "x"));
+        }
+
+        ResultadoPareamento sequencial = new MotorPareamento(new ForkJoinPool(1), 8).parear(mentores, mentorados, 3);
+        ResultadoPareamento paralelo = new MotorPareamento(new ForkJoinPool(4), 8).parear(mentores, mentorados, 3);
+
+        assertEquals(sequencial.getPares(), paralelo.getPares());
+        assertEquals(sequencial.getPontuacaoTotal(), paralelo.getPontuacaoTotal());
+        Map<Mentor, Integer> carga = new HashMap<>();
+        sequencial.getPares().values().forEach(m -> carga.merge(m, 1, Integer::sum));
+        for (Map.Entry<Mentor, Integer> entrada : carga.entrySet()) {
+            assertTrue(entrada.getValue() <= Math.min(3, entrada.getKey().getAgenda().quantidadeHorarios()));
+        }
+        int capacidadeTotal = mentores.stream().mapToInt(m -> Math.min(3, m.getAgenda().quantidadeHorarios())).sum();
+        assertEquals(Math.min(capacidadeTotal, mentorados.size()), sequencial.getPares().size());
+    }
+
+    @Test
+    void testParametrosInvalidos() {
+        assertThrows(IllegalArgumentException.class, () -> new MotorPareamento(null, 8));
+        assertThrows(IllegalArgumentException.class, () -> new MotorPareamento(ForkJoinPool.commonPool(), 0));
+        MotorPareamento motor = new MotorPareamento();
+        assertThrows(IllegalArgumentException.class, () -> motor.parear(null, List.of(), 1));
+        assertThrows(IllegalArgumentException.class, () -> motor.parear(List.of(), List.of(), 0));
+        ResultadoPareamento vazio = motor.parear(List.of(), List.of(mentorado(1L, "Java")), 1);
+        assertEquals(0, vazio.getRodadas());
+        assertEquals(1, vazio.getSemPar().size());
+    }
+}
@@ -0,0 +1,135 @@
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RankingMentoresTest {
+
+    private final LocalDateTime inicio = LocalDateTime.of(2030, 6, 1, 10, 0);
+    private final AreaConhecimento backend = new AreaConhecimento(1L, "Desenvolvimento Backend");
+    private final AreaConhecimento frontend = new AreaConhecimento(2L, "Desenvolvimento Frontend");
+    private final Tecnologia java = new Tecnologia(1L, "Java", backend);
+    private final Tecnologia spring = new Tecnologia(2L, "Spring Boot", backend);
+    private final Tecnologia react = new Tecnologia(3L, "React", frontend);
+    private SinkEventos sinkOriginal;
+    private RankingMentores ranking;
+    private long proximoId = 1_000L;
+
+    @BeforeEach
+    void setUp() {
+        sinkOriginal = Eventos.trocarSink(SinkEventosNulo.INSTANCIA);
+        ranking = new RankingMentores();
+    }
+
+    @AfterEach
+    void restaurarEventos() {
+        Eventos.setSink(sinkOriginal);
+    }
+
+    private Mentor mentor(long id, Tecnologia... tecnologias) {
+        Mentor mentor = new Mentor(id, "Mentor " + id, "mentor" + id + "@email.com", "senha", "bio", new Agenda(id));
+        for (Tecnologia tecnologia : tecnologias) {
+            mentor.adicionarTecnologia(tecnologia);
+        }
+        return mentor;
+    }
+
+    private void avaliar(Mentor mentor, int nota) throws FeedbackException {
+        long id = proximoId++;
+        Mentorado mentorado = new Mentorado(id, "Mentorado " + id, "m" + id + "@email.com", "senha");
+        SessaoMentoria sessao = new SessaoMentoria(id, mentor, mentorado, inicio);
+        sessao.setEstado(StatusSessao.FINALIZADA);
+        sessao.adicionarFeedback(mentorado, nota, "Nota " + nota);
+    }
+
+    @Test
+    void testRankingAcompanhaNovasAvaliacoes() throws FeedbackException {
+        Mentor carlos = mentor(1L, java);
+        Mentor diana = mentor(2L, react);
+        Mentor eduardo = mentor(3L, java, react);
+        Mentor semNotas = mentor(4L, spring);
+        avaliar(carlos, 5);
+        ranking.registrar(carlos);
+        ranking.registrar(diana);
+        ranking.registrar(eduardo);
+        ranking.registrar(semNotas);
+        ranking.registrar(carlos);
+
+        assertEquals(List.of(carlos), ranking.topGlobal(3));
+        avaliar(diana, 4);
+        avaliar(eduardo, 4);
+        avaliar(eduardo, 4);
+        assertEquals(List.of(carlos, eduardo, diana), ranking.topGlobal(5));
+        assertEquals(List.of(carlos, eduardo), ranking.topGlobal(2));
+        assertEquals(List.of(carlos, eduardo), ranking.topPorArea(backend, 5));
+        assertEquals(List.of(eduardo, diana), ranking.topPorArea(frontend, 5));
+
+        avaliar(carlos, 2);
+        assertEquals(List.of(eduardo, diana, carlos), ranking.topGlobal(5));
+        assertEquals(List.of(eduardo, carlos), ranking.topPorArea(backend, 5));
+        assertEquals(3, ranking.tamanho());
+        assertTrue(ranking.topGlobal(0).isEmpty());
+        assertTrue(ranking.topPorArea(new AreaConhecimento(9L, "Dados"), 3).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> ranking.topGlobal(-1));
+        assertThrows(IllegalArgumentException.class, () -> ranking.topPorArea(null, 1));
+        assertThrows(IllegalArgumentException.class, () -> ranking.registrar(null));
+    }
+
+    @Test
+    void testMentorEntraESaiDeAreasPelasTecnologias() throws FeedbackException {
+        Mentor carlos = mentor(1L, java, spring);
+        Mentor diana = mentor(2L, react);
+        ranking.registrar(carlos);
+        ranking.registrar(diana);
+        avaliar(carlos, 5);
+        avaliar(diana, 3);
+
+        carlos.adicionarTecnologia(react);
+        assertEquals(List.of(carlos, diana), ranking.topPorArea(frontend, 5));
+
+        carlos.removerTecnologia(java);
+        assertEquals(List.of(carlos), ranking.topPorArea(backend, 5));
+        carlos.removerTecnologia(spring);
+        assertTrue(ranking.topPorArea(backend, 5).isEmpty());
+
+        diana.adicionarTecnologia(spring);
+        avaliar(diana, 5);
+        assertEquals(List.of(diana), ranking.topPorArea(backend, 5));
+        assertEquals(List.of(carlos, diana), ranking.topGlobal(5));
+    }
+
+    @Test
+    void testTopKIgualAOrdenacaoCompleta() throws FeedbackException {
+        Random aleatorio = new Random(11);
+        List<Mentor> mentores = new ArrayList<>();
+        for (int m = 0; m < 200; m++) {
+            Mentor mentor = mentor(m + 1L, aleatorio.nextBoolean() ? java : react);
+            mentores.add(mentor);
+            ranking.registrar(mentor);
+        }
+        for (int i = 0; i < 2_000; i++) {
+            avaliar(mentores.get(aleatorio.nextInt(mentores.size())), 2 + aleatorio.nextInt(4));
+        }
+
+        Comparator<Mentor> ordem = Comparator
+                .comparingDouble((Mentor m) -> m.getAvaliacoes().getMedia()).reversed()
+                .thenComparing(Comparator.comparingLong((Mentor m) -> m.getAvaliacoes().getContagem()).reversed())
+                .thenComparingLong(Mentor::getId);
+        List<Mentor> esperado = mentores.stream()
+                .filter(m -> m.getAvaliacoes().getContagem() > 0)
+                .sorted(ordem).limit(10).collect(Collectors.toList());
+        assertEquals(esperado, ranking.topGlobal(10));
+        List<Mentor> esperadoFrontend = mentores.stream()
+                .filter(m -> m.getAvaliacoes().getContagem() > 0 && m.atuaNaArea(frontend))
+                .sorted(ordem).limit(10).collect(Collectors.toList());
+        assertEquals(esperadoFrontend, ranking.topPorArea(frontend, 10));
+    }
+}
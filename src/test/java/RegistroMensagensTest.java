@@ -0,0 +1,177 @@
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RegistroMensagensTest {
+
+    @TempDir
+    Path diretorio;
+
+    private Mentor mentor;
+    private Mentorado ana;
+    private Mentorado bruno;
+    private final LocalDateTime inicio = LocalDateTime.of(2030, 2, 1, 10, 0, 0, 123_456_789);
+
+    @BeforeEach
+    void setup() {
+        mentor = new Mentor(1L, "Carlos", "carlos@email.com", "senha123", "Mentor Java", new Agenda(1L));
+        ana = new Mentorado(2L, "Ana", "ana@email.com", "senha456");
+        bruno = new Mentorado(3L, "Bruno", "bruno@email.com", "senha789");
+    }
+
+    @Test
+    void testAnexaELeConversasSeparadasEmOrdem() {
+        try (RegistroMensagens registro = new RegistroMensagens(diretorio)) {
+            registro.anexar(new Mensagem(10L, mentor, ana, "Olá, Ana!", inicio));
+            registro.anexar(new Mensagem(11L, ana, mentor, "Oi, Carlos. Tudo bem? ✓", inicio.plusMinutes(1)));
+            registro.anexar(new Mensagem(12L, mentor, bruno, "Bem-vindo, Bruno.", inicio.plusMinutes(2)));
+
+            List<Mensagem> conversa = registro.conversa(ana, mentor);
+            assertEquals(2, conversa.size());
+            assertEquals(10L, conversa.get(0).getId());
+            assertSame(mentor, conversa.get(0).getRemetente());
+            assertSame(ana, conversa.get(0).getDestinatario());
+            assertEquals("Olá, Ana!", conversa.get(0).getConteudo());
+            assertEquals(inicio, conversa.get(0).getDataEnvio());
+            assertSame(ana, conversa.get(1).getRemetente());
+            assertEquals("Oi, Carlos. Tudo bem? ✓", conversa.get(1).getConteudo());
+
+            List<Mensagem> outra = registro.conversa(mentor, bruno);
+            assertEquals(1, outra.size());
+            assertEquals(12L, outra.get(0).getId());
+        }
+    }
+
+    @Test
+    void testLeituraEntregaFatiaSomenteLeitura() {
+        try (RegistroMensagens registro = new RegistroMensagens(diretorio)) {
+            registro.anexar(new Mensagem(10L, mentor, ana, "abc", inicio));
+            List<ByteBuffer> conteudos = new ArrayList<>();
+            registro.percorrer(mentor, ana, (id, remetenteId, destinatarioId, dataEnvio, conteudo) -> conteudos.add(conteudo));
+            assertEquals(1, conteudos.size());
+            assertTrue(conteudos.get(0).isReadOnly());
+            assertEquals(3, conteudos.get(0).remaining());
+            assertEquals('a', conteudos.get(0).get(0));
+        }
+    }
+
+    @Test
+    void testTrocaDeSegmentoEReabertura() throws IOException {
+        try (RegistroMensagens registro = new RegistroMensagens(diretorio, 256)) {
+            for (long i = 0; i < 40; i++) {
+                registro.anexar(new Mensagem(i, mentor, ana, "Mensagem número " + i, inicio.plusSeconds(i)));
+            }
+        }
+        Path pasta = diretorio.resolve("conversa-1-2");
+        try (Stream<Path> arquivos = Files.list(pasta)) {
+            assertTrue(arquivos.count() > 5);
+        }
+
+        try (RegistroMensagens reaberto = new RegistroMensagens(diretorio, 256)) {
+            reaberto.anexar(new Mensagem(40L, ana, mentor, "Depois de reabrir", inicio.plusSeconds(40)));
+            List<Mensagem> conversa = reaberto.conversa(mentor, ana);
+            assertEquals(41, conversa.size());
+            for (int i = 0; i < 41; i++) {
+                assertEquals((long) i, conversa.get(i).getId());
+            }
+            assertEquals("Depois de reabrir", conversa.get(40).getConteudo());
+        }
+    }
+
+    @Test
+    void testRecuperaAposRegistroCorrompidoNoFinal() throws IOException {
+        try (RegistroMensagens registro = new RegistroMensagens(diretorio, 4096)) {
+            for (long i = 0; i < 3; i++) {
+                registro.anexar(new Mensagem(i, mentor, ana, "Mensagem " + i, inicio.plusSeconds(i)));
+            }
+        }
+        Path segmento;
+        try (Stream<Path> arquivos = Files.list(diretorio.resolve("conversa-1-2"))) {
+            segmento = arquivos.sorted().collect(Collectors.toList()).get(0);
+        }
+        int fim;
+        try (FileChannel canal = FileChannel.open(segmento, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer cabecalho = ByteBuffer.allocate(4);
+            fim = 0;
+            for (int i = 0; i < 3; i++) {
+                cabecalho.clear();
+                canal.read(cabecalho, fim);
+                fim += 8 + cabecalho.getInt(0);
+            }
+            ByteBuffer lixo = ByteBuffer.allocate(64);
+            lixo.putInt(0, 50).putInt(4, 0xCAFEBABE).putLong(8, 99L);
+            canal.write(lixo, fim);
+        }
+
+        try (RegistroMensagens reaberto = new RegistroMensagens(diretorio, 4096)) {
+            assertEquals(3, reaberto.conversa(mentor, ana).size());
+            reaberto.anexar(new Mensagem(3L, mentor, ana, "Após a recuperação", inicio.plusSeconds(3)));
+            List<Mensagem> conversa = reaberto.conversa(mentor, ana);
+            assertEquals(4, conversa.size());
+            assertEquals("Após a recuperação", conversa.get(3).getConteudo());
+        }
+    }
+
+    @Test
+    void testGravacoesConcorrentesCompartilhamSincronizacao() throws InterruptedException {
+        int threads = 8;
+        int porThread = 300;
+        try (RegistroMensagens registro = new RegistroMensagens(diretorio, 64 * 1024)) {
+            CountDownLatch largada = new CountDownLatch(1);
+            List<Thread> escritores = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                Mentorado mentorado = new Mentorado(100L + t, "Mentorado " + t, "m" + t + "@email.com", "senha");
+                Thread escritor = new Thread(() -> {
+                    try {
+                        largada.await();
+                        for (int i = 0; i < porThread; i++) {
+                            registro.anexar(new Mensagem(mentor, mentorado, "Mensagem " + i, inicio.plusSeconds(i)));
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+                escritores.add(escritor);
+                escritor.start();
+            }
+            largada.countDown();
+            for (Thread escritor : escritores) {
+                escritor.join();
+            }
+
+            for (int t = 0; t < threads; t++) {
+                Mentorado mentorado = new Mentorado(100L + t, "Mentorado " + t, "m" + t + "@email.com", "senha");
+                List<Mensagem> conversa = registro.conversa(mentor, mentorado);
+                assertEquals(porThread, conversa.size());
+                assertEquals("Mensagem " + (porThread - 1), conversa.get(porThread - 1).getConteudo());
+            }
+            assertTrue(registro.getSincronizacoes() <= (long) threads * porThread);
+        }
+    }
+
+    @Test
+    void testParametrosInvalidos() {
+        assertThrows(IllegalArgumentException.class, () -> new RegistroMensagens(null));
+        assertThrows(IllegalArgumentException.class, () -> new RegistroMensagens(diretorio, 16));
+        try (RegistroMensagens registro = new RegistroMensagens(diretorio, 128)) {
+            assertThrows(IllegalArgumentException.class, () -> registro.anexar(null));
+            assertThrows(IllegalArgumentException.class, () -> registro.anexar(new Mensagem(1L, mentor, ana, "x".repeat(200), inicio)));
+            assertThrows(IllegalArgumentException.class, () -> registro.percorrer(mentor, null, (id, r, d, data, c) -> { }));
+        }
+    }
+}
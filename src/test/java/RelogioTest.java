@@ -0,0 +1,47 @@
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RelogioTest {
+
+    @Test
+    void testRelogioAjustavel() {
+        LocalDateTime inicio = LocalDateTime.of(2030, 1, 1, 9, 0);
+        RelogioAjustavel relogio = new RelogioAjustavel(inicio);
+        assertEquals(inicio, relogio.agora());
+        relogio.avancar(Duration.ofMinutes(15));
+        assertEquals(inicio.plusMinutes(15), relogio.agora());
+        assertThrows(IllegalArgumentException.class, () -> relogio.ajustar(null));
+        assertThrows(IllegalArgumentException.class, () -> new RelogioAjustavel(null));
+    }
+
+    @Test
+    void testRelogioGrossoAcompanhaAFonte() throws InterruptedException {
+        LocalDateTime inicio = LocalDateTime.of(2030, 1, 1, 9, 0);
+        RelogioAjustavel fonte = new RelogioAjustavel(inicio);
+        try (RelogioGrosso relogio = new RelogioGrosso(fonte, Duration.ofMillis(2))) {
+            assertEquals(inicio, relogio.agora());
+            fonte.avancar(Duration.ofHours(1));
+            long limite = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+            while (!relogio.agora().equals(inicio.plusHours(1)) && System.nanoTime() < limite) {
+                Thread.sleep(1);
+            }
+            assertEquals(inicio.plusHours(1), relogio.agora());
+        }
+    }
+
+    @Test
+    void testRelogioGrossoParametrosInvalidos() {
+        assertThrows(IllegalArgumentException.class, () -> new RelogioGrosso(null, Duration.ofMillis(5)));
+        assertThrows(IllegalArgumentException.class, () -> new RelogioGrosso(Relogio.sistema(), Duration.ZERO));
+    }
+
+    @Test
+    void testRelogioSistemaAvanca() {
+        LocalDateTime antes = Relogio.sistema().agora();
+        assertFalse(Relogio.sistema().agora().isBefore(antes));
+    }
+}
@@ -0,0 +1,80 @@
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RodaTemporizadoraTest {
+
+    @Test
+    void testExpiraCadaEntradaUmaUnicaVezNoTickCorreto() {
+        Random aleatorio = new Random(42);
+        long inicio = 1_000_000L;
+        RodaTemporizadora<Integer> roda = new RodaTemporizadora<>(10, inicio);
+        Map<Integer, Long> prazos = new HashMap<>();
+        for (int i = 0; i < 50_000; i++) {
+            long alcance = i % 3 == 0 ? 1_000 : i % 3 == 1 ? 1_000_000 : 50_000_000;
+            long prazo = inicio + (long) (aleatorio.nextDouble() * alcance);
+            prazos.put(i, prazo);
+            roda.agendar(i, prazo);
+        }
+        assertEquals(prazos.size(), roda.getPendentes());
+
+        Set<Integer> expiradas = new HashSet<>();
+        long agora = inicio;
+        while (expiradas.size() < prazos.size()) {
+            agora += 1 + aleatorio.nextInt(20_000);
+            for (Integer valor : roda.avancar(agora)) {
+                long prazo = prazos.get(valor);
+                assertTrue(prazo / 10 <= agora / 10, "expirou antes do prazo");
+                assertTrue(prazo / 10 > (agora - 20_001) / 10 - 1, "expirou tarde demais");
+                assertTrue(expiradas.add(valor), "expirou duas vezes");
+            }
+        }
+        assertEquals(0, roda.getPendentes());
+        assertTrue(roda.avancar(agora + 1_000_000).isEmpty());
+    }
+
+    @Test
+    void testCancelarEReagendar() {
+        RodaTemporizadora<String> roda = new RodaTemporizadora<>(1, 0);
+        RodaTemporizadora.Entrada<String> a = roda.agendar("a", 100);
+        RodaTemporizadora.Entrada<String> b = roda.agendar("b", 5_000);
+        roda.agendar("c", 10_000_000);
+        assertTrue(roda.cancelar(a));
+        assertFalse(roda.cancelar(a));
+        assertFalse(a.isPendente());
+        roda.reagendar(b, 50);
+        assertEquals(List.of("b"), roda.avancar(100));
+        assertEquals(1, roda.getPendentes());
+        roda.reagendar(b, 20);
+        assertEquals(List.of("b"), roda.avancar(101));
+        assertTrue(roda.avancar(9_999_999).isEmpty());
+        assertEquals(List.of("c"), roda.avancar(10_000_000));
+    }
+
+    @Test
+    void testPrazoAlemDoAlcanceMaximo() {
+        RodaTemporizadora<String> roda = new RodaTemporizadora<>(1, 0);
+        long distante = (1L << (RodaTemporizadora.BITS_POR_NIVEL * RodaTemporizadora.NIVEIS)) * 3 + 7;
+        roda.agendar("distante", distante);
+        List<String> expiradas = new ArrayList<>();
+        long passo = 1L << 30;
+        for (long agora = passo; agora < distante; agora += passo) {
+            expiradas.addAll(roda.avancar(agora));
+        }
+        assertTrue(expiradas.isEmpty());
+        assertEquals(List.of("distante"), roda.avancar(distante));
+    }
+
+    @Test
+    void testResolucaoInvalida() {
+        assertThrows(IllegalArgumentException.class, () -> new RodaTemporizadora<String>(0, 0));
+    }
+}
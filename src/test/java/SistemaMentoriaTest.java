@@ -1,7 +1,14 @@
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -15,9 +22,11 @@ public class SistemaMentoriaTest {
     private SessaoMentoria sessaoPendente, sessaoAprovada, sessaoIniciada, sessaoFinalizada, sessaoParaTestes;
     private PlanoEstudo planoEstudo;
     private Meta metaPendente, metaConcluida;
+    private SinkEventos sinkOriginal;
 
     @BeforeEach
     void setup() {
+        sinkOriginal = Eventos.trocarSink(SinkEventosNulo.INSTANCIA);
         areaBackend = new AreaConhecimento(1L, "Desenvolvimento Backend");
         areaFrontend = new AreaConhecimento(2L, "Desenvolvimento Frontend");
         tecJava = new Tecnologia(1L, "Java", areaBackend);
@@ -53,6 +62,11 @@ public class SistemaMentoriaTest {
         mentor.getAgenda().adicionarHorario(dataSessao);
     }
 
+    @AfterEach
+    void restaurarEventos() {
+        Eventos.setSink(sinkOriginal);
+    }
+
     @Test
     void testSessaoMentoriaIniciarFalhaForaDaJanelaDeFim() {
         SessaoMentoria sessaoAtrasada = new SessaoMentoria(99L, mentor, mentoradoA, LocalDateTime.now().minusMinutes(70));
@@ -134,6 +148,25 @@ public class SistemaMentoriaTest {
         assertEquals(tamanhoInicial + 1, mentor.getMinhasSessoes().size());
     }
 
+    @Test
+    void testMentorIndiceDeSessoes() {
+        assertSame(sessaoPendente, mentor.buscarSessao(1L));
+        assertNull(mentor.buscarSessao(99L));
+        assertEquals(List.of(sessaoPendente), mentor.getSessoesPendentes());
+        assertEquals(List.of(sessaoAprovada), mentor.getSessoesComStatus("APROVADA"));
+        sessaoPendente.atualizarStatusSessao("recusada", "Sem disponibilidade");
+        assertTrue(mentor.getSessoesPendentes().isEmpty());
+        assertEquals(List.of(sessaoPendente), mentor.getSessoesComStatus("Recusada"));
+        sessaoAprovada.setStatus("Cancelada");
+        assertTrue(mentor.getSessoesComStatus("Aprovada").isEmpty());
+        assertEquals(List.of(sessaoAprovada), mentor.getSessoesComStatus("Cancelada"));
+        SessaoMentoria clone = new SessaoMentoria(2L, mentor, mentoradoB, LocalDateTime.now());
+        mentor.adicionarSessao(clone);
+        clone.setStatus("Finalizada");
+        assertEquals(List.of(sessaoFinalizada), mentor.getSessoesComStatus("Finalizada"));
+        assertEquals(4, mentor.getMinhasSessoes().size());
+    }
+
     @Test
     void testMentorGetAreasConhecimento() {
         assertEquals(1, mentor.getAreasConhecimento().size());
@@ -147,18 +180,46 @@ public class SistemaMentoriaTest {
         assertTrue(mentorSemTecnologia.getAreasConhecimento().isEmpty());
     }
 
+    @Test
+    void testMentorAreasConhecimentoMantidasIncrementalmente() {
+        List<AreaConhecimento> areas = mentor.getAreasConhecimento();
+        assertSame(areas, mentor.getAreasConhecimento());
+        assertThrows(UnsupportedOperationException.class, () -> areas.add(areaFrontend));
+        assertTrue(mentor.atuaNaArea(areaBackend));
+        assertFalse(mentor.atuaNaArea(areaFrontend));
+        mentor.adicionarTecnologia(tecReact);
+        assertEquals(List.of(areaBackend, areaFrontend), areas);
+        mentor.removerTecnologia(tecJava);
+        assertEquals(List.of(areaBackend, areaFrontend), areas);
+        mentor.removerTecnologia(tecSpringBoot);
+        assertEquals(List.of(areaFrontend), areas);
+        assertFalse(mentor.atuaNaArea(areaBackend));
+        mentor.removerTecnologia(tecSpringBoot);
+        mentor.removerTecnologia(null);
+        assertEquals(1, mentor.getTecnologias().size());
+        assertThrows(IndexOutOfBoundsException.class, () -> areas.get(1));
+    }
+
     @Test
     void testGerenciarDisponibilidadeEAprovarSessao() {
         LocalDateTime horarioProposto = sessaoPendente.getDataHora();
         String resultadoA = mentor.gerenciarDisponibilidadeEAprovarSessao(horarioProposto, sessaoPendente);
         assertEquals("Status da aprovação: Aprovada com Prioridade", resultadoA);
+        assertFalse(mentor.getAgenda().contemHorario(horarioProposto));
+        assertSame(sessaoPendente, mentor.getAgenda().reservaDe(horarioProposto));
         SessaoMentoria sessaoB = new SessaoMentoria(5L, mentor, mentoradoB, horarioProposto);
         mentor.adicionarSessao(sessaoB);
-        String resultadoB = mentor.gerenciarDisponibilidadeEAprovarSessao(horarioProposto, sessaoB);
+        assertEquals("Horário proposto não está disponível na agenda.", mentor.gerenciarDisponibilidadeEAprovarSessao(horarioProposto, sessaoB));
+        assertEquals(StatusSessao.PENDENTE, sessaoB.getEstado());
+        LocalDateTime horarioB = horarioProposto.plusHours(1);
+        mentor.getAgenda().adicionarHorario(horarioB);
+        String resultadoB = mentor.gerenciarDisponibilidadeEAprovarSessao(horarioB, sessaoB);
         assertEquals("Status da aprovação: Aprovada Normal", resultadoB);
-        SessaoMentoria sessaoC = new SessaoMentoria(6L, mentor, mentoradoC, horarioProposto);
+        LocalDateTime horarioC = horarioProposto.plusHours(2);
+        mentor.getAgenda().adicionarHorario(horarioC);
+        SessaoMentoria sessaoC = new SessaoMentoria(6L, mentor, mentoradoC, horarioC);
         mentor.adicionarSessao(sessaoC);
-        String resultadoC = mentor.gerenciarDisponibilidadeEAprovarSessao(horarioProposto, sessaoC);
+        String resultadoC = mentor.gerenciarDisponibilidadeEAprovarSessao(horarioC, sessaoC);
         assertEquals("Status da aprovação: Aprovada Condicional", resultadoC);
         LocalDateTime horarioProximo = LocalDateTime.now().plusHours(5);
         mentor.getAgenda().adicionarHorario(horarioProximo);
@@ -282,6 +343,67 @@ public class SistemaMentoriaTest {
         assertThrows(SecurityException.class, () -> sessaoFinalizada.adicionarFeedback(mentoradoNaoDaSessao, 3, "Eu nem estava lá."));
     }
 
+    @Test
+    void testAdicionarFeedbackConcorrenteNaoDuplicaAutor() throws InterruptedException {
+        int quantidadeSessoes = 200;
+        List<SessaoMentoria> sessoes = new ArrayList<>();
+        for (int i = 0; i < quantidadeSessoes; i++) {
+            SessaoMentoria sessao = new SessaoMentoria(1_000L + i, mentor, mentoradoA, LocalDateTime.now().minusDays(1));
+            sessao.setStatus("Finalizada");
+            sessoes.add(sessao);
+        }
+        int threads = 16;
+        AtomicInteger aceitos = new AtomicInteger();
+        AtomicInteger recusados = new AtomicInteger();
+        CountDownLatch largada = new CountDownLatch(1);
+        List<Thread> submissores = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            Usuario autor = t % 2 == 0 ? mentor : mentoradoA;
+            Thread submissor = new Thread(() -> {
+                try {
+                    largada.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                for (SessaoMentoria sessao : sessoes) {
+                    try {
+                        sessao.adicionarFeedback(autor, 4, "Feedback concorrente.");
+                        aceitos.incrementAndGet();
+                    } catch (FeedbackException e) {
+                        recusados.incrementAndGet();
+                    }
+                }
+            });
+            submissores.add(submissor);
+            submissor.start();
+        }
+        largada.countDown();
+        for (Thread submissor : submissores) {
+            submissor.join();
+        }
+
+        assertEquals(quantidadeSessoes * 2, aceitos.get());
+        assertEquals(quantidadeSessoes * (threads - 2), recusados.get());
+        for (SessaoMentoria sessao : sessoes) {
+            List<Feedback> feedbacks = sessao.getFeedbacks();
+            assertEquals(2, feedbacks.size());
+            assertTrue(sessao.getTodosFeedbacks());
+            assertNotEquals(feedbacks.get(0).getAutor(), feedbacks.get(1).getAutor());
+        }
+    }
+
+    @Test
+    void testFeedbacksSimultaneosRecebemIdsDistintos() throws FeedbackException {
+        sessaoFinalizada.adicionarFeedback(mentoradoA, 4, "Boa sessão.");
+        sessaoFinalizada.adicionarFeedback(mentor, 4, "Mentorado dedicado.");
+        List<Feedback> feedbacks = sessaoFinalizada.getFeedbacks();
+        assertNotEquals(feedbacks.get(0).getId(), feedbacks.get(1).getId());
+        assertNotEquals(feedbacks.get(0), feedbacks.get(1));
+        assertNotNull(new SessaoMentoria(mentor, mentoradoA, LocalDateTime.now()).getId());
+        assertNotNull(new Meta("Estudar JPA", "Pendente", LocalDateTime.now()).getId());
+        assertNotNull(new Mensagem(mentor, mentoradoA, "Olá", LocalDateTime.now()).getId());
+    }
+
     @Test
     void testAtualizarStatusSessao() {
         assertTrue(sessaoParaTestes.atualizarStatusSessao("aprovada", ""));
@@ -311,6 +433,226 @@ public class SistemaMentoriaTest {
         assertFalse(sessaoParaTestes.atualizarStatusSessao("status_invalido", ""));
     }
 
+    @Test
+    void testStatusSessaoTabelaDeTransicoes() {
+        assertTrue(StatusSessao.PENDENTE.podeTransicionarPara(StatusSessao.APROVADA));
+        assertTrue(StatusSessao.PENDENTE.podeTransicionarPara(StatusSessao.RECUSADA));
+        assertTrue(StatusSessao.APROVADA_PRIORIDADE.podeTransicionarPara(StatusSessao.INICIADA));
+        assertTrue(StatusSessao.INICIADA.podeTransicionarPara(StatusSessao.FINALIZADA));
+        assertFalse(StatusSessao.INICIADA.podeTransicionarPara(StatusSessao.CANCELADA));
+        assertFalse(StatusSessao.FINALIZADA.podeTransicionarPara(StatusSessao.PENDENTE));
+        assertFalse(StatusSessao.PENDENTE.podeTransicionarPara(null));
+        assertTrue(StatusSessao.APROVADA_CONDICIONAL.isAprovada());
+        assertFalse(StatusSessao.RECUSADA.isAprovada());
+        assertEquals(StatusSessao.APROVADA_NORMAL, StatusSessao.deRotulo("aprovada normal"));
+        assertEquals(StatusSessao.FINALIZADA, StatusSessao.deRotulo("FINALIZADA"));
+        assertNull(StatusSessao.deRotulo("status_invalido"));
+        assertNull(StatusSessao.deRotulo(null));
+        assertEquals("Aprovada com Prioridade", StatusSessao.APROVADA_PRIORIDADE.getRotulo());
+    }
+
+    @Test
+    void testSessaoMentoriaStatusTipado() {
+        assertEquals(StatusSessao.PENDENTE, sessaoParaTestes.getEstado());
+        assertTrue(sessaoParaTestes.transicionarPara(StatusSessao.APROVADA, null));
+        assertEquals("Aprovada", sessaoParaTestes.getStatus());
+        assertFalse(sessaoParaTestes.transicionarPara(StatusSessao.PENDENTE, null));
+        assertFalse(sessaoParaTestes.transicionarPara(null, null));
+        sessaoParaTestes.setStatus("aprovada com prioridade");
+        assertEquals(StatusSessao.APROVADA_PRIORIDADE, sessaoParaTestes.getEstado());
+        assertTrue(sessaoParaTestes.atualizarStatusSessao("cancelada", "Imprevisto"));
+        assertThrows(IllegalArgumentException.class, () -> sessaoParaTestes.setStatus("inexistente"));
+        assertThrows(IllegalArgumentException.class, () -> sessaoParaTestes.setEstado(null));
+        assertEquals(StatusSessao.CANCELADA, sessaoParaTestes.getEstado());
+    }
+
+    @Test
+    void testEventosPublicadosNasTransicoes() {
+        SinkEventosMemoria memoria = new SinkEventosMemoria();
+        SinkEventos sinkOriginal = Eventos.trocarSink(memoria);
+        try {
+            sessaoAprovada.setDataHora(LocalDateTime.now().minusMinutes(5));
+            sessaoAprovada.iniciarSessao();
+            sessaoIniciada.atualizarStatusSessao("cancelada", "Imprevisto");
+            sessaoParaTestes.atualizarStatusSessao("recusada", "Sem agenda");
+            sessaoFinalizada.atualizarStatusSessao("status_invalido", "");
+            LocalDateTime horarioProximo = LocalDateTime.now().plusHours(5);
+            mentor.getAgenda().adicionarHorario(horarioProximo);
+            SessaoMentoria sessaoProxima = new SessaoMentoria(7L, mentor, mentoradoA, horarioProximo);
+            mentor.adicionarSessao(sessaoProxima);
+            mentor.gerenciarDisponibilidadeEAprovarSessao(horarioProximo, sessaoProxima);
+
+            assertEquals(1, memoria.getEventos(TipoEvento.SESSAO_INICIADA).size());
+            assertEquals(2L, memoria.getEventos(TipoEvento.SESSAO_INICIADA).get(0).getSessaoId());
+            EventoDominio rejeicao = memoria.getEventos(TipoEvento.TRANSICAO_REJEITADA).get(0);
+            assertEquals(StatusSessao.INICIADA, rejeicao.getStatusAnterior());
+            assertEquals(StatusSessao.CANCELADA, rejeicao.getStatusNovo());
+            assertEquals("Sem agenda", memoria.getEventos(TipoEvento.SESSAO_RECUSADA).get(0).getDetalhe());
+            assertEquals("status_invalido", memoria.getEventos(TipoEvento.STATUS_INVALIDO).get(0).getDetalhe());
+            EventoDominio penalidade = memoria.getEventos(TipoEvento.PENALIDADE_APLICADA).get(0);
+            assertEquals(1L, penalidade.getMentorId());
+            assertEquals(7L, penalidade.getSessaoId());
+        } finally {
+            Eventos.setSink(sinkOriginal);
+        }
+    }
+
+    @Test
+    void testJanelasDaSessaoComRelogioAjustavel() {
+        LocalDateTime inicio = LocalDateTime.of(2030, 5, 10, 14, 0);
+        RelogioAjustavel relogio = new RelogioAjustavel(inicio.minusMinutes(15));
+        SessaoMentoria sessao = new SessaoMentoria(20L, mentor, mentoradoA, inicio);
+        sessao.setRelogio(relogio);
+        sessao.setEstado(StatusSessao.APROVADA);
+
+        sessao.iniciarSessao();
+        assertEquals(StatusSessao.APROVADA, sessao.getEstado());
+        relogio.avancar(Duration.ofSeconds(1));
+        sessao.iniciarSessao();
+        assertEquals(StatusSessao.INICIADA, sessao.getEstado());
+
+        relogio.ajustar(inicio.plusMinutes(30));
+        sessao.finalizarSessao();
+        assertEquals(StatusSessao.INICIADA, sessao.getEstado());
+        relogio.avancar(Duration.ofSeconds(1));
+        sessao.finalizarSessao();
+        assertEquals(StatusSessao.FINALIZADA, sessao.getEstado());
+
+        SessaoMentoria atrasada = new SessaoMentoria(21L, mentor, mentoradoA, inicio);
+        atrasada.setRelogio(relogio);
+        atrasada.setEstado(StatusSessao.APROVADA);
+        relogio.ajustar(inicio.plusMinutes(60));
+        atrasada.iniciarSessao();
+        assertEquals(StatusSessao.APROVADA, atrasada.getEstado());
+    }
+
+    @Test
+    void testUmaLeituraDoRelogioPorOperacao() throws FeedbackException {
+        LocalDateTime inicio = LocalDateTime.of(2030, 5, 10, 14, 0);
+        AtomicInteger leituras = new AtomicInteger();
+        AtomicReference<LocalDateTime> instante = new AtomicReference<>(inicio);
+        SessaoMentoria sessao = new SessaoMentoria(22L, mentor, mentoradoA, inicio);
+        sessao.setRelogio(() -> {
+            leituras.incrementAndGet();
+            return instante.get();
+        });
+        sessao.setEstado(StatusSessao.APROVADA);
+
+        sessao.iniciarSessao();
+        assertEquals(1, leituras.get());
+        sessao.finalizarSessao();
+        assertEquals(2, leituras.get());
+        instante.set(inicio.plusMinutes(31));
+        assertTrue(sessao.transicionarPara(StatusSessao.FINALIZADA, null));
+        assertEquals(3, leituras.get());
+        assertFalse(sessao.atualizarStatusSessao("cancelada", "Tarde demais"));
+        assertEquals(4, leituras.get());
+        sessao.adicionarFeedback(mentoradoA, 4, "Boa");
+        assertEquals(5, leituras.get());
+        assertEquals(inicio.plusMinutes(31), sessao.getFeedbacks().get(0).getInstante());
+    }
+
+    @Test
+    void testAprovacaoComRelogioAjustavel() {
+        LocalDateTime agora = LocalDateTime.of(2030, 5, 10, 8, 0);
+        Agenda agenda = new Agenda(7L);
+        Mentor mentorComRelogio = new Mentor(7L, "Marta", "marta@email.com", "senha", "Mentora", agenda);
+        mentorComRelogio.setRelogio(new RelogioAjustavel(agora));
+
+        LocalDateTime limiteRecusa = agora.plusHours(6);
+        LocalDateTime limitePrioridade = agora.plusHours(24);
+        agenda.adicionarHorario(limiteRecusa.minusSeconds(1));
+        agenda.adicionarHorario(limiteRecusa);
+        agenda.adicionarHorario(limitePrioridade);
+        agenda.adicionarHorario(limitePrioridade.plusSeconds(1));
+
+        SessaoMentoria recusada = new SessaoMentoria(30L, mentorComRelogio, mentoradoA, limiteRecusa.minusSeconds(1));
+        SessaoMentoria noLimite = new SessaoMentoria(31L, mentorComRelogio, mentoradoA, limiteRecusa);
+        SessaoMentoria ateVinteEQuatro = new SessaoMentoria(32L, mentorComRelogio, mentoradoA, limitePrioridade);
+        SessaoMentoria prioritaria = new SessaoMentoria(33L, mentorComRelogio, mentoradoA, limitePrioridade.plusSeconds(1));
+        for (SessaoMentoria sessao : List.of(recusada, noLimite, ateVinteEQuatro, prioritaria)) {
+            mentorComRelogio.adicionarSessao(sessao);
+            mentorComRelogio.gerenciarDisponibilidadeEAprovarSessao(sessao.getDataHora(), sessao);
+        }
+
+        assertEquals(StatusSessao.RECUSADA, recusada.getEstado());
+        assertEquals(StatusSessao.APROVADA, noLimite.getEstado());
+        assertEquals(StatusSessao.APROVADA, ateVinteEQuatro.getEstado());
+        assertEquals(StatusSessao.APROVADA_PRIORIDADE, prioritaria.getEstado());
+    }
+
+    @Test
+    void testAprovarSessoesEmLote() {
+        SinkEventosMemoria memoria = new SinkEventosMemoria();
+        SinkEventos sinkOriginal = Eventos.trocarSink(memoria);
+        try {
+            LocalDateTime agora = LocalDateTime.of(2030, 5, 10, 8, 0);
+            Agenda agendaLote = new Agenda(8L);
+            Mentor mentorLote = new Mentor(8L, "Rita", "rita@email.com", "senha", "Mentora", agendaLote);
+            mentorLote.setRelogio(new RelogioAjustavel(agora));
+            LocalDateTime cedo = agora.plusHours(2);
+            LocalDateTime medio = agora.plusHours(12);
+            LocalDateTime tarde = agora.plusDays(3);
+            for (LocalDateTime horario : List.of(tarde, medio, cedo, tarde.plusHours(1))) {
+                agendaLote.adicionarHorario(horario);
+            }
+            SessaoMentoria prioritaria = new SessaoMentoria(40L, mentorLote, mentoradoA, tarde);
+            SessaoMentoria disputada = new SessaoMentoria(41L, mentorLote, mentoradoB, tarde);
+            SessaoMentoria media = new SessaoMentoria(42L, mentorLote, mentoradoC, medio);
+            SessaoMentoria emCimaDaHora = new SessaoMentoria(43L, mentorLote, mentoradoB, cedo);
+            SessaoMentoria foraDaAgenda = new SessaoMentoria(44L, mentorLote, mentoradoC, tarde.plusMinutes(30));
+            SessaoMentoria desconhecida = new SessaoMentoria(45L, mentorLote, mentoradoC, tarde.plusHours(1));
+            for (SessaoMentoria sessao : List.of(prioritaria, disputada, media, emCimaDaHora, foraDaAgenda)) {
+                mentorLote.adicionarSessao(sessao);
+            }
+
+            List<PedidoAprovacao> pedidos = List.of(
+                    new PedidoAprovacao(tarde, prioritaria),
+                    new PedidoAprovacao(tarde, disputada),
+                    new PedidoAprovacao(medio, media),
+                    new PedidoAprovacao(cedo, emCimaDaHora),
+                    new PedidoAprovacao(tarde.plusMinutes(30), foraDaAgenda),
+                    new PedidoAprovacao(tarde.plusHours(1), desconhecida),
+                    new PedidoAprovacao(null, media),
+                    new PedidoAprovacao(medio, media));
+            List<ResultadoAprovacao> resultados = mentorLote.aprovarSessoesEmLote(pedidos);
+
+            assertEquals(pedidos.size(), resultados.size());
+            for (int i = 0; i < pedidos.size(); i++) {
+                assertSame(pedidos.get(i), resultados.get(i).getPedido());
+            }
+            assertEquals("Status da aprovação: Aprovada com Prioridade", resultados.get(0).getMensagem());
+            assertEquals("Horário proposto não está disponível na agenda.", resultados.get(1).getMensagem());
+            assertEquals("Status da aprovação: Aprovada (Revisar disponibilidade)", resultados.get(2).getMensagem());
+            assertEquals("Status da aprovação: Recusada (Muito em cima da hora)", resultados.get(3).getMensagem());
+            assertEquals("Horário proposto não está disponível na agenda.", resultados.get(4).getMensagem());
+            assertEquals("Sessão não encontrada ou não está pendente.", resultados.get(5).getMensagem());
+            assertEquals("Erro: Horário ou sessão inválidos.", resultados.get(6).getMensagem());
+            assertEquals("Horário proposto não está disponível na agenda.", resultados.get(7).getMensagem());
+            assertTrue(resultados.get(0).isAprovada());
+            assertFalse(resultados.get(3).isAprovada());
+            assertEquals(StatusSessao.RECUSADA, resultados.get(3).getDecisao());
+            assertNull(resultados.get(1).getDecisao());
+
+            assertEquals(StatusSessao.APROVADA_PRIORIDADE, prioritaria.getEstado());
+            assertEquals(StatusSessao.PENDENTE, disputada.getEstado());
+            assertEquals(StatusSessao.APROVADA, media.getEstado());
+            assertEquals(StatusSessao.RECUSADA, emCimaDaHora.getEstado());
+            assertEquals(List.of(cedo, tarde.plusHours(1)), agendaLote.getHorariosDisponiveis());
+            assertEquals(2, agendaLote.quantidadeReservas());
+
+            assertEquals(1, memoria.getEventos().size());
+            EventoDominio evento = memoria.getEventos(TipoEvento.APROVACAO_EM_LOTE).get(0);
+            assertEquals(8L, evento.getMentorId());
+            assertEquals("8 pedidos: 2 aprovados, 1 recusados, 5 não atendidos", evento.getDetalhe());
+            assertTrue(mentorLote.aprovarSessoesEmLote(List.of()).isEmpty());
+            assertEquals(1, memoria.getEventos().size());
+            assertThrows(IllegalArgumentException.class, () -> mentorLote.aprovarSessoesEmLote(null));
+        } finally {
+            Eventos.setSink(sinkOriginal);
+        }
+    }
+
     @Test
     void testAtualizarStatusSessaoFalhaPorTempo(){
         SessaoMentoria sessaoFutura = new SessaoMentoria(11L, mentor, mentoradoA, LocalDateTime.now().plusMinutes(20));
@@ -355,6 +697,38 @@ public class SistemaMentoriaTest {
         assertEquals(0.0, planoVazio.avaliarProgresso(), 0.01);
     }
 
+    @Test
+    void testPlanoEstudoContadoresIncrementais() {
+        assertEquals(2, planoEstudo.getTotalMetas());
+        assertEquals(1, planoEstudo.getMetasConcluidas());
+        metaConcluida.atualizarStatus("Em Andamento");
+        assertEquals(0.0, planoEstudo.avaliarProgresso(), 0.01);
+        metaConcluida.atualizarStatus("CONCLUÍDA");
+        metaConcluida.setStatus("concluída");
+        assertEquals(1, planoEstudo.getMetasConcluidas());
+        PlanoEstudo outroPlano = new PlanoEstudo(2L);
+        outroPlano.adicionarMeta(metaConcluida);
+        outroPlano.adicionarMeta(metaConcluida);
+        assertEquals(100.0, outroPlano.avaliarProgresso(), 0.01);
+        metaConcluida.setStatus("Pendente");
+        assertEquals(0.0, outroPlano.avaliarProgresso(), 0.01);
+        assertEquals(0.0, planoEstudo.avaliarProgresso(), 0.01);
+        metaPendente.setStatus("Concluída");
+        assertEquals(50.0, planoEstudo.avaliarProgresso(), 0.01);
+    }
+
+    @Test
+    void testPlanoEstudoProgressoEmLote() {
+        PlanoEstudo planoB = new PlanoEstudo(2L);
+        planoB.adicionarMeta(new Meta(3L, "Estudar React", "Concluída", LocalDateTime.now()));
+        mentoradoB.setPlanoEstudo(planoB);
+        Map<Mentorado, Double> progresso = PlanoEstudo.avaliarProgresso(List.of(mentoradoA, mentoradoB, mentoradoC));
+        assertEquals(List.of(mentoradoA, mentoradoB, mentoradoC), new ArrayList<>(progresso.keySet()));
+        assertEquals(50.0, progresso.get(mentoradoA), 0.01);
+        assertEquals(100.0, progresso.get(mentoradoB), 0.01);
+        assertEquals(0.0, progresso.get(mentoradoC), 0.01);
+    }
+
     @Test
     void testPlanoEstudoEqualsEHashCode() {
         PlanoEstudo clone = new PlanoEstudo(1L);
@@ -542,6 +916,131 @@ public class SistemaMentoriaTest {
         assertTrue(agendaTest.getHorariosDisponiveis().isEmpty());
     }
 
+    @Test
+    void testAgendaConsultasOrdenadas() {
+        Agenda agendaTest = new Agenda(99L);
+        LocalDateTime base = LocalDateTime.of(2030, 1, 10, 9, 0);
+        agendaTest.adicionarHorario(base.plusHours(3));
+        agendaTest.adicionarHorario(base);
+        agendaTest.adicionarHorario(base.plusHours(1));
+        agendaTest.adicionarHorario(base.plusHours(2));
+        assertEquals(List.of(base, base.plusHours(1), base.plusHours(2), base.plusHours(3)), agendaTest.getHorariosDisponiveis());
+        assertTrue(agendaTest.contemHorario(base.plusHours(2)));
+        assertFalse(agendaTest.contemHorario(base.plusMinutes(30)));
+        assertFalse(agendaTest.contemHorario(null));
+        assertEquals(base.plusHours(1), agendaTest.proximoHorarioApos(base));
+        assertEquals(base.plusHours(1), agendaTest.proximoHorarioApos(base.plusMinutes(30)));
+        assertNull(agendaTest.proximoHorarioApos(base.plusHours(3)));
+        assertEquals(List.of(base.plusHours(1), base.plusHours(2)), List.copyOf(agendaTest.horariosEntre(base.plusHours(1), base.plusHours(3))));
+        assertTrue(agendaTest.horariosEntre(base.plusHours(3), base).isEmpty());
+        assertThrows(UnsupportedOperationException.class, () -> agendaTest.horariosEntre(base, base.plusHours(3)).clear());
+        assertEquals(List.of(base, base.plusHours(1)), agendaTest.primeirosHorarios(2));
+        assertEquals(4, agendaTest.primeirosHorarios(10).size());
+        assertTrue(agendaTest.primeirosHorarios(0).isEmpty());
+        agendaTest.removerHorario(null);
+        assertEquals(4, agendaTest.quantidadeHorarios());
+    }
+
+    @Test
+    void testAgendaReservaLiberadaAoRecusarOuCancelar() {
+        LocalDateTime horario = sessaoPendente.getDataHora();
+        assertTrue(agenda.reservar(horario, sessaoPendente));
+        assertTrue(agenda.reservar(horario, sessaoPendente));
+        assertFalse(agenda.reservar(horario, sessaoParaTestes));
+        assertFalse(agenda.reservar(null, sessaoPendente));
+        assertFalse(agenda.contemHorario(horario));
+        assertEquals(1, agenda.quantidadeReservas());
+        agenda.adicionarHorario(horario);
+        assertFalse(agenda.contemHorario(horario));
+        assertFalse(agenda.reservar(horario, sessaoParaTestes));
+        assertSame(sessaoPendente, agenda.reservaDe(horario));
+
+        LocalDateTime outro = horario.plusHours(1);
+        agenda.adicionarHorario(outro);
+        assertTrue(agenda.reservar(outro, sessaoPendente));
+        assertTrue(agenda.contemHorario(horario));
+        assertSame(sessaoPendente, agenda.reservaDe(outro));
+        assertNull(agenda.reservaDe(horario));
+
+        sessaoPendente.atualizarStatusSessao("recusada", "Conflito");
+        assertTrue(agenda.contemHorario(outro));
+        assertEquals(0, agenda.quantidadeReservas());
+        assertFalse(agenda.liberarReserva(sessaoPendente));
+
+        SessaoMentoria aprovada = new SessaoMentoria(20L, mentor, mentoradoB, horario);
+        mentor.adicionarSessao(aprovada);
+        mentor.gerenciarDisponibilidadeEAprovarSessao(horario, aprovada);
+        assertSame(aprovada, agenda.reservaDe(horario));
+        aprovada.atualizarStatusSessao("cancelada", "Imprevisto");
+        assertEquals(StatusSessao.CANCELADA, aprovada.getEstado());
+        assertTrue(agenda.contemHorario(horario));
+        assertNull(agenda.reservaDe(horario));
+    }
+
+    @Test
+    void testAgendaReservaConcorrenteSemDuploAgendamento() throws InterruptedException {
+        Agenda agendaDisputada = new Agenda(50L);
+        LocalDateTime base = LocalDateTime.of(2030, 1, 10, 9, 0);
+        int horarios = 64;
+        int threads = 16;
+        int rodadas = 200;
+        LocalDateTime[] slots = new LocalDateTime[horarios];
+        List<AtomicReference<SessaoMentoria>> ocupantes = new ArrayList<>();
+        for (int i = 0; i < horarios; i++) {
+            slots[i] = base.plusHours(i);
+            agendaDisputada.adicionarHorario(slots[i]);
+            ocupantes.add(new AtomicReference<>());
+        }
+        AtomicInteger reservasNaUltimaRodada = new AtomicInteger();
+        AtomicInteger duplos = new AtomicInteger();
+        CountDownLatch largada = new CountDownLatch(1);
+        List<Thread> disputantes = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            SessaoMentoria[] minhas = new SessaoMentoria[horarios];
+            for (int i = 0; i < horarios; i++) {
+                minhas[i] = new SessaoMentoria(10_000L * (t + 1) + i, mentor, mentoradoA, slots[i]);
+            }
+            Thread disputante = new Thread(() -> {
+                try {
+                    largada.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                for (int rodada = 0; rodada < rodadas; rodada++) {
+                    for (int i = 0; i < horarios; i++) {
+                        if (!agendaDisputada.reservar(slots[i], minhas[i])) {
+                            continue;
+                        }
+                        if (!ocupantes.get(i).compareAndSet(null, minhas[i])) {
+                            duplos.incrementAndGet();
+                        }
+                        if (rodada == rodadas - 1) {
+                            reservasNaUltimaRodada.incrementAndGet();
+                            continue;
+                        }
+                        ocupantes.get(i).set(null);
+                        agendaDisputada.liberarReserva(minhas[i]);
+                    }
+                }
+            });
+            disputantes.add(disputante);
+            disputante.start();
+        }
+        largada.countDown();
+        for (Thread disputante : disputantes) {
+            disputante.join();
+        }
+
+        assertEquals(0, duplos.get());
+        assertEquals(horarios, reservasNaUltimaRodada.get() + agendaDisputada.quantidadeHorarios());
+        assertEquals(reservasNaUltimaRodada.get(), agendaDisputada.quantidadeReservas());
+        for (int i = 0; i < horarios; i++) {
+            SessaoMentoria ocupante = ocupantes.get(i).get();
+            assertEquals(ocupante, agendaDisputada.reservaDe(slots[i]));
+            assertEquals(ocupante == null, agendaDisputada.contemHorario(slots[i]));
+        }
+    }
+
     @Test
     void testAgendaEqualsEHashCode() {
         Agenda a1 = new Agenda(1L);
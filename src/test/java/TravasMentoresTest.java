@@ -0,0 +1,212 @@
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TravasMentoresTest {
+
+    private final LocalDateTime agora = LocalDateTime.of(2030, 3, 1, 8, 0);
+    private SinkEventos sinkOriginal;
+
+    @BeforeEach
+    void silenciarEventos() {
+        sinkOriginal = Eventos.trocarSink(SinkEventosNulo.INSTANCIA);
+    }
+
+    @AfterEach
+    void restaurarEventos() {
+        Eventos.setSink(sinkOriginal);
+    }
+
+    private Mentor novoMentor(long id) {
+        Mentor mentor = new Mentor(id, "Mentor " + id, "mentor" + id + "@email.com", "senha", "bio", new Agenda(id));
+        mentor.setRelogio(new RelogioAjustavel(agora));
+        return mentor;
+    }
+
+    @Test
+    void testListrasArredondadasParaPotenciaDeDois() {
+        assertEquals(1, new TravasMentores(1).getListras());
+        assertEquals(8, new TravasMentores(5).getListras());
+        assertEquals(64, new TravasMentores(64).getListras());
+        assertTrue(Integer.bitCount(new TravasMentores().getListras()) == 1);
+        assertThrows(IllegalArgumentException.class, () -> new TravasMentores(0));
+        assertThrows(IllegalArgumentException.class, () -> new TravasMentores((1 << 16) + 1));
+        assertThrows(IllegalArgumentException.class, () -> new TravasMentores().travaDe(null));
+        assertThrows(IllegalArgumentException.class, () -> new TravasMentores().transicionar(null, StatusSessao.APROVADA, null));
+
+        TravasMentores global = new TravasMentores(1);
+        assertSame(global.travaDe(novoMentor(1L)), global.travaDe(novoMentor(2L)));
+        TravasMentores listradas = new TravasMentores(16);
+        assertSame(listradas.travaDe(novoMentor(7L)), listradas.travaDe(novoMentor(7L)));
+    }
+
+    @Test
+    void testMentoresEmListrasDiferentesAvancamEmParalelo() throws InterruptedException {
+        TravasMentores travas = new TravasMentores(64);
+        Mentor primeiro = novoMentor(1L);
+        Mentor segundo = null;
+        for (long id = 2; segundo == null; id++) {
+            Mentor candidato = novoMentor(id);
+            if (travas.travaDe(candidato) != travas.travaDe(primeiro)) {
+                segundo = candidato;
+            }
+        }
+        Mentor outro = segundo;
+        CountDownLatch dentro = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        Thread ocupante = new Thread(() -> travas.comTrava(primeiro, () -> {
+            dentro.countDown();
+            try {
+                return liberar.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }));
+        ocupante.start();
+        assertTrue(dentro.await(5, TimeUnit.SECONDS));
+
+        AtomicBoolean executou = new AtomicBoolean();
+        Thread paralelo = new Thread(() -> travas.comTrava(outro, () -> {
+            executou.set(true);
+            return null;
+        }));
+        paralelo.start();
+        paralelo.join(5_000);
+        assertTrue(executou.get());
+        assertTrue(travas.travaDe(primeiro).isLocked());
+
+        liberar.countDown();
+        ocupante.join();
+        assertFalse(travas.travaDe(primeiro).isLocked());
+    }
+
+    @Test
+    void testOperacoesNoMesmoMentorSaoSerializadas() throws InterruptedException {
+        TravasMentores travas = new TravasMentores(4);
+        int mentores = 8;
+        int sessoesPorMentor = 100;
+        int threads = 8;
+        List<Mentor> todos = new ArrayList<>();
+        List<List<SessaoMentoria>> sessoes = new ArrayList<>();
+        for (int m = 0; m < mentores; m++) {
+            Mentor mentor = novoMentor(m + 1L);
+            todos.add(mentor);
+            List<SessaoMentoria> doMentor = new ArrayList<>();
+            for (int i = 0; i < sessoesPorMentor; i++) {
+                LocalDateTime horario = agora.plusDays(2).plusHours(i);
+                mentor.getAgenda().adicionarHorario(horario);
+                Mentorado mentorado = new Mentorado(1_000L * (m + 1) + i, "Ana " + i, "ana" + m + "-" + i + "@email.com", "senha");
+                doMentor.add(new SessaoMentoria(100_000L * (m + 1) + i, mentor, mentorado, horario));
+            }
+            sessoes.add(doMentor);
+        }
+        AtomicInteger aprovadas = new AtomicInteger();
+        AtomicInteger canceladas = new AtomicInteger();
+        CountDownLatch largada = new CountDownLatch(1);
+        List<Thread> trabalhadores = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int deslocamento = t;
+            Thread trabalhador = new Thread(() -> {
+                try {
+                    largada.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                for (int m = 0; m < mentores; m++) {
+                    Mentor mentor = todos.get((m + deslocamento) % mentores);
+                    for (SessaoMentoria sessao : sessoes.get((m + deslocamento) % mentores)) {
+                        travas.adicionarSessao(mentor, sessao);
+                        if (travas.aprovarSessao(mentor, sessao.getDataHora(), sessao).startsWith("Status da aprovação: Aprovada")) {
+                            aprovadas.incrementAndGet();
+                        }
+                        if (sessao.getId() % 2 == 0 && travas.atualizarStatusSessao(sessao, "cancelada", "Imprevisto")) {
+                            canceladas.incrementAndGet();
+                        }
+                    }
+                }
+            });
+            trabalhadores.add(trabalhador);
+            trabalhador.start();
+        }
+        largada.countDown();
+        for (Thread trabalhador : trabalhadores) {
+            trabalhador.join();
+        }
+
+        assertEquals(mentores * sessoesPorMentor, aprovadas.get());
+        assertEquals(mentores * sessoesPorMentor / 2, canceladas.get());
+        for (Mentor mentor : todos) {
+            assertEquals(sessoesPorMentor, mentor.getMinhasSessoes().size());
+            assertEquals(sessoesPorMentor / 2, travas.sessoesComStatus(mentor, StatusSessao.CANCELADA).size());
+            assertEquals(sessoesPorMentor / 2, travas.sessoesComStatus(mentor, StatusSessao.APROVADA_PRIORIDADE).size());
+            assertTrue(travas.sessoesComStatus(mentor, StatusSessao.PENDENTE).isEmpty());
+            assertEquals(sessoesPorMentor / 2, mentor.getAgenda().quantidadeHorarios());
+            assertEquals(sessoesPorMentor / 2, mentor.getAgenda().quantidadeReservas());
+        }
+    }
+
+    @Test
+    void testIndicesDoMentorAceitamEscritoresForaDaListra() throws InterruptedException {
+        TravasMentores travas = new TravasMentores(4);
+        Mentor mentor = novoMentor(1L);
+        int quantidade = 400;
+        List<SessaoMentoria> sessoes = new ArrayList<>();
+        for (int i = 0; i < quantidade; i++) {
+            LocalDateTime horario = agora.plusDays(2).plusHours(i);
+            mentor.getAgenda().adicionarHorario(horario);
+            SessaoMentoria sessao = new SessaoMentoria(10_000L + i, mentor, new Mentorado(20_000L + i, "Ana", "ana" + i + "@email.com", "senha"), horario);
+            mentor.adicionarSessao(sessao);
+            sessoes.add(sessao);
+        }
+        AreaConhecimento dados = new AreaConhecimento(5L, "Dados");
+        CountDownLatch largada = new CountDownLatch(1);
+        List<Thread> trabalhadores = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            int resto = t;
+            trabalhadores.add(new Thread(() -> {
+                try {
+                    largada.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                for (int i = resto; i < quantidade; i += 4) {
+                    SessaoMentoria sessao = sessoes.get(i);
+                    if (i % 2 == 0) {
+                        travas.aprovarSessao(mentor, sessao.getDataHora(), sessao);
+                    } else {
+                        sessao.transicionarPara(StatusSessao.CANCELADA, "Imprevisto");
+                    }
+                    Tecnologia tecnologia = new Tecnologia(100L + resto, "Tecnologia " + resto, dados);
+                    mentor.adicionarTecnologia(tecnologia);
+                    if (i + 4 < quantidade) {
+                        mentor.removerTecnologia(tecnologia);
+                    }
+                }
+            }));
+        }
+        trabalhadores.forEach(Thread::start);
+        largada.countDown();
+        for (Thread trabalhador : trabalhadores) {
+            trabalhador.join();
+        }
+
+        assertEquals(quantidade / 2, mentor.getSessoesComStatus(StatusSessao.APROVADA_PRIORIDADE).size());
+        assertEquals(quantidade / 2, mentor.getSessoesComStatus(StatusSessao.CANCELADA).size());
+        assertTrue(mentor.getSessoesComStatus(StatusSessao.PENDENTE).isEmpty());
+        assertEquals(quantidade, mentor.getMinhasSessoes().size());
+        assertEquals(quantidade / 2, mentor.getAgenda().quantidadeReservas());
+        assertEquals(4, mentor.getTecnologias().size());
+        assertEquals(List.of(dados), mentor.getAreasConhecimento());
+    }
+}